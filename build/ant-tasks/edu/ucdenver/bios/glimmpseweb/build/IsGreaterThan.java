@@ -0,0 +1,76 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.build;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.taskdefs.condition.Condition;
+
+/**
+ * Ant condition which is true if one whole number is greater than
+ * another.  Core Ant has no numeric comparison, and script conditions
+ * need a JavaScript engine, which recent JDKs no longer include.
+ * <pre>
+ * &lt;isgreaterthan arg1="${size}" arg2="${budget}"/&gt;
+ * </pre>
+ */
+public class IsGreaterThan implements Condition {
+    private String arg1 = null;
+    private String arg2 = null;
+
+    /**
+     * Set the number on the left of the comparison
+     * @param arg1 whole number
+     */
+    public void setArg1(String arg1) {
+        this.arg1 = arg1;
+    }
+
+    /**
+     * Set the number on the right of the comparison
+     * @param arg2 whole number
+     */
+    public void setArg2(String arg2) {
+        this.arg2 = arg2;
+    }
+
+    /**
+     * Returns true if arg1 is greater than arg2
+     * @throws BuildException if either argument is missing or is
+     * not a whole number
+     */
+    @Override
+    public boolean eval() throws BuildException {
+        return parse("arg1", arg1) > parse("arg2", arg2);
+    }
+
+    private long parse(String name, String value) throws BuildException {
+        if (value == null) {
+            throw new BuildException("isgreaterthan: " + name + " is required");
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException nfe) {
+            throw new BuildException("isgreaterthan: " + name + 
+                    " is not a whole number: '" + value + "'");
+        }
+    }
+}
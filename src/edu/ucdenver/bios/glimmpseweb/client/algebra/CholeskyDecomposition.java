@@ -0,0 +1,119 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+/**
+ * Cholesky decomposition of a symmetric matrix, A = LL'.  Used to test
+ * covariance matrices for positive definiteness.  Only the lower
+ * triangle of the input is read.  The factor is stored in a workspace
+ * which is reused across decompositions and only grows when a larger
+ * matrix is decomposed.
+ */
+public class CholeskyDecomposition {
+    // lower triangular factor, stored row by row in an n x n block
+    private double[] factor = new double[0];
+    // dimension of the most recent decomposition
+    private int dimension = 0;
+    // true if the most recent decomposition succeeded
+    private boolean positiveDefinite = false;
+
+    /**
+     * Decompose the specified matrix.
+     * @param data square matrix data
+     * @return true if the matrix is positive definite
+     */
+    public boolean decompose(double[][] data) {
+        positiveDefinite = false;
+        dimension = MatrixValidator.getSquareDimension(data);
+        if (dimension <= 0) {
+            return false;
+        }
+        int n = dimension;
+        if (factor.length < n * n) {
+            factor = new double[n * n];
+        }
+        double[] l = factor;
+        for(int j = 0; j < n; j++) {
+            int rowJ = j * n;
+            double sum = data[j][j];
+            for(int k = 0; k < j; k++) {
+                sum -= l[rowJ + k] * l[rowJ + k];
+            }
+            // relative tolerance guards against round off on singular matrices
+            if (!(sum > MatrixValidator.EPSILON * n * Math.abs(data[j][j]))) {
+                return false;
+            }
+            double diagonal = Math.sqrt(sum);
+            l[rowJ + j] = diagonal;
+            for(int i = j + 1; i < n; i++) {
+                int rowI = i * n;
+                double value = data[i][j];
+                for(int k = 0; k < j; k++) {
+                    value -= l[rowI + k] * l[rowJ + k];
+                }
+                l[rowI + j] = value / diagonal;
+            }
+        }
+        positiveDefinite = true;
+        return true;
+    }
+
+    /**
+     * Returns true if the most recently decomposed matrix was
+     * positive definite
+     */
+    public boolean isPositiveDefinite() {
+        return positiveDefinite;
+    }
+
+    /**
+     * Get the dimension of the most recently decomposed matrix
+     * @return dimension
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Get an element of the lower triangular factor.  Only valid if
+     * the most recent decomposition succeeded.
+     * @param row row index
+     * @param column column index
+     * @return element of L
+     */
+    public double get(int row, int column) {
+        return (column > row ? 0 : factor[row * dimension + column]);
+    }
+
+    /**
+     * Get the log of the determinant of the decomposed matrix.
+     * Only valid if the most recent decomposition succeeded.
+     * @return log determinant
+     */
+    public double getLogDeterminant() {
+        double sum = 0;
+        for(int j = 0; j < dimension; j++) {
+            sum += Math.log(factor[j * dimension + j]);
+        }
+        return 2 * sum;
+    }
+}
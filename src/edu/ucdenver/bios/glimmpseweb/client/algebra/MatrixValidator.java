@@ -0,0 +1,178 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+/**
+ * Client side checks of matrix properties (symmetry, positive
+ * definiteness, rank, condition number) so that study design matrices
+ * can be validated as the user edits them, without a request to the
+ * matrix service.  Each validator holds the workspaces for its
+ * decompositions, so a single instance should be reused.
+ */
+public class MatrixValidator {
+    // machine epsilon for 64-bit floats
+    public static final double EPSILON = 2.220446049250313E-16;
+    // relative tolerance for symmetry checks
+    public static final double SYMMETRY_TOLERANCE = 1.0E-10;
+
+    private CholeskyDecomposition cholesky = new CholeskyDecomposition();
+    private QRDecomposition qr = new QRDecomposition();
+    private SymmetricEigenvalues eigenvalues = new SymmetricEigenvalues();
+    // cross product workspace for condition numbers of general matrices
+    private double[][] crossProduct = null;
+
+    /**
+     * Get the dimension of a square matrix
+     * @param data matrix data
+     * @return dimension, or -1 if the matrix is empty, ragged, or
+     * not square
+     */
+    public static int getSquareDimension(double[][] data) {
+        if (data == null || data.length == 0) {
+            return -1;
+        }
+        int n = data.length;
+        for(int r = 0; r < n; r++) {
+            if (data[r] == null || data[r].length != n) {
+                return -1;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns true if the matrix is square and symmetric to within
+     * a relative tolerance
+     * @param data matrix data
+     * @return true if symmetric
+     */
+    public boolean isSymmetric(double[][] data) {
+        int n = getSquareDimension(data);
+        if (n <= 0) {
+            return false;
+        }
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c < r; c++) {
+                double upper = data[c][r];
+                double lower = data[r][c];
+                double scale = Math.max(Math.abs(upper), Math.abs(lower));
+                if (!(Math.abs(upper - lower) <= SYMMETRY_TOLERANCE * scale)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the matrix is symmetric and positive definite
+     * @param data matrix data
+     * @return true if positive definite
+     */
+    public boolean isPositiveDefinite(double[][] data) {
+        return isSymmetric(data) && cholesky.decompose(data);
+    }
+
+    /**
+     * Get the numerical rank of the matrix
+     * @param data matrix data
+     * @return rank, or 0 if the matrix is empty or ragged
+     */
+    public int getRank(double[][] data) {
+        if (!qr.decompose(data)) {
+            return 0;
+        }
+        return qr.getRank();
+    }
+
+    /**
+     * Returns true if the rank of the matrix equals its number of rows
+     * @param data matrix data
+     * @return true if full row rank
+     */
+    public boolean isFullRowRank(double[][] data) {
+        return data != null && data.length > 0 && getRank(data) == data.length;
+    }
+
+    /**
+     * Returns true if the rank of the matrix equals its number of columns
+     * @param data matrix data
+     * @return true if full column rank
+     */
+    public boolean isFullColumnRank(double[][] data) {
+        return data != null && data.length > 0 && data[0] != null &&
+            getRank(data) == data[0].length;
+    }
+
+    /**
+     * Get the 2-norm condition number of the matrix.  Symmetric matrices
+     * use the ratio of the extreme eigenvalue magnitudes.  Other matrices
+     * use the eigenvalues of A'A.
+     * @param data matrix data
+     * @return condition number, or infinity if the matrix is singular
+     * or cannot be decomposed
+     */
+    public double getConditionNumber(double[][] data) {
+        if (isSymmetric(data)) {
+            if (!eigenvalues.decompose(data)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double min = Math.abs(eigenvalues.getMinimum());
+            double max = Math.abs(eigenvalues.getMaximum());
+            for(int i = 0; i < eigenvalues.getDimension(); i++) {
+                double value = Math.abs(eigenvalues.getEigenvalue(i));
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            return (min > 0 ? max / min : Double.POSITIVE_INFINITY);
+        }
+        if (data == null || data.length == 0 || data[0] == null || data[0].length == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        int m = data.length;
+        int n = data[0].length;
+        for(int r = 0; r < m; r++) {
+            if (data[r] == null || data[r].length != n) {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+        if (crossProduct == null || crossProduct.length != n) {
+            crossProduct = new double[n][n];
+        }
+        for(int i = 0; i < n; i++) {
+            for(int j = 0; j <= i; j++) {
+                double sum = 0;
+                for(int r = 0; r < m; r++) {
+                    sum += data[r][i] * data[r][j];
+                }
+                crossProduct[i][j] = sum;
+                crossProduct[j][i] = sum;
+            }
+        }
+        if (!eigenvalues.decompose(crossProduct)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double min = eigenvalues.getMinimum();
+        double max = eigenvalues.getMaximum();
+        return (min > 0 ? Math.sqrt(max / min) : Double.POSITIVE_INFINITY);
+    }
+}
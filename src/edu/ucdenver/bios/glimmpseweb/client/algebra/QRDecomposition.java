@@ -0,0 +1,211 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+/**
+ * Householder QR decomposition with column pivoting, AP = QR.  The
+ * columns are pivoted so that the diagonal of R is non-increasing in
+ * magnitude, which makes the rank of the matrix visible on the
+ * diagonal.  Only R is kept.  The workspace is reused across
+ * decompositions and only grows when a larger matrix is decomposed.
+ */
+public class QRDecomposition {
+    // working copy of the matrix, stored row by row
+    private double[] work = new double[0];
+    // Householder vector
+    private double[] householder = new double[0];
+    // diagonal of R
+    private double[] diagonal = new double[0];
+    // column permutation
+    private int[] pivot = new int[0];
+    // dimensions of the most recent decomposition
+    private int rows = 0;
+    private int columns = 0;
+    // number of Householder steps completed
+    private int steps = 0;
+
+    /**
+     * Decompose the specified matrix
+     * @param data matrix data with rows of equal length
+     * @return false if the matrix is empty or ragged
+     */
+    public boolean decompose(double[][] data) {
+        rows = 0;
+        columns = 0;
+        steps = 0;
+        if (data == null || data.length == 0 || data[0] == null ||
+                data[0].length == 0) {
+            return false;
+        }
+        int m = data.length;
+        int n = data[0].length;
+        for(int r = 0; r < m; r++) {
+            if (data[r] == null || data[r].length != n) {
+                return false;
+            }
+        }
+        ensureCapacity(m, n);
+        rows = m;
+        columns = n;
+        double[] a = work;
+        for(int r = 0; r < m; r++) {
+            System.arraycopy(data[r], 0, a, r * n, n);
+        }
+        for(int c = 0; c < n; c++) {
+            pivot[c] = c;
+        }
+
+        int limit = Math.min(m, n);
+        for(int k = 0; k < limit; k++) {
+            // pivot the remaining column with the largest norm into place.
+            // Norms are recomputed rather than downdated to avoid
+            // cancellation, which does not change the O(mn^2) cost.
+            int best = k;
+            double bestNorm = -1;
+            for(int c = k; c < n; c++) {
+                double norm = 0;
+                for(int r = k; r < m; r++) {
+                    double value = a[r * n + c];
+                    norm += value * value;
+                }
+                if (norm > bestNorm) {
+                    bestNorm = norm;
+                    best = c;
+                }
+            }
+            if (!(bestNorm > 0)) {
+                // remaining submatrix is zero (or contains NaN)
+                break;
+            }
+            if (best != k) {
+                for(int r = 0; r < m; r++) {
+                    double tmp = a[r * n + k];
+                    a[r * n + k] = a[r * n + best];
+                    a[r * n + best] = tmp;
+                }
+                int tmp = pivot[k];
+                pivot[k] = pivot[best];
+                pivot[best] = tmp;
+            }
+
+            // build the Householder reflection for column k
+            double norm = Math.sqrt(bestNorm);
+            double alpha = (a[k * n + k] > 0 ? -norm : norm);
+            double vNorm = 0;
+            for(int r = k; r < m; r++) {
+                householder[r] = a[r * n + k];
+            }
+            householder[k] -= alpha;
+            for(int r = k; r < m; r++) {
+                vNorm += householder[r] * householder[r];
+            }
+            diagonal[k] = alpha;
+            steps = k + 1;
+            if (vNorm == 0) {
+                continue;
+            }
+
+            // apply the reflection to the remaining columns
+            for(int c = k + 1; c < n; c++) {
+                double dot = 0;
+                for(int r = k; r < m; r++) {
+                    dot += householder[r] * a[r * n + c];
+                }
+                double scale = 2 * dot / vNorm;
+                for(int r = k; r < m; r++) {
+                    a[r * n + c] -= scale * householder[r];
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the numerical rank of the most recently decomposed matrix
+     * using the default tolerance, max(m,n) * eps * |R[0][0]|
+     * @return rank
+     */
+    public int getRank() {
+        if (steps == 0) {
+            return 0;
+        }
+        return getRank(Math.max(rows, columns) * MatrixValidator.EPSILON *
+                Math.abs(diagonal[0]));
+    }
+
+    /**
+     * Get the numerical rank of the most recently decomposed matrix
+     * @param tolerance diagonal elements of R at or below this
+     * magnitude are treated as zero
+     * @return rank
+     */
+    public int getRank(double tolerance) {
+        int rank = 0;
+        for(int k = 0; k < steps; k++) {
+            if (Math.abs(diagonal[k]) > tolerance) {
+                rank++;
+            } else {
+                break;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Get a diagonal element of R.  Elements past the last
+     * Householder step are zero.
+     * @param index diagonal index
+     * @return diagonal element
+     */
+    public double getDiagonal(int index) {
+        return (index < steps ? diagonal[index] : 0);
+    }
+
+    /**
+     * Get the original column index of the specified pivoted column
+     * @param index column index in AP
+     * @return column index in A
+     */
+    public int getPivot(int index) {
+        return pivot[index];
+    }
+
+    /**
+     * Grow the workspace if needed
+     * @param m number of rows
+     * @param n number of columns
+     */
+    private void ensureCapacity(int m, int n) {
+        if (work.length < m * n) {
+            work = new double[m * n];
+        }
+        if (householder.length < m) {
+            householder = new double[m];
+        }
+        if (diagonal.length < n) {
+            diagonal = new double[n];
+        }
+        if (pivot.length < n) {
+            pivot = new int[n];
+        }
+    }
+}
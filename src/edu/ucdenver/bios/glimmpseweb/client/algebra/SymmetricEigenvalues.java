@@ -0,0 +1,280 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+import java.util.Arrays;
+
+/**
+ * Eigenvalues of a symmetric matrix.  The matrix is reduced to
+ * tridiagonal form with Householder reflections and the eigenvalues
+ * are found with the implicit QL algorithm.  Eigenvectors are not
+ * computed.  Only the lower triangle of the input is read.  The
+ * workspace is reused across decompositions and only grows when a
+ * larger matrix is decomposed.
+ */
+public class SymmetricEigenvalues {
+    // maximum QL iterations per eigenvalue
+    private static final int MAX_ITERATIONS = 30;
+    // working copy of the matrix, stored row by row
+    private double[] work = new double[0];
+    // diagonal of the tridiagonal matrix, then the eigenvalues
+    private double[] values = new double[0];
+    // sub-diagonal of the tridiagonal matrix
+    private double[] offDiagonal = new double[0];
+    // Householder vector and product workspace
+    private double[] householder = new double[0];
+    private double[] product = new double[0];
+    // dimension of the most recent decomposition
+    private int dimension = 0;
+
+    /**
+     * Compute the eigenvalues of the specified matrix
+     * @param data square matrix data
+     * @return false if the matrix is not square, contains non-finite
+     * values, or the iteration failed to converge
+     */
+    public boolean decompose(double[][] data) {
+        dimension = 0;
+        int n = MatrixValidator.getSquareDimension(data);
+        if (n <= 0) {
+            return false;
+        }
+        ensureCapacity(n);
+        double[] a = work;
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c <= r; c++) {
+                double value = data[r][c];
+                if (Double.isNaN(value) || Double.isInfinite(value)) {
+                    return false;
+                }
+                a[r * n + c] = value;
+                a[c * n + r] = value;
+            }
+        }
+        tridiagonalize(n);
+        if (!solveTridiagonal(n)) {
+            return false;
+        }
+        Arrays.sort(values, 0, n);
+        dimension = n;
+        return true;
+    }
+
+    /**
+     * Get the dimension of the most recent decomposition
+     * @return dimension, or 0 if the decomposition failed
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Get an eigenvalue of the most recently decomposed matrix.
+     * Eigenvalues are sorted in ascending order.
+     * @param index eigenvalue index
+     * @return eigenvalue
+     */
+    public double getEigenvalue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Get the smallest eigenvalue
+     * @return smallest eigenvalue
+     */
+    public double getMinimum() {
+        return values[0];
+    }
+
+    /**
+     * Get the largest eigenvalue
+     * @return largest eigenvalue
+     */
+    public double getMaximum() {
+        return values[dimension - 1];
+    }
+
+    /**
+     * Reduce the working matrix to tridiagonal form.  Each step
+     * applies H = I - 2vv' to the trailing submatrix as the rank two
+     * update A - 2vw' - 2wv', where w = Av - (v'Av)v.
+     * @param n dimension
+     */
+    private void tridiagonalize(int n) {
+        double[] a = work;
+        double[] v = householder;
+        double[] p = product;
+        for(int k = 0; k < n - 2; k++) {
+            double norm = 0;
+            for(int i = k + 1; i < n; i++) {
+                norm += a[i * n + k] * a[i * n + k];
+            }
+            norm = Math.sqrt(norm);
+            if (norm == 0) {
+                continue;
+            }
+            double x0 = a[(k + 1) * n + k];
+            double alpha = (x0 > 0 ? -norm : norm);
+            double vNorm = 0;
+            for(int i = k + 1; i < n; i++) {
+                v[i] = a[i * n + k];
+            }
+            v[k + 1] -= alpha;
+            for(int i = k + 1; i < n; i++) {
+                vNorm += v[i] * v[i];
+            }
+            if (vNorm == 0) {
+                continue;
+            }
+            vNorm = Math.sqrt(vNorm);
+            for(int i = k + 1; i < n; i++) {
+                v[i] /= vNorm;
+            }
+
+            // p = Av on the trailing block, then w = p - (v'p)v
+            double vp = 0;
+            for(int i = k + 1; i < n; i++) {
+                double sum = 0;
+                for(int j = k + 1; j < n; j++) {
+                    sum += a[i * n + j] * v[j];
+                }
+                p[i] = sum;
+                vp += v[i] * sum;
+            }
+            for(int i = k + 1; i < n; i++) {
+                p[i] -= vp * v[i];
+            }
+            for(int i = k + 1; i < n; i++) {
+                for(int j = k + 1; j <= i; j++) {
+                    double value = a[i * n + j] - 2 * (v[i] * p[j] + p[i] * v[j]);
+                    a[i * n + j] = value;
+                    a[j * n + i] = value;
+                }
+            }
+            a[(k + 1) * n + k] = alpha;
+            a[k * n + k + 1] = alpha;
+            for(int i = k + 2; i < n; i++) {
+                a[i * n + k] = 0;
+                a[k * n + i] = 0;
+            }
+        }
+        for(int i = 0; i < n; i++) {
+            values[i] = a[i * n + i];
+            offDiagonal[i] = (i < n - 1 ? a[(i + 1) * n + i] : 0);
+        }
+    }
+
+    /**
+     * Find the eigenvalues of the tridiagonal matrix with the
+     * implicit QL algorithm
+     * @param n dimension
+     * @return false if the iteration did not converge
+     */
+    private boolean solveTridiagonal(int n) {
+        double[] d = values;
+        double[] e = offDiagonal;
+        for(int l = 0; l < n; l++) {
+            int iterations = 0;
+            int m;
+            do {
+                // find a small sub-diagonal element to split the matrix
+                for(m = l; m < n - 1; m++) {
+                    double dd = Math.abs(d[m]) + Math.abs(d[m + 1]);
+                    if (Math.abs(e[m]) <= MatrixValidator.EPSILON * dd) {
+                        break;
+                    }
+                }
+                if (m != l) {
+                    if (iterations++ == MAX_ITERATIONS) {
+                        return false;
+                    }
+                    double g = (d[l + 1] - d[l]) / (2.0 * e[l]);
+                    double r = hypot(g, 1.0);
+                    g = d[m] - d[l] + e[l] / (g + (g >= 0 ? Math.abs(r) : -Math.abs(r)));
+                    double s = 1.0;
+                    double c = 1.0;
+                    double p = 0.0;
+                    int i;
+                    for(i = m - 1; i >= l; i--) {
+                        double f = s * e[i];
+                        double b = c * e[i];
+                        r = hypot(f, g);
+                        e[i + 1] = r;
+                        if (r == 0.0) {
+                            // recover from underflow
+                            d[i + 1] -= p;
+                            e[m] = 0.0;
+                            break;
+                        }
+                        s = f / r;
+                        c = g / r;
+                        g = d[i + 1] - p;
+                        r = (d[i] - g) * s + 2.0 * c * b;
+                        p = s * r;
+                        d[i + 1] = g + p;
+                        g = c * r - b;
+                    }
+                    if (r == 0.0 && i >= l) {
+                        continue;
+                    }
+                    d[l] -= p;
+                    e[l] = g;
+                    e[m] = 0.0;
+                }
+            } while (m != l);
+        }
+        return true;
+    }
+
+    /**
+     * Compute sqrt(a^2 + b^2) without destructive overflow
+     */
+    private static double hypot(double a, double b) {
+        double absA = Math.abs(a);
+        double absB = Math.abs(b);
+        if (absA > absB) {
+            double ratio = absB / absA;
+            return absA * Math.sqrt(1.0 + ratio * ratio);
+        } else if (absB == 0) {
+            return 0;
+        } else {
+            double ratio = absA / absB;
+            return absB * Math.sqrt(1.0 + ratio * ratio);
+        }
+    }
+
+    /**
+     * Grow the workspace if needed
+     * @param n dimension
+     */
+    private void ensureCapacity(int n) {
+        if (work.length < n * n) {
+            work = new double[n * n];
+        }
+        if (values.length < n) {
+            values = new double[n];
+            offDiagonal = new double[n];
+            householder = new double[n];
+            product = new double[n];
+        }
+    }
+}
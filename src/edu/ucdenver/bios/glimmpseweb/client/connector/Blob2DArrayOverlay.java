@@ -0,0 +1,166 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayNumber;
+
+/**
+ * Overlay type for the parsed JSON representation of a Blob2DArray,
+ * i.e. {"data":[[...],[...]]}.  Reads the numeric rows directly from
+ * the javascript object without creating a JSONValue wrapper per cell.
+ */
+public class Blob2DArrayOverlay extends JavaScriptObject {
+
+    protected Blob2DArrayOverlay() {}
+
+    /**
+     * Get the raw data property
+     * @return data property
+     */
+    public final native JavaScriptObject getDataObject() /*-{
+        return (this.data ? this.data : null);
+    }-*/;
+
+    /**
+     * Use the specified javascript object as a Blob2DArray.  The shape
+     * of the data is checked once here, and the result is kept on the
+     * object for the accessors below.
+     * @param object parsed JSON object
+     * @return overlay for the object
+     */
+    public static Blob2DArrayOverlay create(JavaScriptObject object) {
+        Blob2DArrayOverlay blob = object.<Blob2DArrayOverlay>cast();
+        blob.checkRows();
+        return blob;
+    }
+
+    /**
+     * Check that the data is an array of rows, where each row is an
+     * array of numbers with the same length as the first row.  Arrays
+     * are detected with Object.prototype.toString since older browsers
+     * do not support Array.isArray.
+     */
+    private native void checkRows() /*-{
+        var toString = Object.prototype.toString;
+        var data = this.data;
+        this.__rows = null;
+        if (toString.call(data) !== '[object Array]') {
+            return;
+        }
+        var columns = -1;
+        for (var r = 0; r < data.length; r++) {
+            var row = data[r];
+            if (toString.call(row) !== '[object Array]') {
+                return;
+            }
+            if (columns < 0) {
+                columns = row.length;
+            } else if (row.length != columns) {
+                return;
+            }
+            for (var c = 0; c < columns; c++) {
+                if (typeof row[c] != "number") {
+                    return;
+                }
+            }
+        }
+        this.__rows = data;
+    }-*/;
+
+    /**
+     * Get the rows of the matrix as checked when the overlay was created
+     * @return array of rows, or null if no valid data is present
+     */
+    public final native JsArray<JsArrayNumber> getRows() /*-{
+        return (this.__rows ? this.__rows : null);
+    }-*/;
+
+    /**
+     * Get the number of rows in the matrix
+     * @return number of rows
+     */
+    public final int getRowCount() {
+        JsArray<JsArrayNumber> rows = getRows();
+        return (rows != null ? rows.length() : 0);
+    }
+
+    /**
+     * Get the number of columns in the matrix
+     * @return number of columns
+     */
+    public final int getColumnCount() {
+        return getColumnCount(getRows());
+    }
+
+    /**
+     * Get the number of columns from the first of the validated rows
+     * @param rows validated rows
+     * @return number of columns
+     */
+    private static int getColumnCount(JsArray<JsArrayNumber> rows) {
+        if (rows != null && rows.length() > 0) {
+            return rows.get(0).length();
+        }
+        return 0;
+    }
+
+    /**
+     * Get the value in the specified cell.  The data is not validated,
+     * so check the dimensions with getRowCount and getColumnCount first.
+     * @param row row index
+     * @param column column index
+     * @return cell value
+     */
+    public final native double get(int row, int column) /*-{
+        return this.data[row][column];
+    }-*/;
+
+    /**
+     * Copy the matrix into a new array.  Data in the compact binary 
+     * encoding is decoded.
+     * @return matrix data, or null if there are no rows or the
+     * data is not a rectangular array of numbers
+     */
+    public final double[][] toArray() {
+        JavaScriptObject dataObject = getDataObject();
+        if (dataObject != null && MatrixEncoding.isEncoded(dataObject)) {
+            return MatrixEncoding.decode(dataObject);
+        }
+        JsArray<JsArrayNumber> rows = getRows();
+        int rowCount = (rows != null ? rows.length() : 0);
+        int columnCount = getColumnCount(rows);
+        if (rowCount <= 0 || columnCount <= 0) {
+            return null;
+        }
+        double[][] data = new double[rowCount][columnCount];
+        for(int r = 0; r < rowCount; r++) {
+            JsArrayNumber currentRow = rows.get(r);
+            double[] dataRow = data[r];
+            for(int c = 0; c < columnCount; c++) {
+                dataRow[c] = currentRow.get(c);
+            }
+        }
+        return data;
+    }
+}
@@ -1,6 +1,6 @@
-package edu.ucdenver.bios.glimmpseweb.client.connector;
-
-import edu.ucdenver.bios.webservice.common.domain.Blob2DArray;
-import name.pehl.piriti.json.client.JsonReader;
-
-public interface Blob2DArrayReader extends JsonReader<Blob2DArray> {}
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import edu.ucdenver.bios.webservice.common.domain.Blob2DArray;
+import name.pehl.piriti.json.client.JsonReader;
+
+public interface Blob2DArrayReader extends JsonReader<Blob2DArray> {}
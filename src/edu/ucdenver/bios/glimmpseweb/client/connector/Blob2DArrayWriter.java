@@ -1,6 +1,6 @@
-package edu.ucdenver.bios.glimmpseweb.client.connector;
-
-import edu.ucdenver.bios.webservice.common.domain.Blob2DArray;
-import name.pehl.piriti.json.client.JsonWriter;
-
-public interface Blob2DArrayWriter extends JsonWriter<Blob2DArray> {}
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import edu.ucdenver.bios.webservice.common.domain.Blob2DArray;
+import name.pehl.piriti.json.client.JsonWriter;
+
+public interface Blob2DArrayWriter extends JsonWriter<Blob2DArray> {}
@@ -1,65 +1,187 @@
-package edu.ucdenver.bios.glimmpseweb.client.connector;
-
-import java.util.List;
-
-import com.google.gwt.core.client.GWT;
-
-import name.pehl.piriti.json.client.AbstractJsonWriter;
-import name.pehl.piriti.json.client.JsonWriter;
-import edu.ucdenver.bios.webservice.common.domain.Blob2DArray;
-
-public class Blob2DArrayWriterImpl extends AbstractJsonWriter<edu.ucdenver.bios.webservice.common.domain.Blob2DArray> 
-implements Blob2DArrayWriter 
-{
-
-    public interface Blob2DArrayWriter extends JsonWriter<Blob2DArray> {}
-    
-    public Blob2DArrayWriterImpl() 
-    {
-        this.jsonRegistry.register(edu.ucdenver.bios.webservice.common.domain.Blob2DArray.class, this);
-    }
-
-    @Override
-    public String toJson(List<Blob2DArray> models, String arrayKey) {
-        // TODO
-        return null;
-    }
-
-    @Override
-    public String toJson(Blob2DArray model) {
-        StringBuffer buffer = new StringBuffer();
-        buffer.append("{\"data\":[" );
-        double[][] data = model.getData();
-        int rows = data.length;
-        int columns = data[0].length;
-        for(int r = 0; r < rows; r++) {
-            if (r > 0) {
-                buffer.append(",");
-            }
-            buffer.append("[");
-            for(int c = 0; c < columns; c++) {
-                if (c > 0) {
-                    buffer.append(",");
-                }
-                buffer.append(data[r][c]);
-            }
-            buffer.append("]");
-
-        }
-        buffer.append("]}");
-        return buffer.toString();
-    }
-
-//    @Override
-//    public HandlerRegistration addModelWriteHandler(
-//            ModelWriteHandler<Blob2DArray> handler) {
-//        // TODO Auto-generated method stub
-//        return null;
-//    }
-//
-//    @Override
-//    public void fireEvent(GwtEvent<?> event) {
-//        // TODO Auto-generated method stub
-//        
-//    }
-}
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import com.google.gwt.core.client.GWT;
+
+import name.pehl.piriti.json.client.AbstractJsonWriter;
+import name.pehl.piriti.json.client.JsonWriter;
+import edu.ucdenver.bios.webservice.common.domain.Blob2DArray;
+
+public class Blob2DArrayWriterImpl extends AbstractJsonWriter<edu.ucdenver.bios.webservice.common.domain.Blob2DArray> 
+implements Blob2DArrayWriter 
+{
+
+    public interface Blob2DArrayWriter extends JsonWriter<Blob2DArray> {}
+    
+    // if true, write matrix data in the compact binary encoding
+    private boolean compactEncoding = false;
+    // covariance matrices which may be packed if symmetric
+    private IdentityHashMap<Blob2DArray, Boolean> packedBlobs = null;
+    
+    public Blob2DArrayWriterImpl() 
+    {
+        this.jsonRegistry.register(edu.ucdenver.bios.webservice.common.domain.Blob2DArray.class, this);
+    }
+
+    @Override
+    public String toJson(List<Blob2DArray> models, String arrayKey) {
+        if (models == null || arrayKey == null) {
+            return null;
+        }
+        int size = 16 + arrayKey.length();
+        for(Blob2DArray model: models) {
+            size += (model != null ? estimateSize(model.getData()) : 5);
+        }
+        StringBuilder builder = new StringBuilder(size);
+        builder.append("{\"").append(arrayKey).append("\":[");
+        boolean first = true;
+        for(Blob2DArray model: models) {
+            if (!first) {
+                builder.append(",");
+            }
+            first = false;
+            if (model == null) {
+                builder.append("null");
+            } else {
+                appendBlob(builder, model);
+            }
+        }
+        builder.append("]}");
+        return builder.toString();
+    }
+
+    @Override
+    public String toJson(Blob2DArray model) {
+        if (model == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder(estimateSize(model.getData()));
+        appendBlob(builder, model);
+        return builder.toString();
+    }
+
+    /**
+     * Append the JSON representation of the matrix to the builder
+     * @param builder string builder
+     * @param model matrix data
+     */
+    private void appendBlob(StringBuilder builder, Blob2DArray model) {
+        double[][] data = model.getData();
+        if (compactEncoding && data != null && data.length > 0) {
+            builder.append("{\"data\":");
+            builder.append(MatrixEncoding.encode(data, 
+                    packedBlobs != null && packedBlobs.containsKey(model)));
+            builder.append("}");
+            return;
+        }
+        builder.append("{\"data\":" );
+        appendRows(builder, data, GWT.isScript());
+        builder.append("}");
+    }
+
+    /**
+     * Append the matrix data as a JSON array of rows.  Null data is
+     * written as an empty array.
+     * @param builder string builder
+     * @param data matrix data
+     * @param nativeJoin if true, join each row with the javascript 
+     * Array.join function.  Only valid in compiled mode.
+     */
+    static void appendRows(StringBuilder builder, double[][] data, 
+            boolean nativeJoin) {
+        builder.append("[");
+        if (data != null) {
+            for(int r = 0; r < data.length; r++) {
+                if (r > 0) {
+                    builder.append(",");
+                }
+                builder.append("[");
+                if (nativeJoin) {
+                    // compiled Java arrays are javascript arrays, so
+                    // join the row in a single native call
+                    builder.append(joinRow(data[r]));
+                } else {
+                    double[] row = data[r];
+                    for(int c = 0; c < row.length; c++) {
+                        if (c > 0) {
+                            builder.append(",");
+                        }
+                        builder.append(row[c]);
+                    }
+                }
+                builder.append("]");
+            }
+        }
+        builder.append("]");
+    }
+
+    /**
+     * Enable or disable the compact binary matrix encoding.  Only use the
+     * compact encoding when the receiving service has been notified 
+     * with the {@link MatrixEncoding#HEADER} request header.
+     * @param compact if true, write base64 encoded float64 values
+     */
+    public void setCompactEncoding(boolean compact) {
+        compactEncoding = compact;
+    }
+
+    /**
+     * Set the matrices which are written as a packed lower triangle
+     * when symmetric in the compact encoding.  Only covariance matrices
+     * should be packed.
+     * @param blobs covariance matrices, or null to pack nothing
+     */
+    public void setPackedBlobs(IdentityHashMap<Blob2DArray, Boolean> blobs) {
+        packedBlobs = blobs;
+    }
+
+    /**
+     * Returns true if the compact binary matrix encoding is enabled
+     */
+    public boolean isCompactEncoding() {
+        return compactEncoding;
+    }
+
+    /**
+     * Estimate the length of the JSON encoding so the builder 
+     * is allocated once.
+     * @param data matrix data
+     * @return estimated number of characters
+     */
+    static int estimateSize(double[][] data) {
+        int size = 16;
+        if (data != null) {
+            for(int r = 0; r < data.length; r++) {
+                // allow for roughly 8 characters per element
+                size += 3 + (data[r] != null ? data[r].length * 9 : 0);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Join a row of the matrix with commas using the javascript 
+     * Array.join function.  Numbers are formatted with the shortest
+     * representation which round trips.  Only valid in compiled mode.
+     * @param row matrix row
+     * @return comma separated values
+     */
+    private static native String joinRow(double[] row) /*-{
+        return row.join(",");
+    }-*/;
+
+//    @Override
+//    public HandlerRegistration addModelWriteHandler(
+//            ModelWriteHandler<Blob2DArray> handler) {
+//        // TODO Auto-generated method stub
+//        return null;
+//    }
+//
+//    @Override
+//    public void fireEvent(GwtEvent<?> event) {
+//        // TODO Auto-generated method stub
+//        
+//    }
+}
@@ -0,0 +1,124 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+/**
+ * Shape preserving point reduction for power curves using the
+ * largest-triangle-three-buckets algorithm.  The first and last points
+ * are always kept.  The points in between are split into buckets, and
+ * each bucket keeps the point forming the largest triangle with the
+ * previously kept point and the average of the next bucket.  This keeps
+ * peaks and changes in slope which uniform sampling would miss.
+ */
+public class CurveDownsampler {
+    // minimum number of points kept per series
+    public static final int MIN_POINTS = 3;
+
+    /**
+     * Select the points to keep from the power values of the series.
+     * The points must be sorted by the horizontal axis value.
+     * @param series data series
+     * @param threshold maximum number of points to keep
+     * @return indices of the kept points in increasing order, or null
+     * if the series already fits within the threshold
+     */
+    public static int[] selectIndices(PowerCurveSeries series, int threshold) {
+        int size = series.size();
+        threshold = Math.max(threshold, MIN_POINTS);
+        if (size <= threshold) {
+            return null;
+        }
+        int[] selected = new int[threshold];
+        int count = 0;
+        // width of each bucket, excluding the first and last points
+        double bucketWidth = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        selected[count++] = previous;
+        for(int bucket = 0; bucket < threshold - 2; bucket++) {
+            // average of the next bucket
+            int nextStart = (int) Math.floor((bucket + 1) * bucketWidth) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketWidth) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for(int i = nextStart; i < nextEnd; i++) {
+                averageX += series.getX(i);
+                averageY += series.getPower(i);
+            }
+            int nextCount = Math.max(nextEnd - nextStart, 1);
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            // point in the current bucket with the largest triangle
+            int start = (int) Math.floor(bucket * bucketWidth) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketWidth) + 1;
+            double previousX = series.getX(previous);
+            double previousY = series.getPower(previous);
+            double maxArea = -1;
+            int maxIndex = start;
+            for(int i = start; i < end; i++) {
+                double area = Math.abs((previousX - averageX) * (series.getPower(i) - previousY) -
+                        (previousX - series.getX(i)) * (averageY - previousY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            selected[count++] = maxIndex;
+            previous = maxIndex;
+        }
+        selected[count++] = size - 1;
+        return selected;
+    }
+
+    /**
+     * Reduce the series to at most the specified number of points.
+     * Confidence limits are kept for the same points as the power
+     * values, so they stay aligned with the main series.
+     * @param series data series sorted by the horizontal axis value
+     * @param threshold maximum number of points to keep
+     * @return the reduced series, or the original series if it 
+     * already fits within the threshold
+     */
+    public static PowerCurveSeries downsample(PowerCurveSeries series, int threshold) {
+        int[] indices = selectIndices(series, threshold);
+        if (indices == null) {
+            return series;
+        }
+        int size = indices.length;
+        boolean hasLimits = series.hasConfidenceLimits();
+        double[] x = new double[size];
+        double[] power = new double[size];
+        double[] lower = (hasLimits ? new double[size] : null);
+        double[] upper = (hasLimits ? new double[size] : null);
+        for(int i = 0; i < size; i++) {
+            int index = indices[i];
+            x[i] = series.getX(index);
+            power[i] = series.getPower(index);
+            if (hasLimits) {
+                lower[i] = series.getLower(index);
+                upper[i] = series.getUpper(index);
+            }
+        }
+        return new PowerCurveSeries(series.getLabel(), series.getLineStyle(),
+                x, power, lower, upper);
+    }
+}
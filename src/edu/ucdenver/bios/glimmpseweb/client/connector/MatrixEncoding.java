@@ -0,0 +1,274 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsArray;
+import com.google.gwt.core.client.JsArrayNumber;
+
+/**
+ * Compact binary encoding for matrix data.  The values are stored as
+ * little endian 64-bit floats in a base64 string along with the matrix
+ * dimensions.  Symmetric covariance matrices may be sent as the packed
+ * lower triangle (row by row), which roughly halves their size.
+ * <p>
+ * Encoded form of the "data" property of a Blob2DArray:
+ * <pre>
+ * {"encoding":"base64-float64-le","rows":3,"columns":3,
+ *  "symmetric":true,"values":"..."}
+ * </pre>
+ * The encoding must be announced to the power service with the
+ * request header {@link #HEADER}.  A service which supports the 
+ * encoding lists it in the same header on its responses.
+ */
+public class MatrixEncoding {
+    // request header declaring the matrix encoding in the entity body
+    public static final String HEADER = "X-Matrix-Encoding";
+    // name of the binary encoding
+    public static final String BASE64_FLOAT64 = "base64-float64-le";
+
+    /**
+     * Returns true if the matrix is square and exactly symmetric
+     * @param data matrix data
+     * @return true if symmetric
+     */
+    public static boolean isSymmetric(double[][] data) {
+        int rows = data.length;
+        for(int r = 0; r < rows; r++) {
+            if (data[r] == null || data[r].length != rows) {
+                return false;
+            }
+        }
+        for(int r = 0; r < rows; r++) {
+            for(int c = 0; c < r; c++) {
+                if (data[r][c] != data[c][r]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encode the matrix data as a JSON object in the compact format.
+     * @param data matrix data with at least one row
+     * @param packSymmetric if true, a symmetric matrix is sent as the
+     * packed lower triangle.  Only set for covariance matrices.
+     * @return JSON encoded object
+     */
+    public static String encode(double[][] data, boolean packSymmetric) {
+        int rows = data.length;
+        int columns = (rows > 0 && data[0] != null ? data[0].length : 0);
+        boolean symmetric = packSymmetric && rows > 1 && isSymmetric(data);
+
+        JsArrayNumber values = JavaScriptObject.createArray().cast();
+        if (symmetric) {
+            for(int r = 0; r < rows; r++) {
+                for(int c = 0; c <= r; c++) {
+                    values.push(data[r][c]);
+                }
+            }
+        } else {
+            for(int r = 0; r < rows; r++) {
+                for(int c = 0; c < columns; c++) {
+                    values.push(data[r][c]);
+                }
+            }
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"encoding\":\"").append(BASE64_FLOAT64);
+        builder.append("\",\"rows\":").append(rows);
+        builder.append(",\"columns\":").append(columns);
+        builder.append(",\"symmetric\":").append(symmetric);
+        builder.append(",\"values\":\"").append(toBase64(values));
+        builder.append("\"}");
+        return builder.toString();
+    }
+
+    /**
+     * Returns true if the parsed "data" object uses the compact encoding
+     * @param data parsed data property
+     * @return true if encoded
+     */
+    public static native boolean isEncoded(JavaScriptObject data) /*-{
+        return (data != null && data.encoding == "base64-float64-le");
+    }-*/;
+
+    /**
+     * Decode a parsed "data" object in the compact format.  Packed
+     * lower triangles are expanded into the full symmetric matrix.
+     * @param data parsed data property
+     * @return matrix data, or null if empty
+     * @throws IllegalArgumentException if the number of encoded values
+     * does not match the dimensions
+     */
+    public static double[][] decode(JavaScriptObject data) {
+        int rows = getInt(data, "rows");
+        int columns = getInt(data, "columns");
+        if (rows <= 0 || columns <= 0) {
+            return null;
+        }
+        boolean packed = isPackedSymmetric(data);
+        if (packed && rows != columns) {
+            throw new IllegalArgumentException("Packed symmetric matrix is not square: " +
+                    rows + " x " + columns);
+        }
+        int count = (packed ? rows * (rows + 1) / 2 : rows * columns);
+        JsArrayNumber values = fromBase64(getValues(data), count);
+        if (values == null) {
+            throw new IllegalArgumentException("Encoded values do not match a " + 
+                    rows + " x " + columns + " matrix");
+        }
+        double[][] matrix = new double[rows][columns];
+        int index = 0;
+        if (packed) {
+            for(int r = 0; r < rows; r++) {
+                for(int c = 0; c <= r; c++) {
+                    double value = values.get(index++);
+                    matrix[r][c] = value;
+                    matrix[c][r] = value;
+                }
+            }
+        } else {
+            for(int r = 0; r < rows; r++) {
+                for(int c = 0; c < columns; c++) {
+                    matrix[r][c] = values.get(index++);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Returns true if the response header lists the compact encoding
+     * @param headerValue value of the {@link #HEADER} response header
+     * @return true if the service accepts the compact encoding
+     */
+    public static boolean isSupported(String headerValue) {
+        if (headerValue == null) {
+            return false;
+        }
+        for(String encoding: headerValue.split(",")) {
+            if (BASE64_FLOAT64.equals(encoding.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rewrite a JSON entity so that every matrix in the compact format
+     * is written as a plain array of rows.  Used to resend a request to
+     * a service which does not accept the compact encoding.
+     * @param entity JSON entity using the compact encoding
+     * @return equivalent JSON entity without the compact encoding
+     */
+    public static native String expand(String entity) /*-{
+        return JSON.stringify(JSON.parse(entity, function(key, value) {
+            if (value != null && value.encoding == "base64-float64-le") {
+                return @edu.ucdenver.bios.glimmpseweb.client.connector.MatrixEncoding::toRows(Lcom/google/gwt/core/client/JavaScriptObject;)(value);
+            }
+            return value;
+        }));
+    }-*/;
+
+    /**
+     * Decode a compact matrix into a javascript array of rows
+     * @param data parsed data property
+     * @return array of rows
+     */
+    private static JsArray<JsArrayNumber> toRows(JavaScriptObject data) {
+        JsArray<JsArrayNumber> rows = JavaScriptObject.createArray().cast();
+        double[][] matrix = decode(data);
+        if (matrix != null) {
+            for(int r = 0; r < matrix.length; r++) {
+                JsArrayNumber row = JavaScriptObject.createArray().cast();
+                for(int c = 0; c < matrix[r].length; c++) {
+                    row.push(matrix[r][c]);
+                }
+                rows.push(row);
+            }
+        }
+        return rows;
+    }
+
+    private static native int getInt(JavaScriptObject data, String key) /*-{
+        var value = data[key];
+        return (typeof value == "number" ? value : 0);
+    }-*/;
+
+    private static native boolean isPackedSymmetric(JavaScriptObject data) /*-{
+        return data.symmetric == true;
+    }-*/;
+
+    private static native String getValues(JavaScriptObject data) /*-{
+        return (data.values ? data.values : "");
+    }-*/;
+
+    /**
+     * Write the values as little endian 64-bit floats and base64 encode
+     * @param values list of values
+     * @return base64 string
+     */
+    private static native String toBase64(JsArrayNumber values) /*-{
+        var n = values.length;
+        var buffer = new ArrayBuffer(n * 8);
+        var view = new DataView(buffer);
+        for (var i = 0; i < n; i++) {
+            view.setFloat64(i * 8, values[i], true);
+        }
+        var bytes = new Uint8Array(buffer);
+        // convert in chunks to stay below argument count limits
+        var chunks = [];
+        for (var start = 0; start < bytes.length; start += 32768) {
+            chunks.push(String.fromCharCode.apply(null,
+                bytes.subarray(start, start + 32768)));
+        }
+        return $wnd.btoa(chunks.join(""));
+    }-*/;
+
+    /**
+     * Decode a base64 string of little endian 64-bit floats
+     * @param encoded base64 string
+     * @param n expected number of values
+     * @return list of values, or null if the decoded length is not
+     * exactly n * 8 bytes
+     */
+    private static native JsArrayNumber fromBase64(String encoded, int n) /*-{
+        var binary = $wnd.atob(encoded);
+        if (binary.length != n * 8) {
+            return null;
+        }
+        var buffer = new ArrayBuffer(n * 8);
+        var bytes = new Uint8Array(buffer);
+        for (var i = 0; i < n * 8; i++) {
+            bytes[i] = binary.charCodeAt(i);
+        }
+        var view = new DataView(buffer);
+        var values = [];
+        for (var j = 0; j < n; j++) {
+            values.push(view.getFloat64(j * 8, true));
+        }
+        return values;
+    }-*/;
+}
@@ -1,69 +1,146 @@
-/*
- * User Interface for the GLIMMPSE Software System.  Allows
- * users to perform power, sample size, and detectable difference
- * calculations. 
- * 
- * Copyright (C) 2010 Regents of the University of Colorado.  
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the GNU General Public License
- * as published by the Free Software Foundation; either version 2
- * of the License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with this program; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
- */
-
-package edu.ucdenver.bios.glimmpseweb.client.connector;
-
-import com.google.gwt.http.client.RequestBuilder;
-import com.google.gwt.http.client.RequestCallback;
-import com.google.gwt.http.client.RequestException;
-
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
-import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
-
-/**
- * Connector class to the matrix service to perform linear algebra
- * operations.
- * @author VIJAY AKULA
- *
- */
-public class MatrixSvcConnector {
-    
-    private static final String MEDIA_TYPE = "application/json";
-    
-    // JSON encoder/decoder class
-    private static final DomainObjectSerializer serializer = 
-        DomainObjectSerializer.getInstance();
-    
-    public MatrixSvcConnector(){}
-    
-    public void getRank(NamedMatrix matrix, RequestCallback callback)
-    throws RequestException
-    {
-        String entity = serializer.toJSON(matrix);
-        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, GlimmpseWeb.constants.matrixSvcHostMatrices());
-        
-        builder.setHeader("Content-Type", MEDIA_TYPE);
-        builder.setHeader("Accept", MEDIA_TYPE);
-        builder.sendRequest(entity, callback);
-    }
-    
-    public void getIsPositiveDefinite(NamedMatrix matrix, RequestCallback callback)
-    throws RequestException
-    {
-        String entity = serializer.toJSON(matrix);
-        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, GlimmpseWeb.constants.matrixSvcHostMatrices());
-        builder.setHeader("Content-Type", MEDIA_TYPE);
-        builder.setHeader("Accept", MEDIA_TYPE);
-        builder.sendRequest(entity, callback);
-    }
-    
-}
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations. 
+ * 
+ * Copyright (C) 2010 Regents of the University of Colorado.  
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
+
+/**
+ * Connector class to the matrix service to perform linear algebra
+ * operations.
+ * @author VIJAY AKULA
+ *
+ */
+public class MatrixSvcConnector {
+    
+    private static final String MEDIA_TYPE = "application/json";
+    
+    // JSON encoder/decoder class
+    private static final DomainObjectSerializer serializer = 
+        DomainObjectSerializer.getInstance();
+    // request measurements
+    private static final RequestMetrics metrics = RequestMetrics.getInstance();
+    // url of the batch validation endpoint
+    private String validateUrl;
+    
+    public MatrixSvcConnector()
+    {
+        this(GlimmpseWeb.constants.matrixSvcHostValidate());
+    }
+    
+    /**
+     * Create a connector which sends batch validation requests
+     * to the specified url
+     * @param validateUrl url of the validation endpoint
+     */
+    public MatrixSvcConnector(String validateUrl)
+    {
+        this.validateUrl = validateUrl;
+    }
+    
+    public void getRank(NamedMatrix matrix, RequestCallback callback)
+    throws RequestException
+    {
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.MATRIX_SERVICE);
+        String entity = serializer.toJSON(matrix);
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        String url = GlimmpseWeb.constants.matrixSvcHostMatrices();
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+        
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        builder.sendRequest(entity, metrics.wrap(sample, url, callback));
+    }
+    
+    public void getIsPositiveDefinite(NamedMatrix matrix, RequestCallback callback)
+    throws RequestException
+    {
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.MATRIX_SERVICE);
+        String entity = serializer.toJSON(matrix);
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        String url = GlimmpseWeb.constants.matrixSvcHostMatrices();
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        builder.sendRequest(entity, metrics.wrap(sample, url, callback));
+    }
+    
+    /**
+     * Calculate properties for several matrices in a single request to
+     * the matrix service.  The results are keyed by matrix name, so the
+     * matrices must have unique names.
+     * @param matrices list of matrices
+     * @param properties properties to calculate for each matrix
+     * @param callback handler for the results keyed by matrix name
+     */
+    public void validateMatrices(List<NamedMatrix> matrices, Set<MatrixProperty> properties,
+            final ServiceCallback<Map<String, MatrixValidationResult>> callback)
+    {
+        final RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.MATRIX_SERVICE);
+        String entity = serializer.toJSON(matrices, properties);
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        String url = validateUrl;
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        try {
+            builder.sendRequest(entity, metrics.wrap(sample, url, new RequestCallback() {
+                @Override
+                public void onResponseReceived(Request request, Response response) {
+                    if (response.getStatusCode() != Response.SC_OK) {
+                        callback.onFailure(response.getText());
+                        return;
+                    }
+                    double parseStart = Duration.currentTimeMillis();
+                    Map<String, MatrixValidationResult> results = 
+                        serializer.matrixValidationFromJSON(response.getText());
+                    sample.setParseTime(Duration.currentTimeMillis() - parseStart);
+                    if (results != null) {
+                        callback.onSuccess(results);
+                    } else {
+                        sample.setFailed();
+                        callback.onFailure(response.getText());
+                    }
+                }
+
+                @Override
+                public void onError(Request request, Throwable exception) {
+                    callback.onFailure(exception.getMessage());
+                }
+            }));
+        } catch (RequestException e) {
+            callback.onFailure(e.getMessage());
+        }
+    }
+}
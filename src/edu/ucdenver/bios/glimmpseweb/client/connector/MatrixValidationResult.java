@@ -0,0 +1,78 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+/**
+ * Properties of a single matrix returned by the matrix service
+ * validation endpoint.  Properties which were not requested are null.
+ */
+public class MatrixValidationResult {
+    private String name = null;
+    private Integer rank = null;
+    private Boolean positiveDefinite = null;
+    private Boolean symmetric = null;
+    private Double conditionNumber = null;
+
+    /**
+     * Create an empty result for the named matrix
+     * @param name matrix name
+     */
+    public MatrixValidationResult(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public Boolean getPositiveDefinite() {
+        return positiveDefinite;
+    }
+
+    public void setPositiveDefinite(Boolean positiveDefinite) {
+        this.positiveDefinite = positiveDefinite;
+    }
+
+    public Boolean getSymmetric() {
+        return symmetric;
+    }
+
+    public void setSymmetric(Boolean symmetric) {
+        this.symmetric = symmetric;
+    }
+
+    public Double getConditionNumber() {
+        return conditionNumber;
+    }
+
+    public void setConditionNumber(Double conditionNumber) {
+        this.conditionNumber = conditionNumber;
+    }
+}
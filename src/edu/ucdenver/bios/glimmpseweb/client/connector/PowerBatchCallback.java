@@ -0,0 +1,52 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.List;
+
+import edu.ucdenver.bios.webservice.common.domain.PowerResult;
+
+/**
+ * Callback for power or sample size requests which are split into
+ * batches.  Results are reported as each batch returns.
+ */
+public interface PowerBatchCallback {
+    /**
+     * Called as each batch returns successfully
+     * @param results results for the batch
+     * @param completed number of batches which have returned
+     * @param total total number of batches
+     */
+    public void onBatchResults(List<PowerResult> results, int completed, int total);
+
+    /**
+     * Called if a batch fails
+     * @param message error message or response text
+     */
+    public void onBatchFailure(String message);
+
+    /**
+     * Called once all batches have returned
+     * @param failures number of batches which failed
+     */
+    public void onComplete(int failures);
+}
@@ -0,0 +1,98 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+/**
+ * Points of a single power curve data series, in the order they are
+ * drawn.  Confidence limits, when present, are aligned with the main
+ * series (one lower and upper limit per point).
+ */
+public class PowerCurveSeries {
+    // legend label
+    private String label;
+    // line style as "thickness,dash,space"
+    private String lineStyle;
+    // horizontal axis values
+    private double[] x;
+    // power values
+    private double[] power;
+    // confidence limits, or null if not displayed
+    private double[] lower;
+    private double[] upper;
+
+    /**
+     * Create a data series
+     * @param label legend label
+     * @param lineStyle line style as "thickness,dash,space"
+     * @param x horizontal axis values
+     * @param power power values
+     * @param lower lower confidence limits, or null
+     * @param upper upper confidence limits, or null
+     */
+    public PowerCurveSeries(String label, String lineStyle, double[] x, 
+            double[] power, double[] lower, double[] upper) {
+        this.label = label;
+        this.lineStyle = lineStyle;
+        this.x = x;
+        this.power = power;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getLineStyle() {
+        return lineStyle;
+    }
+
+    /**
+     * Get the number of points in the series
+     */
+    public int size() {
+        return x.length;
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getPower(int index) {
+        return power[index];
+    }
+
+    /**
+     * Returns true if the series has confidence limits
+     */
+    public boolean hasConfidenceLimits() {
+        return lower != null && upper != null;
+    }
+
+    public double getLower(int index) {
+        return lower[index];
+    }
+
+    public double getUpper(int index) {
+        return upper[index];
+    }
+}
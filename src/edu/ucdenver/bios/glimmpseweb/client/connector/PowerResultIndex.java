@@ -0,0 +1,239 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+import edu.ucdenver.bios.webservice.common.domain.PowerCurveDataSeries;
+import edu.ucdenver.bios.webservice.common.domain.PowerResult;
+import edu.ucdenver.bios.webservice.common.enums.HorizontalAxisLabelEnum;
+import edu.ucdenver.bios.webservice.common.enums.PowerMethodEnum;
+
+/**
+ * Power results grouped by the values which identify a power curve
+ * data series, excluding the horizontal axis variable, so each series
+ * can look up its points directly rather than scanning every result.
+ * <p>
+ * A result belongs to a series when the sample size, beta scale, 
+ * sigma scale, test, alpha, power method and quantile match, excluding
+ * the horizontal axis variable.  Conditional power results match any
+ * power method, and results without a quantile match any quantile, so
+ * those values are indexed as wildcards.  Results with a missing value,
+ * including a missing horizontal axis value, match no series.  Numbers
+ * are compared as with ==, so 0.0 and -0.0 are equal and NaN matches
+ * nothing.
+ */
+public class PowerResultIndex {
+    // key token which matches any value
+    private static final String ANY_VALUE = "*";
+    private static final String KEY_DELIM = "|";
+
+    private HorizontalAxisLabelEnum axisType;
+    private ArrayList<PowerResult> results = new ArrayList<PowerResult>();
+    // positions in the result list, grouped by series key
+    private HashMap<String, List<Integer>> index = new HashMap<String, List<Integer>>();
+
+    /**
+     * Group the results by series key
+     * @param resultList power results
+     * @param axisType horizontal axis variable
+     */
+    public PowerResultIndex(List<PowerResult> resultList, 
+            HorizontalAxisLabelEnum axisType) {
+        this.axisType = axisType;
+        if (resultList == null) {
+            return;
+        }
+        for(PowerResult result: resultList) {
+            results.add(result);
+            String powerMethod;
+            if (result.getPowerMethod() == null) {
+                powerMethod = null;
+            } else if (result.getPowerMethod().getPowerMethodEnum() == PowerMethodEnum.CONDITIONAL) {
+                powerMethod = ANY_VALUE;
+            } else {
+                powerMethod = String.valueOf(result.getPowerMethod().getPowerMethodEnum());
+            }
+            String key = buildKey(toKey(result.getTotalSampleSize()),
+                    (result.getBetaScale() != null ? 
+                            toKey(result.getBetaScale().getValue()) : null),
+                    (result.getSigmaScale() != null ? 
+                            toKey(result.getSigmaScale().getValue()) : null),
+                    (result.getTest() != null ? String.valueOf(result.getTest().getType()) : null),
+                    (result.getAlpha() != null ? 
+                            toKey(result.getAlpha().getAlphaValue()) : null),
+                    powerMethod,
+                    (result.getQuantile() != null ? 
+                            toKey(result.getQuantile().getValue()) : ANY_VALUE));
+            if (key == null || !hasXValue(result)) {
+                // missing values never match a data series
+                continue;
+            }
+            List<Integer> bucket = index.get(key);
+            if (bucket == null) {
+                bucket = new ArrayList<Integer>();
+                index.put(key, bucket);
+            }
+            bucket.add(results.size() - 1);
+        }
+    }
+
+    /**
+     * Find the results for the specified data series, sorted by the
+     * horizontal axis value.  Results with equal axis values are kept
+     * in the order of the result list.
+     * @param dataSeries data series description
+     * @return matching results
+     */
+    public List<PowerResult> getSeriesResults(PowerCurveDataSeries dataSeries) {
+        String sampleSize = toKey(dataSeries.getSampleSize());
+        String betaScale = toKey(dataSeries.getBetaScale());
+        String sigmaScale = toKey(dataSeries.getSigmaScale());
+        String test = String.valueOf(dataSeries.getStatisticalTestTypeEnum());
+        String alpha = toKey(dataSeries.getTypeIError());
+        String[] powerMethods = {String.valueOf(dataSeries.getPowerMethod()), ANY_VALUE};
+        String[] quantiles = {toKey(dataSeries.getQuantile()), ANY_VALUE};
+
+        ArrayList<Integer> positions = new ArrayList<Integer>();
+        for(String powerMethod: powerMethods) {
+            for(String quantile: quantiles) {
+                String key = buildKey(sampleSize, betaScale, sigmaScale, test, alpha, 
+                        powerMethod, quantile);
+                List<Integer> bucket = (key != null ? index.get(key) : null);
+                if (bucket != null) {
+                    positions.addAll(bucket);
+                }
+            }
+        }
+        Collections.sort(positions, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer position1, Integer position2) {
+                double x1 = getXValue(results.get(position1), axisType);
+                double x2 = getXValue(results.get(position2), axisType);
+                if (x1 < x2) {
+                    return -1;
+                } else if (x1 > x2) {
+                    return 1;
+                }
+                return position1.compareTo(position2);
+            }
+        });
+        ArrayList<PowerResult> matches = new ArrayList<PowerResult>(positions.size());
+        for(Integer position: positions) {
+            matches.add(results.get(position));
+        }
+        return matches;
+    }
+
+    /**
+     * Get the horizontal axis value for the result
+     * @param result power result
+     * @param axisType horizontal axis variable
+     * @return axis value
+     */
+    public static double getXValue(PowerResult result, HorizontalAxisLabelEnum axisType) {
+        switch(axisType)
+        {
+        case TOTAL_SAMPLE_SIZE:
+            return result.getTotalSampleSize();
+        case REGRESSION_COEEFICIENT_SCALE_FACTOR:
+            return result.getBetaScale().getValue();
+        case VARIABILITY_SCALE_FACTOR:
+            return result.getSigmaScale().getValue();
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Check if the result has a horizontal axis value which can be plotted
+     * @param result power result
+     * @return true if the value is present and not NaN
+     */
+    private boolean hasXValue(PowerResult result) {
+        switch(axisType)
+        {
+        case REGRESSION_COEEFICIENT_SCALE_FACTOR:
+            return (result.getBetaScale() != null && 
+                    !Double.isNaN(result.getBetaScale().getValue()));
+        case VARIABILITY_SCALE_FACTOR:
+            return (result.getSigmaScale() != null && 
+                    !Double.isNaN(result.getSigmaScale().getValue()));
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Convert a number to a key value which is equal for numbers 
+     * equal under ==
+     * @return key value, or null for NaN
+     */
+    private static String toKey(double value) {
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        // fold -0.0 into 0.0
+        return String.valueOf(value == 0 ? 0.0 : value);
+    }
+
+    /**
+     * Build the key identifying a data series.  The value for the 
+     * horizontal axis variable is left out.
+     * @return the key, or null if a required value is missing
+     */
+    private String buildKey(String sampleSize, String betaScale, String sigmaScale, 
+            String test, String alpha, String powerMethod, String quantile) {
+        if (axisType == null) {
+            return null;
+        }
+        switch(axisType)
+        {
+        case TOTAL_SAMPLE_SIZE:
+            sampleSize = ANY_VALUE;
+            break;
+        case REGRESSION_COEEFICIENT_SCALE_FACTOR:
+            betaScale = ANY_VALUE;
+            break;
+        case VARIABILITY_SCALE_FACTOR:
+            sigmaScale = ANY_VALUE;
+            break;
+        }
+        if (sampleSize == null || betaScale == null || sigmaScale == null || 
+                test == null || alpha == null || powerMethod == null || quantile == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder();
+        key.append(sampleSize).append(KEY_DELIM);
+        key.append(betaScale).append(KEY_DELIM);
+        key.append(sigmaScale).append(KEY_DELIM);
+        key.append(test).append(KEY_DELIM);
+        key.append(alpha).append(KEY_DELIM);
+        key.append(powerMethod).append(KEY_DELIM);
+        key.append(quantile);
+        return key.toString();
+    }
+}
@@ -1,179 +1,760 @@
-/*
- * User Interface for the GLIMMPSE Software System.  Allows
- * users to perform power, sample size, and detectable difference
- * calculations. 
- * 
- * Copyright (C) 2010 Regents of the University of Colorado.  
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the GNU General Public License
- * as published by the Free Software Foundation; either version 2
- * of the License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with this program; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
- */
-package edu.ucdenver.bios.glimmpseweb.client.connector;
-
-import java.util.List;
-
-import com.google.gwt.http.client.RequestBuilder;
-import com.google.gwt.http.client.RequestCallback;
-import com.google.gwt.http.client.RequestException;
-import com.google.gwt.user.client.Window;
-import com.google.gwt.user.client.ui.Composite;
-import com.google.gwt.user.client.ui.FormPanel;
-import com.google.gwt.user.client.ui.FormPanel.SubmitEvent;
-import com.google.gwt.user.client.ui.FormPanel.SubmitHandler;
-import com.google.gwt.user.client.ui.Hidden;
-import com.google.gwt.user.client.ui.VerticalPanel;
-
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
-import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
-import edu.ucdenver.bios.webservice.common.domain.PowerResult;
-import edu.ucdenver.bios.webservice.common.domain.StudyDesign;
-
-public class PowerSvcConnector extends Composite {
-    
-    private static final String MEDIA_TYPE = "application/json";
-    private static final String MATRIX_DISPLAY_WINDOW = "matrixDisplay";
-    // JSON encoder/decoder class
-    private static final DomainObjectSerializer serializer = 
-        DomainObjectSerializer.getInstance();
-    
-    // form for saving the study design
-    protected FormPanel matrixDisplayForm = 
-            new FormPanel(MATRIX_DISPLAY_WINDOW);
-    protected Hidden studyDesignHidden = new Hidden("studydesign");
-    
-    /**
-     * Create a new connector to the power service
-     */
-    public PowerSvcConnector() {
-        VerticalPanel panel = new VerticalPanel();
-        
-        // set up the form for saving study designs
-        VerticalPanel matrixFormContainer = new VerticalPanel();
-        matrixFormContainer.add(studyDesignHidden);
-        matrixDisplayForm.setAction(GlimmpseWeb.constants.powerSvcHostMatricesAsHTML());
-        matrixDisplayForm.setMethod(FormPanel.METHOD_POST);
-        matrixDisplayForm.addSubmitHandler(new SubmitHandler() {
-            @Override
-            public void onSubmit(SubmitEvent event) {
-                Window.open("", MATRIX_DISPLAY_WINDOW, 
-                        "width=600,height=500,location=no,toolbars=no,menubar=no,status=yes,resizable=yes,scrollbars=yes");
-            }  
-        });
-        matrixDisplayForm.add(matrixFormContainer);
-        panel.add(matrixDisplayForm);
-        
-        initWidget(panel);
-    }   
-    
-    /**
-     * Send a request to the power service to calculate power
-     * @param studyDesign The study design object
-     * @param callback handler for AJAX request to power service
-     */
-    public void getPower(StudyDesign studyDesign, RequestCallback callback) 
-    throws RequestException {
-
-        String entity = serializer.toJSON(studyDesign);   
-        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, GlimmpseWeb.constants.powerSvcHostPower());
-
-        builder.setHeader("Content-Type", MEDIA_TYPE);
-        builder.setHeader("Accept", MEDIA_TYPE);
-        builder.sendRequest(entity, callback);
-
-    }  
-    
-    /**
-     * Send a request to the power service to calculate power
-     * @param studyDesign The study design object
-     * @param callback handler for AJAX request to power service
-     */
-    public void getSampleSize(StudyDesign studyDesign, RequestCallback callback) 
-    throws RequestException {
-
-        String entity = serializer.toJSON(studyDesign);   
-        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, GlimmpseWeb.constants.powerSvcHostSampleSize());
-
-        builder.setHeader("Content-Type", MEDIA_TYPE);
-        builder.setHeader("Accept", MEDIA_TYPE);
-        builder.sendRequest(entity, callback);
-
-    }  
-    
-    /**
-     * Send a request to the power service to calculate power
-     * @param studyDesign The study design object
-     * @param callback handler for AJAX request to power service
-     */
-    public void getMatrices(StudyDesign studyDesign, RequestCallback callback) 
-    throws RequestException {
-
-        String entity = serializer.toJSON(studyDesign);   
-        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, GlimmpseWeb.constants.powerSvcHostMatrices());
-
-        builder.setHeader("Content-Type", MEDIA_TYPE);
-        builder.setHeader("Accept", MEDIA_TYPE);
-        builder.sendRequest(entity, callback);
-    }  
-    
-    /**
-     * Send a request to the power service to calculate power
-     * @param studyDesign The study design object
-     * @param callback handler for AJAX request to power service
-     */
-    public void getMatricesAsHTML(StudyDesign studyDesign, RequestCallback callback) 
-    throws RequestException {
-
-        String entity = serializer.toJSON(studyDesign);   
-        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, 
-                GlimmpseWeb.constants.powerSvcHostMatricesAsHTML());
-
-        builder.setHeader("Content-Type", MEDIA_TYPE);
-        builder.setHeader("Accept", MEDIA_TYPE);
-        builder.sendRequest(entity, callback);
-    } 
-    
-    /**
-     * Send a form request to the power service to display the
-     * matrices associated with the study design.
-     * @param studyDesign The study design object
-     */
-    public void getMatricesAsHTML(StudyDesign studyDesign) {
-        if (studyDesign != null) {
-            String jsonEncoded = serializer.toJSON(studyDesign);
-            studyDesignHidden.setValue(jsonEncoded);
-            matrixDisplayForm.submit();
-        }
-        matrixDisplayForm.reset();
-    } 
-    
-    /**
-     * Parse an entity body into a power result list
-     * @param entity JSON encoded entity body
-     * @return list of PowerResult objects
-     */
-    public List<PowerResult> parsePowerResultList(String entity) {
-        return serializer.powerResultListFromJSON(entity);
-    }
-    
-    /**
-     * Parse an entity body into a list of power matrices
-     * @param entity JSON encoded entity body
-     * @return NamedMatrix list
-     */
-    public List<NamedMatrix> parseMatrixList(String entity) {
-        return serializer.matrixListFromJSON(entity);
-    }
-    
-    
-}
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations. 
+ * 
+ * Copyright (C) 2010 Regents of the University of Colorado.  
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.ui.Composite;
+import com.google.gwt.user.client.ui.FormPanel;
+import com.google.gwt.user.client.ui.FormPanel.SubmitEvent;
+import com.google.gwt.user.client.ui.FormPanel.SubmitHandler;
+import com.google.gwt.user.client.ui.Hidden;
+import com.google.gwt.user.client.ui.VerticalPanel;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
+import edu.ucdenver.bios.webservice.common.domain.PowerResult;
+import edu.ucdenver.bios.webservice.common.domain.StudyDesign;
+import edu.ucdenver.bios.webservice.common.enums.SolutionTypeEnum;
+
+public class PowerSvcConnector extends Composite {
+    
+    private static final String MEDIA_TYPE = "application/json";
+    private static final String MATRIX_DISPLAY_WINDOW = "matrixDisplay";
+    // status returned when the service does not accept the entity encoding
+    private static final int SC_UNSUPPORTED_MEDIA_TYPE = 415;
+    // JSON encoder/decoder class
+    private static final DomainObjectSerializer serializer = 
+        DomainObjectSerializer.getInstance();
+    // request measurements
+    private static final RequestMetrics metrics = RequestMetrics.getInstance();
+    
+    // form for saving the study design
+    protected FormPanel matrixDisplayForm = 
+            new FormPanel(MATRIX_DISPLAY_WINDOW);
+    protected Hidden studyDesignHidden = new Hidden("studydesign");
+    // if true, matrices are sent in the compact binary encoding once
+    // the power service advertises support for it
+    protected boolean compactMatrixEncoding = 
+        GlimmpseWeb.constants.powerSvcCompactMatrixEncoding();
+    // true if the power service has advertised the compact encoding
+    protected boolean compactMatrixEncodingSupported = false;
+    // cached power and sample size results
+    protected ResponseCache<List<PowerResult>> resultCache = 
+        new ResponseCache<List<PowerResult>>();
+    // cached matrix results
+    protected ResponseCache<List<NamedMatrix>> matrixCache = 
+        new ResponseCache<List<NamedMatrix>>();
+    
+    // latest generation number for each logical operation
+    private HashMap<String, Integer> generations = new HashMap<String, Integer>();
+    // outstanding request for each logical operation
+    private HashMap<String, Cancellable> outstanding = 
+        new HashMap<String, Cancellable>();
+    // maximum number of batches in flight for a batched request
+    protected int batchParallelism = 2;
+    
+    /**
+     * Outstanding work for a logical operation which may be superseded
+     */
+    private interface Cancellable {
+        public void cancel();
+    }
+    
+    /**
+     * Converts a response entity into a result object
+     */
+    private interface ResponseParser<T> {
+        public T parse(String entity);
+    }
+    
+    /**
+     * Callback for a request issued on behalf of a logical operation.
+     * Results are only passed on if no newer request has been issued
+     * for the same operation.
+     */
+    private class OperationCallback<T> implements ServiceCallback<T>, Cancellable {
+        private String operation;
+        private int generation;
+        private String key;
+        private ResponseCache<T> cache;
+        private ServiceCallback<T> callback;
+        
+        public OperationCallback(String operation, int generation, String key,
+                ResponseCache<T> cache, ServiceCallback<T> callback) {
+            this.operation = operation;
+            this.generation = generation;
+            this.key = key;
+            this.cache = cache;
+            this.callback = callback;
+        }
+        
+        @Override
+        public void onSuccess(T result) {
+            if (finish()) {
+                callback.onSuccess(result);
+            }
+        }
+
+        @Override
+        public void onFailure(String message) {
+            if (finish()) {
+                callback.onFailure(message);
+            }
+        }
+        
+        /**
+         * Stop waiting on the request, cancelling it if no other
+         * callbacks are waiting
+         */
+        @Override
+        public void cancel() {
+            cache.removePending(key, this);
+        }
+        
+        /**
+         * Clear the outstanding request for the operation
+         * @return true if this request is still the current generation
+         */
+        private boolean finish() {
+            if (!isCurrent(operation, generation)) {
+                return false;
+            }
+            outstanding.remove(operation);
+            return true;
+        }
+    }
+    
+    /**
+     * A power or sample size request split into batches.  At most
+     * batchParallelism batches are in flight at once.
+     */
+    private class BatchRun implements Cancellable {
+        private String operation;
+        private int generation;
+        private String service;
+        private String url;
+        private boolean compact;
+        private List<String> entities;
+        private PowerBatchCallback callback;
+        // index of the next batch to send
+        private int nextBatch = 0;
+        // number of batches which have returned
+        private int completed = 0;
+        // number of batches which failed
+        private int failures = 0;
+        // batches in flight
+        private ArrayList<BatchPart> parts = new ArrayList<BatchPart>();
+        
+        public BatchRun(String operation, int generation, String service, String url, 
+                boolean compact, List<String> entities, PowerBatchCallback callback) {
+            this.operation = operation;
+            this.generation = generation;
+            this.service = service;
+            this.url = url;
+            this.compact = compact;
+            this.entities = entities;
+            this.callback = callback;
+        }
+        
+        /**
+         * Send batches until the parallelism limit is reached
+         */
+        public void dispatch() {
+            while (isCurrent(operation, generation) && 
+                    parts.size() < batchParallelism && nextBatch < entities.size()) {
+                String entity = entities.get(nextBatch++);
+                BatchPart part = new BatchPart(this, ResponseCache.createKey(url, entity));
+                parts.add(part);
+                // sub-designs are serialized together, so only the request is measured
+                RequestMetrics.Sample sample = metrics.startSample(service);
+                sample.setSent(RequestMetrics.getUtf8Length(entity));
+                sendKeyedRequest(part.key, url, entity, compact, 
+                        resultCache, POWER_RESULT_PARSER, part, sample);
+            }
+        }
+        
+        /**
+         * Stop waiting on all batches in flight and send no further batches
+         */
+        @Override
+        public void cancel() {
+            for(BatchPart part: new ArrayList<BatchPart>(parts)) {
+                resultCache.removePending(part.key, part);
+            }
+            parts.clear();
+        }
+        
+        /**
+         * Report a returned batch and send the next one
+         * @param part the batch
+         * @param results parsed results, or null if the batch failed
+         * @param message error message if the batch failed
+         */
+        private void finishBatch(BatchPart part, List<PowerResult> results, String message) {
+            if (!isCurrent(operation, generation)) {
+                return;
+            }
+            parts.remove(part);
+            completed++;
+            if (results != null) {
+                callback.onBatchResults(results, completed, entities.size());
+            } else {
+                failures++;
+                callback.onBatchFailure(message);
+            }
+            if (!isCurrent(operation, generation)) {
+                // superseded from within the callback
+                return;
+            }
+            if (completed == entities.size()) {
+                outstanding.remove(operation);
+                callback.onComplete(failures);
+            } else {
+                dispatch();
+            }
+        }
+    }
+    
+    /**
+     * Callback for a single batch of a batched request
+     */
+    private class BatchPart implements ServiceCallback<List<PowerResult>> {
+        private BatchRun run;
+        private String key;
+        
+        public BatchPart(BatchRun run, String key) {
+            this.run = run;
+            this.key = key;
+        }
+        
+        @Override
+        public void onSuccess(List<PowerResult> results) {
+            run.finishBatch(this, results, null);
+        }
+
+        @Override
+        public void onFailure(String message) {
+            run.finishBatch(this, null, message);
+        }
+    }
+    
+    // parser for power and sample size results
+    private static final ResponseParser<List<PowerResult>> POWER_RESULT_PARSER =
+        new ResponseParser<List<PowerResult>>() {
+        @Override
+        public List<PowerResult> parse(String entity) {
+            return serializer.powerResultListFromJSON(entity);
+        }
+    };
+    // parser for matrix results
+    private static final ResponseParser<List<NamedMatrix>> MATRIX_PARSER =
+        new ResponseParser<List<NamedMatrix>>() {
+        @Override
+        public List<NamedMatrix> parse(String entity) {
+            return serializer.matrixListFromJSON(entity);
+        }
+    };
+    
+    /**
+     * Create a new connector to the power service
+     */
+    public PowerSvcConnector() {
+        VerticalPanel panel = new VerticalPanel();
+        
+        // set up the form for saving study designs
+        VerticalPanel matrixFormContainer = new VerticalPanel();
+        matrixFormContainer.add(studyDesignHidden);
+        matrixDisplayForm.setAction(GlimmpseWeb.constants.powerSvcHostMatricesAsHTML());
+        matrixDisplayForm.setMethod(FormPanel.METHOD_POST);
+        matrixDisplayForm.addSubmitHandler(new SubmitHandler() {
+            @Override
+            public void onSubmit(SubmitEvent event) {
+                Window.open("", MATRIX_DISPLAY_WINDOW, 
+                        "width=600,height=500,location=no,toolbars=no,menubar=no,status=yes,resizable=yes,scrollbars=yes");
+            }  
+        });
+        matrixDisplayForm.add(matrixFormContainer);
+        panel.add(matrixDisplayForm);
+        
+        initWidget(panel);
+    }   
+    
+    /**
+     * Send a request to the power service to calculate power
+     * @param studyDesign The study design object
+     * @param callback handler for AJAX request to power service
+     */
+    public void getPower(StudyDesign studyDesign, RequestCallback callback) 
+    throws RequestException {
+
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.POWER);
+        String entity = serializer.toJSON(studyDesign);   
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        String url = GlimmpseWeb.constants.powerSvcHostPower();
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        builder.sendRequest(entity, metrics.wrap(sample, url, callback));
+
+    }  
+    
+    /**
+     * Send a request to the power service to calculate power
+     * @param studyDesign The study design object
+     * @param callback handler for AJAX request to power service
+     */
+    public void getSampleSize(StudyDesign studyDesign, RequestCallback callback) 
+    throws RequestException {
+
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.SAMPLE_SIZE);
+        String entity = serializer.toJSON(studyDesign);   
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        String url = GlimmpseWeb.constants.powerSvcHostSampleSize();
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        builder.sendRequest(entity, metrics.wrap(sample, url, callback));
+
+    }  
+    
+    /**
+     * Send a request to the power service to calculate power
+     * @param studyDesign The study design object
+     * @param callback handler for AJAX request to power service
+     */
+    public void getMatrices(StudyDesign studyDesign, RequestCallback callback) 
+    throws RequestException {
+
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.MATRICES);
+        String entity = serializer.toJSON(studyDesign);   
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        String url = GlimmpseWeb.constants.powerSvcHostMatrices();
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        builder.sendRequest(entity, metrics.wrap(sample, url, callback));
+    }  
+    
+    /**
+     * Calculate power for the study design.  Results for an identical
+     * design are served from the cache, and identical requests which
+     * are already in flight share a single call to the power service.
+     * @param studyDesign The study design object
+     * @param callback handler for the parsed power results
+     */
+    public void calculatePower(StudyDesign studyDesign, 
+            ServiceCallback<List<PowerResult>> callback) {
+        calculatePower(null, studyDesign, callback);
+    }
+    
+    /**
+     * Calculate power for the study design on behalf of a logical
+     * operation.  Any outstanding request for the same operation is
+     * superseded: its callback is dropped and the HTTP request is
+     * cancelled if nothing else is waiting on it.
+     * @param operation name of the operation, or null for none
+     * @param studyDesign The study design object
+     * @param callback handler for the parsed power results
+     */
+    public void calculatePower(String operation, StudyDesign studyDesign, 
+            ServiceCallback<List<PowerResult>> callback) {
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.POWER);
+        boolean compact = useCompactMatrixEncoding();
+        String entity = serializer.toJSON(studyDesign, compact);
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        sendCachedRequest(operation, GlimmpseWeb.constants.powerSvcHostPower(), entity, 
+                compact, resultCache, POWER_RESULT_PARSER, callback, sample);
+    }
+    
+    /**
+     * Calculate sample size for the study design.  Results for an identical
+     * design are served from the cache, and identical requests which
+     * are already in flight share a single call to the power service.
+     * @param studyDesign The study design object
+     * @param callback handler for the parsed sample size results
+     */
+    public void calculateSampleSize(StudyDesign studyDesign, 
+            ServiceCallback<List<PowerResult>> callback) {
+        calculateSampleSize(null, studyDesign, callback);
+    }
+    
+    /**
+     * Calculate sample size for the study design on behalf of a logical
+     * operation.  Any outstanding request for the same operation is
+     * superseded.
+     * @param operation name of the operation, or null for none
+     * @param studyDesign The study design object
+     * @param callback handler for the parsed sample size results
+     */
+    public void calculateSampleSize(String operation, StudyDesign studyDesign, 
+            ServiceCallback<List<PowerResult>> callback) {
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.SAMPLE_SIZE);
+        boolean compact = useCompactMatrixEncoding();
+        String entity = serializer.toJSON(studyDesign, compact);
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        sendCachedRequest(operation, GlimmpseWeb.constants.powerSvcHostSampleSize(), entity, 
+                compact, resultCache, POWER_RESULT_PARSER, callback, sample);
+    }
+    
+    /**
+     * Get the matrices for the study design.  Results for an identical
+     * design are served from the cache.
+     * @param studyDesign The study design object
+     * @param callback handler for the parsed matrix list
+     */
+    public void getMatrices(StudyDesign studyDesign, 
+            ServiceCallback<List<NamedMatrix>> callback) {
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.MATRICES);
+        String entity = serializer.toJSON(studyDesign);
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        sendCachedRequest(null, GlimmpseWeb.constants.powerSvcHostMatrices(), entity, 
+                false, matrixCache, MATRIX_PARSER, callback, sample);
+    }
+    
+    /**
+     * Calculate power or sample size for the study design in batches.
+     * The result grid is split along one of its list dimensions into at 
+     * most batchCount sub-designs, which are sent concurrently up to the
+     * parallelism limit.  Results are reported as each batch returns.
+     * Any outstanding request for the same operation is superseded.
+     * @param operation name of the operation
+     * @param studyDesign The study design object
+     * @param batchCount maximum number of batches
+     * @param callback handler for the batch results
+     */
+    public void calculateInBatches(String operation, StudyDesign studyDesign, 
+            int batchCount, PowerBatchCallback callback) {
+        boolean sampleSize = 
+            (studyDesign.getSolutionTypeEnum() == SolutionTypeEnum.SAMPLE_SIZE);
+        String service = (sampleSize ? RequestMetrics.SAMPLE_SIZE : RequestMetrics.POWER);
+        String url = (sampleSize ? GlimmpseWeb.constants.powerSvcHostSampleSize() :
+                    GlimmpseWeb.constants.powerSvcHostPower());
+        boolean compact = useCompactMatrixEncoding();
+        List<String> entities = StudyDesignPartitioner.partition(studyDesign, 
+                batchCount, compact);
+        int generation = cancel(operation);
+        BatchRun run = new BatchRun(operation, generation, service, url, 
+                compact, entities, callback);
+        outstanding.put(operation, run);
+        run.dispatch();
+    }
+    
+    /**
+     * Set the maximum number of batches in flight for batched requests
+     * @param parallelism maximum number of concurrent requests
+     */
+    public void setBatchParallelism(int parallelism) {
+        batchParallelism = Math.max(1, parallelism);
+    }
+    
+    /**
+     * Cancel the outstanding request for a logical operation.  The
+     * callback of the cancelled request is never called.
+     * @param operation name of the operation
+     * @return the new generation number of the operation
+     */
+    public int cancel(String operation) {
+        Cancellable previous = outstanding.remove(operation);
+        int generation = getGeneration(operation) + 1;
+        generations.put(operation, generation);
+        if (previous != null) {
+            previous.cancel();
+        }
+        return generation;
+    }
+    
+    /**
+     * Get the generation number of the latest request for a 
+     * logical operation.  The number increases each time a request
+     * for the operation is issued or cancelled.
+     * @param operation name of the operation
+     * @return generation number
+     */
+    public int getGeneration(String operation) {
+        Integer generation = generations.get(operation);
+        return (generation != null ? generation.intValue() : 0);
+    }
+    
+    /**
+     * Returns true if no request for the operation has been issued 
+     * or cancelled since the specified generation
+     * @param operation name of the operation
+     * @param generation generation number
+     */
+    public boolean isCurrent(String operation, int generation) {
+        return getGeneration(operation) == generation;
+    }
+    
+    /**
+     * Returns true if a request for the operation is in flight
+     * @param operation name of the operation
+     */
+    public boolean isOutstanding(String operation) {
+        return outstanding.containsKey(operation);
+    }
+    
+    /**
+     * Clear all cached results
+     */
+    public void clearCache() {
+        resultCache.clear();
+        matrixCache.clear();
+    }
+    
+    /**
+     * Serve the request from the cache if possible, otherwise join an
+     * identical request in flight or send a new request.  If an
+     * operation is specified, the outstanding request for the operation
+     * is superseded.
+     * @param operation name of the logical operation, or null for none
+     * @param url service URL
+     * @param entity JSON encoded entity body
+     * @param compact if true, the entity uses the compact matrix encoding
+     * @param cache cache for the endpoint
+     * @param parser parser for the response entity
+     * @param callback handler for the parsed result
+     * @param sample measurements for the request
+     */
+    private <T> void sendCachedRequest(String operation, String url, String entity, 
+            boolean compact, ResponseCache<T> cache, ResponseParser<T> parser,
+            ServiceCallback<T> callback, RequestMetrics.Sample sample) {
+        String key = ResponseCache.createKey(url, entity);
+        Cancellable previous = null;
+        if (operation != null) {
+            previous = outstanding.remove(operation);
+            int generation = getGeneration(operation) + 1;
+            generations.put(operation, generation);
+            OperationCallback<T> operationCallback = 
+                new OperationCallback<T>(operation, generation, key, cache, callback);
+            outstanding.put(operation, operationCallback);
+            callback = operationCallback;
+        }
+        try {
+            sendKeyedRequest(key, url, entity, compact, cache, parser, callback, sample);
+        } finally {
+            // release the superseded request only after joining the new one,
+            // so an identical request in flight is not cancelled and resent
+            if (previous != null) {
+                previous.cancel();
+            }
+        }
+    }
+    
+    /**
+     * Serve the request from the cache if possible, otherwise join an
+     * identical request in flight or send a new request.  Only requests
+     * which are actually sent are recorded in the request metrics.
+     * @param key cache key for the request
+     * @param url service URL
+     * @param entity JSON encoded entity body
+     * @param compact if true, the entity uses the compact matrix encoding
+     * @param cache cache for the endpoint
+     * @param parser parser for the response entity
+     * @param callback handler for the parsed result
+     * @param sample measurements for the request
+     */
+    private <T> void sendKeyedRequest(String key, String url, String entity, 
+            boolean compact, ResponseCache<T> cache, ResponseParser<T> parser,
+            ServiceCallback<T> callback, RequestMetrics.Sample sample) {
+        T cached = cache.get(key);
+        if (cached != null) {
+            callback.onSuccess(cached);
+        } else if (!cache.addPending(key, callback)) {
+            sendRequest(key, url, entity, compact, cache, parser, sample);
+        }
+    }
+    
+    /**
+     * Send a request to the power service and pass the parsed result
+     * to the callbacks waiting in the cache
+     * @param key cache key
+     * @param url service URL
+     * @param entity JSON encoded entity body
+     * @param compact if true, the entity uses the compact matrix encoding
+     * @param cache cache for the endpoint
+     * @param parser parser for the response entity
+     * @param sample measurements for the request
+     */
+    private <T> void sendRequest(final String key, final String url, final String entity, 
+            final boolean compact, final ResponseCache<T> cache, final ResponseParser<T> parser,
+            final RequestMetrics.Sample sample) {
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        if (compact) {
+            builder.setHeader(MatrixEncoding.HEADER, MatrixEncoding.BASE64_FLOAT64);
+        }
+        try {
+            Request request = builder.sendRequest(entity, metrics.wrap(sample, url, 
+                    new RequestCallback() {
+                @Override
+                public void onResponseReceived(Request request, Response response) {
+                    updateCompactMatrixEncodingSupport(response);
+                    if (compact && 
+                            response.getStatusCode() == SC_UNSUPPORTED_MEDIA_TYPE) {
+                        // the service does not accept the compact encoding, 
+                        // so resend the request with plain arrays
+                        compactMatrixEncodingSupported = false;
+                        String plainEntity = MatrixEncoding.expand(entity);
+                        RequestMetrics.Sample retrySample = 
+                            metrics.startSample(sample.getService());
+                        retrySample.setSent(RequestMetrics.getUtf8Length(plainEntity));
+                        sendRequest(key, url, plainEntity, false, cache, parser, retrySample);
+                        return;
+                    }
+                    if (response.getStatusCode() != Response.SC_OK) {
+                        cache.fail(key, response.getText());
+                        return;
+                    }
+                    T result = null;
+                    double parseStart = Duration.currentTimeMillis();
+                    try {
+                        result = parser.parse(response.getText());
+                    } catch (Exception e) {
+                        sample.setFailed();
+                        cache.fail(key, e.getMessage());
+                        return;
+                    } finally {
+                        sample.setParseTime(Duration.currentTimeMillis() - parseStart);
+                    }
+                    if (result != null) {
+                        cache.complete(key, result);
+                    } else {
+                        cache.fail(key, response.getText());
+                    }
+                }
+
+                @Override
+                public void onError(Request request, Throwable exception) {
+                    cache.fail(key, exception.getMessage());
+                }
+            }));
+            cache.setRequest(key, request);
+        } catch (RequestException e) {
+            sample.setFailed();
+            metrics.record(sample);
+            cache.fail(key, e.getMessage());
+        }
+    }
+    
+    /**
+     * Send a request to the power service to calculate power
+     * @param studyDesign The study design object
+     * @param callback handler for AJAX request to power service
+     */
+    public void getMatricesAsHTML(StudyDesign studyDesign, RequestCallback callback) 
+    throws RequestException {
+
+        RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.MATRICES);
+        String entity = serializer.toJSON(studyDesign);   
+        sample.setSerialized(RequestMetrics.getUtf8Length(entity));
+        String url = GlimmpseWeb.constants.powerSvcHostMatricesAsHTML();
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+
+        builder.setHeader("Content-Type", MEDIA_TYPE);
+        builder.setHeader("Accept", MEDIA_TYPE);
+        builder.sendRequest(entity, metrics.wrap(sample, url, callback));
+    } 
+    
+    /**
+     * Send a form request to the power service to display the
+     * matrices associated with the study design.
+     * @param studyDesign The study design object
+     */
+    public void getMatricesAsHTML(StudyDesign studyDesign) {
+        if (studyDesign != null) {
+            // the response opens in a new window, so only the request is measured
+            RequestMetrics.Sample sample = metrics.startSample(RequestMetrics.MATRICES);
+            String jsonEncoded = serializer.toJSON(studyDesign);
+            sample.setSerialized(RequestMetrics.getUtf8Length(jsonEncoded));
+            metrics.record(sample);
+            studyDesignHidden.setValue(jsonEncoded);
+            matrixDisplayForm.submit();
+        }
+        matrixDisplayForm.reset();
+    } 
+    
+    /**
+     * Enable or disable the compact binary matrix encoding for power
+     * and sample size requests.  The default is read from the 
+     * powerSvcCompactMatrixEncoding constant.  Even when enabled, 
+     * matrices are only compacted after a response from the power 
+     * service lists the encoding in the MatrixEncoding.HEADER header.
+     * @param compact if true, send base64 encoded float64 matrices
+     */
+    public void setCompactMatrixEncoding(boolean compact) {
+        compactMatrixEncoding = compact;
+    }
+    
+    /**
+     * Returns true if the next power or sample size request should
+     * use the compact matrix encoding
+     */
+    private boolean useCompactMatrixEncoding() {
+        return compactMatrixEncoding && compactMatrixEncodingSupported;
+    }
+    
+    /**
+     * Record whether the power service accepts the compact matrix 
+     * encoding, based on the MatrixEncoding.HEADER response header.
+     * @param response response from the power service
+     */
+    private void updateCompactMatrixEncodingSupport(Response response) {
+        if (response.getStatusCode() == Response.SC_OK) {
+            compactMatrixEncodingSupported = 
+                MatrixEncoding.isSupported(response.getHeader(MatrixEncoding.HEADER));
+        }
+    }
+    
+    /**
+     * Parse an entity body into a power result list
+     * @param entity JSON encoded entity body
+     * @return list of PowerResult objects
+     */
+    public List<PowerResult> parsePowerResultList(String entity) {
+        return serializer.powerResultListFromJSON(entity);
+    }
+    
+    /**
+     * Parse an entity body into a list of power matrices
+     * @param entity JSON encoded entity body
+     * @return NamedMatrix list
+     */
+    public List<NamedMatrix> parseMatrixList(String entity) {
+        return serializer.matrixListFromJSON(entity);
+    }
+    
+    
+}
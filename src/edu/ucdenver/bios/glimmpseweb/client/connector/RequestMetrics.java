@@ -0,0 +1,593 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.Window.ClosingEvent;
+import com.google.gwt.user.client.Window.ClosingHandler;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+
+/**
+ * Records timing and size measurements for requests to the web services.
+ * Each request is described by a Sample which holds the serialization time,
+ * request size, time to first byte, total latency, response size and
+ * parse time.  Rolling percentiles are kept for the most recent requests
+ * to each service.  If a collector URL is configured, samples are also
+ * posted to the collector in small batches.
+ * <p>
+ * Time to first byte is read from the browser's resource timing entries
+ * and is unavailable in browsers without the resource timing API.  Each
+ * sample uses the first entry for its URL which started after the
+ * request was sent.  The resource timing buffer is cleared when it
+ * fills, so later requests are still measured.
+ */
+public class RequestMetrics {
+    // service names
+    public static final String POWER = "power";
+    public static final String SAMPLE_SIZE = "samplesize";
+    public static final String MATRICES = "matrices";
+    public static final String MATRIX_SERVICE = "matrix";
+    public static final String CHART = "chart";
+    public static final String FILE = "file";
+
+    // number of recent requests used for percentiles
+    public static final int WINDOW_SIZE = 200;
+    // number of samples collected before posting to the collector
+    private static final int BEACON_BATCH_SIZE = 20;
+    // value of a measurement which is unavailable
+    public static final double UNKNOWN = -1;
+    // number of resource timing entries kept by the browser
+    private static final int RESOURCE_TIMING_BUFFER_SIZE = 500;
+
+    /**
+     * Measurements recorded for each request
+     */
+    public enum Measure
+    {
+        SERIALIZE_TIME,
+        REQUEST_BYTES,
+        FIRST_BYTE_TIME,
+        TOTAL_TIME,
+        // UTF-8 size of the response entity
+        RESPONSE_BYTES,
+        PARSE_TIME
+    };
+
+    /**
+     * Measurements for a single request.  Times are in milliseconds.
+     */
+    public static class Sample {
+        private String service;
+        private double startTime;
+        private double sendTime = UNKNOWN;
+        // high resolution time the request was sent, comparable to
+        // the start time of the resource timing entries
+        private double timingStart;
+        private double[] values = new double[Measure.values().length];
+        private boolean failed = false;
+
+        private Sample(String service) {
+            this.service = service;
+            this.startTime = Duration.currentTimeMillis();
+            this.timingStart = getTimingNow();
+            Arrays.fill(values, UNKNOWN);
+        }
+
+        /**
+         * Mark the end of serialization and the start of the request
+         * @param requestBytes UTF-8 size of the request entity or URL in bytes
+         */
+        public void setSerialized(int requestBytes) {
+            sendTime = Duration.currentTimeMillis();
+            timingStart = getTimingNow();
+            values[Measure.SERIALIZE_TIME.ordinal()] = sendTime - startTime;
+            values[Measure.REQUEST_BYTES.ordinal()] = requestBytes;
+        }
+
+        /**
+         * Mark the start of a request whose entity was serialized 
+         * elsewhere.  The serialization time is left unknown.
+         * @param requestBytes UTF-8 size of the request entity or URL in bytes
+         */
+        public void setSent(int requestBytes) {
+            sendTime = Duration.currentTimeMillis();
+            timingStart = getTimingNow();
+            values[Measure.REQUEST_BYTES.ordinal()] = requestBytes;
+        }
+
+        /**
+         * Mark the response as received
+         * @param url request URL, used to look up the time to first byte
+         * @param responseBytes size of the response in bytes, or UNKNOWN
+         */
+        public void setReceived(String url, double responseBytes) {
+            double now = Duration.currentTimeMillis();
+            values[Measure.TOTAL_TIME.ordinal()] = 
+                now - (sendTime != UNKNOWN ? sendTime : startTime);
+            values[Measure.RESPONSE_BYTES.ordinal()] = responseBytes;
+            values[Measure.FIRST_BYTE_TIME.ordinal()] = getFirstByteTime(url, timingStart);
+        }
+
+        /**
+         * Record the time spent parsing the response
+         * @param parseTime time in milliseconds
+         */
+        public void setParseTime(double parseTime) {
+            values[Measure.PARSE_TIME.ordinal()] = parseTime;
+        }
+
+        /**
+         * Mark the request as failed
+         */
+        public void setFailed() {
+            failed = true;
+        }
+
+        public String getService() {
+            return service;
+        }
+
+        public double get(Measure measure) {
+            return values[measure.ordinal()];
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+    }
+
+    /**
+     * Most recent values of a measurement
+     */
+    private static class RollingWindow {
+        private double[] values = new double[WINDOW_SIZE];
+        private int count = 0;
+        private int next = 0;
+
+        public void add(double value) {
+            values[next] = value;
+            next = (next + 1) % WINDOW_SIZE;
+            if (count < WINDOW_SIZE) {
+                count++;
+            }
+        }
+
+        public int size() {
+            return count;
+        }
+
+        public double getPercentile(double percentile) {
+            if (count == 0) {
+                return UNKNOWN;
+            }
+            double[] sorted = new double[count];
+            System.arraycopy(values, 0, sorted, 0, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+    }
+
+    /**
+     * Statistics for a single service
+     */
+    private static class ServiceStats {
+        private RollingWindow[] windows = new RollingWindow[Measure.values().length];
+        private int requestCount = 0;
+        private int failureCount = 0;
+
+        public ServiceStats() {
+            for(int i = 0; i < windows.length; i++) {
+                windows[i] = new RollingWindow();
+            }
+        }
+
+        public void add(Sample sample) {
+            requestCount++;
+            if (sample.isFailed()) {
+                failureCount++;
+            }
+            for(Measure measure: Measure.values()) {
+                double value = sample.get(measure);
+                if (value != UNKNOWN) {
+                    windows[measure.ordinal()].add(value);
+                }
+            }
+        }
+    }
+
+    // singleton instance
+    private static RequestMetrics instance = null;
+
+    // statistics by service name, in order of first use
+    private LinkedHashMap<String, ServiceStats> stats = 
+        new LinkedHashMap<String, ServiceStats>();
+    // collector URL, or null if samples are not posted
+    private String collectorUrl = null;
+    // samples waiting to be posted to the collector
+    private ArrayList<Sample> beaconQueue = new ArrayList<Sample>();
+    // true once the window closing handler is registered
+    private boolean closingHandlerAdded = false;
+
+    /**
+     * Get the shared instance
+     */
+    public static RequestMetrics getInstance() {
+        if (instance == null) {
+            instance = new RequestMetrics();
+        }
+        return instance;
+    }
+
+    private RequestMetrics() {
+        setCollectorUrl(GlimmpseWeb.constants.diagnosticsCollectorUrl());
+        initResourceTiming(RESOURCE_TIMING_BUFFER_SIZE);
+    }
+
+    /**
+     * Start measuring a request.  Call before serializing the request.
+     * @param service service name
+     * @return new sample
+     */
+    public Sample startSample(String service) {
+        return new Sample(service);
+    }
+
+    /**
+     * Wrap a request callback so the response is measured.  The sample
+     * is recorded after the callback returns, so connectors which parse
+     * the response inside the callback can set the parse time.
+     * @param sample sample for the request
+     * @param url request URL
+     * @param callback callback to wrap
+     * @return measuring callback
+     */
+    public RequestCallback wrap(final Sample sample, final String url, 
+            final RequestCallback callback) {
+        return new RequestCallback() {
+            @Override
+            public void onResponseReceived(Request request, Response response) {
+                sample.setReceived(url, getUtf8Length(response.getText()));
+                if (response.getStatusCode() != Response.SC_OK) {
+                    sample.setFailed();
+                }
+                try {
+                    callback.onResponseReceived(request, response);
+                } finally {
+                    record(sample);
+                }
+            }
+
+            @Override
+            public void onError(Request request, Throwable exception) {
+                sample.setReceived(url, UNKNOWN);
+                sample.setFailed();
+                try {
+                    callback.onError(request, exception);
+                } finally {
+                    record(sample);
+                }
+            }
+        };
+    }
+
+    /**
+     * Record a resource loaded by the browser, such as a chart image.
+     * The response size and time to first byte are read from the
+     * resource timing entries.  The response size is the decoded 
+     * body size, matching the size measured for other requests.
+     * @param sample sample for the request
+     * @param url resource URL
+     * @param success true if the resource loaded
+     */
+    public void recordResourceLoad(Sample sample, String url, boolean success) {
+        sample.setReceived(url, getResponseBytes(url, sample.timingStart));
+        if (!success) {
+            sample.setFailed();
+        }
+        record(sample);
+    }
+
+    /**
+     * Add a completed sample to the statistics
+     * @param sample the sample
+     */
+    public void record(Sample sample) {
+        ServiceStats serviceStats = stats.get(sample.getService());
+        if (serviceStats == null) {
+            serviceStats = new ServiceStats();
+            stats.put(sample.getService(), serviceStats);
+        }
+        serviceStats.add(sample);
+        if (collectorUrl != null) {
+            beaconQueue.add(sample);
+            if (beaconQueue.size() >= BEACON_BATCH_SIZE) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Get the names of services with recorded requests
+     */
+    public List<String> getServices() {
+        return new ArrayList<String>(stats.keySet());
+    }
+
+    /**
+     * Get the total number of requests recorded for a service
+     * @param service service name
+     */
+    public int getRequestCount(String service) {
+        ServiceStats serviceStats = stats.get(service);
+        return (serviceStats != null ? serviceStats.requestCount : 0);
+    }
+
+    /**
+     * Get the number of failed requests recorded for a service
+     * @param service service name
+     */
+    public int getFailureCount(String service) {
+        ServiceStats serviceStats = stats.get(service);
+        return (serviceStats != null ? serviceStats.failureCount : 0);
+    }
+
+    /**
+     * Get a percentile of a measurement over the most recent requests
+     * @param service service name
+     * @param measure the measurement
+     * @param percentile percentile between 0 and 100
+     * @return percentile value, or UNKNOWN if there are no values
+     */
+    public double getPercentile(String service, Measure measure, double percentile) {
+        ServiceStats serviceStats = stats.get(service);
+        if (serviceStats == null) {
+            return UNKNOWN;
+        }
+        return serviceStats.windows[measure.ordinal()].getPercentile(percentile);
+    }
+
+    /**
+     * Set the URL of the collector which receives the samples.
+     * @param url collector URL, or null or empty to disable
+     */
+    public void setCollectorUrl(String url) {
+        if (url == null || url.trim().isEmpty()) {
+            collectorUrl = null;
+            beaconQueue.clear();
+            return;
+        }
+        collectorUrl = url.trim();
+        if (!closingHandlerAdded) {
+            closingHandlerAdded = true;
+            Window.addWindowClosingHandler(new ClosingHandler() {
+                @Override
+                public void onWindowClosing(ClosingEvent event) {
+                    flush();
+                }
+            });
+        }
+    }
+
+    /**
+     * Post any queued samples to the collector
+     */
+    public void flush() {
+        if (collectorUrl == null || beaconQueue.isEmpty()) {
+            return;
+        }
+        StringBuilder buffer = new StringBuilder("[");
+        boolean first = true;
+        for(Sample sample: beaconQueue) {
+            if (!first) {
+                buffer.append(",");
+            }
+            first = false;
+            buffer.append("{\"service\":\"").append(sample.getService()).append("\"");
+            buffer.append(",\"failed\":").append(sample.isFailed());
+            for(Measure measure: Measure.values()) {
+                double value = sample.get(measure);
+                if (value != UNKNOWN) {
+                    buffer.append(",\"").append(measure.toString().toLowerCase());
+                    buffer.append("\":").append(Math.round(value));
+                }
+            }
+            buffer.append("}");
+        }
+        buffer.append("]");
+        beaconQueue.clear();
+
+        String entity = buffer.toString();
+        if (!sendBeacon(collectorUrl, entity)) {
+            RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, collectorUrl);
+            builder.setHeader("Content-Type", "application/json");
+            try {
+                builder.sendRequest(entity, new RequestCallback() {
+                    @Override
+                    public void onResponseReceived(Request request, Response response) {}
+                    @Override
+                    public void onError(Request request, Throwable exception) {}
+                });
+            } catch (RequestException e) {
+                // diagnostics are best effort
+            }
+        }
+    }
+
+    /**
+     * Post data with navigator.sendBeacon, which survives page unload
+     * @return false if the browser does not support beacons
+     */
+    private static native boolean sendBeacon(String url, String data) /*-{
+        var nav = $wnd.navigator;
+        if (nav && nav.sendBeacon) {
+            return nav.sendBeacon(url, data);
+        }
+        return false;
+    }-*/;
+
+    /**
+     * Enlarge the browser's resource timing buffer, and clear it when it
+     * fills so that entries for later requests are still recorded.
+     * Entries are read as soon as each response arrives, so the 
+     * cleared entries are no longer needed.
+     */
+    private static native void initResourceTiming(int bufferSize) /*-{
+        var perf = $wnd.performance;
+        if (!perf || !perf.clearResourceTimings) {
+            return;
+        }
+        if (perf.setResourceTimingBufferSize) {
+            perf.setResourceTimingBufferSize(bufferSize);
+        }
+        var onFull = function() {
+            perf.clearResourceTimings();
+        };
+        if (perf.addEventListener) {
+            perf.addEventListener("resourcetimingbufferfull", onFull);
+        } else {
+            perf.onresourcetimingbufferfull = onFull;
+        }
+    }-*/;
+
+    /**
+     * Get the current high resolution time on the same clock as the
+     * resource timing entries
+     * @return time in milliseconds, or UNKNOWN
+     */
+    private static native double getTimingNow() /*-{
+        var perf = $wnd.performance;
+        return (perf && perf.now ? perf.now() : -1);
+    }-*/;
+
+    /**
+     * Find the resource timing entry for a request to the URL.  Entries
+     * for earlier requests to the same URL are skipped by taking the
+     * first entry which started at or after the time the request was
+     * sent.
+     * @param url request URL
+     * @param timingStart high resolution time the request was sent
+     * @return timing entry, or null if none matches
+     */
+    private static native JavaScriptObject getTimingEntry(String url, 
+            double timingStart) /*-{
+        var perf = $wnd.performance;
+        if (!perf || !perf.getEntriesByName || timingStart < 0) {
+            return null;
+        }
+        var link = $doc.createElement("a");
+        link.href = url;
+        var entries = perf.getEntriesByName(link.href);
+        if (!entries) {
+            return null;
+        }
+        for (var i = 0; i < entries.length; i++) {
+            if (entries[i].startTime >= timingStart) {
+                return entries[i];
+            }
+        }
+        return null;
+    }-*/;
+
+    private static native double getEntryValue(
+            JavaScriptObject entry, String property) /*-{
+        var value = entry[property];
+        return (typeof value == "number" ? value : -1);
+    }-*/;
+
+    /**
+     * Get the time to first byte from the resource timing entries
+     * @param url request URL
+     * @param timingStart high resolution time the request was sent
+     * @return time in milliseconds, or UNKNOWN
+     */
+    private static double getFirstByteTime(String url, double timingStart) {
+        JavaScriptObject entry = getTimingEntry(url, timingStart);
+        if (entry == null) {
+            return UNKNOWN;
+        }
+        double requestStart = getEntryValue(entry, "requestStart");
+        double responseStart = getEntryValue(entry, "responseStart");
+        if (requestStart <= 0 || responseStart < requestStart) {
+            // timing details are hidden for cross origin requests
+            return UNKNOWN;
+        }
+        return responseStart - requestStart;
+    }
+
+    /**
+     * Get the decoded response size from the resource timing entries
+     * @param url request URL
+     * @param timingStart high resolution time the request was sent
+     * @return size in bytes, or UNKNOWN
+     */
+    private static double getResponseBytes(String url, double timingStart) {
+        JavaScriptObject entry = getTimingEntry(url, timingStart);
+        if (entry == null) {
+            return UNKNOWN;
+        }
+        double size = getEntryValue(entry, "decodedBodySize");
+        return (size > 0 ? size : UNKNOWN);
+    }
+
+    /**
+     * Get the number of bytes in the UTF-8 encoding of the text
+     * @param text response text
+     * @return size in bytes
+     */
+    static int getUtf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int length = 0;
+        int count = text.length();
+        for(int i = 0; i < count; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (c >= 0xD800 && c <= 0xDBFF && i + 1 < count &&
+                    text.charAt(i + 1) >= 0xDC00 && text.charAt(i + 1) <= 0xDFFF) {
+                // a surrogate pair encodes a single 4 byte character
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gwt.http.client.Request;
+
+/**
+ * Bounded least recently used cache of parsed web service responses.
+ * Entries are keyed by the request URL and a hash of the entity body,
+ * so identical requests map to the same entry regardless of which
+ * StudyDesign object produced them.  Also tracks requests which are
+ * in flight so that identical concurrent requests share a single
+ * HTTP call.
+ * @param <T> type of the parsed response
+ */
+public class ResponseCache<T> {
+    // default number of cached responses
+    public static final int DEFAULT_CAPACITY = 16;
+
+    // cached responses, least recently used first
+    private LinkedHashMap<String, T> entries;
+    // callbacks waiting on requests which are in flight
+    private HashMap<String, ArrayList<ServiceCallback<T>>> pending =
+        new HashMap<String, ArrayList<ServiceCallback<T>>>();
+    // HTTP requests which are in flight
+    private HashMap<String, Request> requests = new HashMap<String, Request>();
+
+    /**
+     * Create a cache with the default capacity
+     */
+    public ResponseCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a cache which holds at most the specified number of responses
+     * @param capacity maximum number of entries
+     */
+    public ResponseCache(final int capacity) {
+        entries = new LinkedHashMap<String, T>(capacity, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Build the cache key for a request
+     * @param url request URL
+     * @param entity entity body
+     * @return cache key
+     */
+    public static String createKey(String url, String entity) {
+        // combine two independent 32-bit hashes with the length to keep
+        // collisions negligible without holding the full entity in memory
+        int fnv = 0x811c9dc5;
+        int length = entity.length();
+        for(int i = 0; i < length; i++) {
+            fnv ^= entity.charAt(i);
+            // multiply by the FNV prime using shifts, which stay exact
+            // when compiled to javascript
+            fnv += (fnv << 1) + (fnv << 4) + (fnv << 7) + (fnv << 8) + (fnv << 24);
+        }
+        return url + "#" + length + ":" + Integer.toHexString(entity.hashCode()) +
+            ":" + Integer.toHexString(fnv);
+    }
+
+    /**
+     * Get a cached response
+     * @param key cache key
+     * @return parsed response, or null if not cached
+     */
+    public T get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Store a parsed response
+     * @param key cache key
+     * @param value parsed response
+     */
+    public void put(String key, T value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Register a callback for the specified request.
+     * @param key cache key
+     * @param callback callback to notify when the request completes
+     * @return true if a request with the same key is already in flight,
+     * in which case the caller should not send a new request
+     */
+    public boolean addPending(String key, ServiceCallback<T> callback) {
+        ArrayList<ServiceCallback<T>> callbacks = pending.get(key);
+        if (callbacks != null) {
+            callbacks.add(callback);
+            return true;
+        }
+        callbacks = new ArrayList<ServiceCallback<T>>();
+        callbacks.add(callback);
+        pending.put(key, callbacks);
+        return false;
+    }
+
+    /**
+     * Store the HTTP request handle for a request in flight so it can
+     * be cancelled once no callbacks are waiting on it
+     * @param key cache key
+     * @param request request handle
+     */
+    public void setRequest(String key, Request request) {
+        if (pending.containsKey(key)) {
+            requests.put(key, request);
+        }
+    }
+
+    /**
+     * Remove a waiting callback.  If no other callbacks are waiting on
+     * the request, the HTTP request is cancelled.
+     * @param key cache key
+     * @param callback callback to remove
+     */
+    public void removePending(String key, ServiceCallback<T> callback) {
+        ArrayList<ServiceCallback<T>> callbacks = pending.get(key);
+        if (callbacks == null || !callbacks.remove(callback)) {
+            return;
+        }
+        if (callbacks.isEmpty()) {
+            pending.remove(key);
+            Request request = requests.remove(key);
+            if (request != null) {
+                request.cancel();
+            }
+        }
+    }
+
+    /**
+     * Returns true if a request with the specified key is in flight
+     * @param key cache key
+     */
+    public boolean isPending(String key) {
+        return pending.containsKey(key);
+    }
+
+    /**
+     * Cache the result of a successful request and notify all waiting callbacks
+     * @param key cache key
+     * @param result parsed response
+     */
+    public void complete(String key, T result) {
+        put(key, result);
+        requests.remove(key);
+        ArrayList<ServiceCallback<T>> callbacks = pending.remove(key);
+        if (callbacks != null) {
+            for(ServiceCallback<T> callback: callbacks) {
+                callback.onSuccess(result);
+            }
+        }
+    }
+
+    /**
+     * Notify all waiting callbacks that the request failed.  Nothing is cached.
+     * @param key cache key
+     * @param message error message
+     */
+    public void fail(String key, String message) {
+        requests.remove(key);
+        ArrayList<ServiceCallback<T>> callbacks = pending.remove(key);
+        if (callbacks != null) {
+            for(ServiceCallback<T> callback: callbacks) {
+                callback.onFailure(message);
+            }
+        }
+    }
+
+    /**
+     * Remove all cached responses.  Requests in flight are not affected.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get the number of cached responses
+     * @return number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+}
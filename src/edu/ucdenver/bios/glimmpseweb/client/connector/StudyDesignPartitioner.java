@@ -0,0 +1,206 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.ucdenver.bios.webservice.common.domain.BetaScale;
+import edu.ucdenver.bios.webservice.common.domain.NominalPower;
+import edu.ucdenver.bios.webservice.common.domain.SampleSize;
+import edu.ucdenver.bios.webservice.common.domain.SigmaScale;
+import edu.ucdenver.bios.webservice.common.domain.StudyDesign;
+import edu.ucdenver.bios.webservice.common.domain.TypeIError;
+import edu.ucdenver.bios.webservice.common.enums.SolutionTypeEnum;
+
+/**
+ * Splits the result grid of a study design into sub-designs which
+ * can be sent to the power service as separate requests.  The grid
+ * is the Cartesian product of the alpha, scale factor, sample size or
+ * nominal power, test, power method and quantile lists, and is 
+ * partitioned along the longest of the alpha, scale factor and
+ * sample size / nominal power lists.
+ */
+public class StudyDesignPartitioner {
+    // JSON encoder
+    private static final DomainObjectSerializer serializer = 
+        DomainObjectSerializer.getInstance();
+
+    /**
+     * A list valued property of the study design which contributes
+     * a dimension to the result grid
+     */
+    private static abstract class GridDimension<T> {
+        public abstract List<T> getList(StudyDesign design);
+        public abstract void setList(StudyDesign design, List<T> list);
+
+        public int size(StudyDesign design) {
+            List<T> list = getList(design);
+            return (list != null ? list.size() : 0);
+        }
+
+        /**
+         * Serialize one sub-design per batch.  The list is temporarily
+         * replaced in the study design and restored before returning.
+         * @param design the study design
+         * @param batchCount number of batches, at most the list size
+         * @param compact if true, use the compact matrix encoding
+         * @return list of JSON encoded sub-designs
+         */
+        public List<String> split(StudyDesign design, int batchCount, boolean compact) {
+            List<T> list = getList(design);
+            int size = list.size();
+            ArrayList<String> entities = new ArrayList<String>(batchCount);
+            try {
+                for(int batch = 0; batch < batchCount; batch++) {
+                    int start = batch * size / batchCount;
+                    int end = (batch + 1) * size / batchCount;
+                    setList(design, new ArrayList<T>(list.subList(start, end)));
+                    entities.add(serializer.toJSON(design, compact));
+                }
+            } finally {
+                setList(design, list);
+            }
+            return entities;
+        }
+    }
+
+    private static final GridDimension<TypeIError> ALPHA = 
+        new GridDimension<TypeIError>() {
+        public List<TypeIError> getList(StudyDesign design) {
+            return design.getAlphaList();
+        }
+        public void setList(StudyDesign design, List<TypeIError> list) {
+            design.setAlphaList(list);
+        }
+    };
+
+    private static final GridDimension<BetaScale> BETA_SCALE = 
+        new GridDimension<BetaScale>() {
+        public List<BetaScale> getList(StudyDesign design) {
+            return design.getBetaScaleList();
+        }
+        public void setList(StudyDesign design, List<BetaScale> list) {
+            design.setBetaScaleList(list);
+        }
+    };
+
+    private static final GridDimension<SigmaScale> SIGMA_SCALE = 
+        new GridDimension<SigmaScale>() {
+        public List<SigmaScale> getList(StudyDesign design) {
+            return design.getSigmaScaleList();
+        }
+        public void setList(StudyDesign design, List<SigmaScale> list) {
+            design.setSigmaScaleList(list);
+        }
+    };
+
+    private static final GridDimension<SampleSize> SAMPLE_SIZE = 
+        new GridDimension<SampleSize>() {
+        public List<SampleSize> getList(StudyDesign design) {
+            return design.getSampleSizeList();
+        }
+        public void setList(StudyDesign design, List<SampleSize> list) {
+            design.setSampleSizeList(list);
+        }
+    };
+
+    private static final GridDimension<NominalPower> NOMINAL_POWER = 
+        new GridDimension<NominalPower>() {
+        public List<NominalPower> getList(StudyDesign design) {
+            return design.getNominalPowerList();
+        }
+        public void setList(StudyDesign design, List<NominalPower> list) {
+            design.setNominalPowerList(list);
+        }
+    };
+
+    /**
+     * Estimate the number of results the power service will return
+     * for the study design
+     * @param design the study design
+     * @return product of the list sizes
+     */
+    public static int estimateResultCount(StudyDesign design) {
+        int count = Math.max(1, ALPHA.size(design)) *
+            Math.max(1, BETA_SCALE.size(design)) * 
+            Math.max(1, SIGMA_SCALE.size(design)) *
+            Math.max(1, getSolvingDimension(design).size(design));
+        if (design.getStatisticalTestList() != null) {
+            count *= Math.max(1, design.getStatisticalTestList().size());
+        }
+        if (design.isGaussianCovariate()) {
+            if (design.getPowerMethodList() != null) {
+                count *= Math.max(1, design.getPowerMethodList().size());
+            }
+            if (design.getQuantileList() != null) {
+                count *= Math.max(1, design.getQuantileList().size());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Serialize the study design as a list of sub-designs whose result
+     * grids together cover the grid of the full design.
+     * @param design the study design
+     * @param batchCount maximum number of sub-designs
+     * @param compact if true, use the compact matrix encoding
+     * @return list of JSON encoded sub-designs.  Contains only the full
+     * design if no list is long enough to split.
+     */
+    public static List<String> partition(StudyDesign design, int batchCount, 
+            boolean compact) {
+        GridDimension<?> longest = null;
+        int longestSize = 0;
+        GridDimension<?>[] dimensions = {
+                ALPHA, BETA_SCALE, SIGMA_SCALE, getSolvingDimension(design)
+        };
+        for(GridDimension<?> dimension: dimensions) {
+            int size = dimension.size(design);
+            if (size > longestSize) {
+                longest = dimension;
+                longestSize = size;
+            }
+        }
+        int batches = Math.min(batchCount, longestSize);
+        if (longest == null || batches < 2) {
+            ArrayList<String> entities = new ArrayList<String>(1);
+            entities.add(serializer.toJSON(design, compact));
+            return entities;
+        }
+        return longest.split(design, batches, compact);
+    }
+
+    /**
+     * Get the list which varies with the quantity being solved for
+     * @param design the study design
+     * @return nominal power list when solving for sample size, 
+     * otherwise the per group sample size list
+     */
+    private static GridDimension<?> getSolvingDimension(StudyDesign design) {
+        if (design.getSolutionTypeEnum() == SolutionTypeEnum.SAMPLE_SIZE) {
+            return NOMINAL_POWER;
+        }
+        return SAMPLE_SIZE;
+    }
+}
@@ -1,136 +1,146 @@
-/*
- * User Interface for the GLIMMPSE Software System.  Allows
- * users to perform power, sample size, and detectable difference
- * calculations. 
- * 
- * Copyright (C) 2010 Regents of the University of Colorado.  
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the GNU General Public License
- * as published by the Free Software Foundation; either version 2
- * of the License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with this program; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
- */
-package edu.ucdenver.bios.glimmpseweb.client.matrix;
-
-import com.google.gwt.user.client.ui.HTML;
-import com.google.gwt.user.client.ui.VerticalPanel;
-
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
-import edu.ucdenver.bios.glimmpseweb.client.TextValidation;
-import edu.ucdenver.bios.glimmpseweb.client.shared.ResizableMatrixPanel;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContext;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContextChangeEvent;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanel;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanelState;
-import edu.ucdenver.bios.glimmpseweb.context.StudyDesignContext;
-import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
-
-/**
- * Matrix mode panel which allows entry of the design essence matrix
- */
-public class DesignPanel extends WizardStepPanel
-{    	
-	// pointer to the study design context
-	StudyDesignContext studyDesignContext = (StudyDesignContext) context;
-	
-    protected ResizableMatrixPanel essenceFixed = 
-    	new ResizableMatrixPanel(GlimmpseConstants.DEFAULT_N, 
-    		GlimmpseConstants.DEFAULT_Q);
-    
-    
-   	protected boolean hasCovariate = false;
-
-	public DesignPanel(WizardContext context)
-	{
-		super(context, GlimmpseWeb.constants.navItemDesignEssenceMatrix(), 
-				WizardStepPanelState.COMPLETE);
-		VerticalPanel panel = new VerticalPanel();
-		
-        // create header/instruction text
-        HTML header = new HTML(GlimmpseWeb.constants.matrixDesignTitle());
-        HTML description = new HTML(GlimmpseWeb.constants.matrixDesignDescription());
-        
-        // layout the overall panel
-        panel.add(header);
-        panel.add(description);
-        panel.add(essenceFixed);
-        
-        // set style
-        panel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
-        header.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_HEADER);
-        description.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_DESCRIPTION);
-
-        // add style
-        initWidget(panel);
-	}
-    
-	public void reset()
-	{
-		essenceFixed.reset(GlimmpseConstants.DEFAULT_N, GlimmpseConstants.DEFAULT_Q);
-	}
-
-	public void validate(String value) throws IllegalArgumentException
-	{
-    	try
-    	{
-    		TextValidation.parseInteger(value, 0, Integer.MAX_VALUE);
-    	}
-    	catch (NumberFormatException nfe)
-    	{
-    		throw new IllegalArgumentException(GlimmpseWeb.constants.errorInvalidAlpha());
-    	}
-	}
-	
-	public void onValidRowCount(int validRowCount)
-	{
-		if (validRowCount > 0)
-			changeState(WizardStepPanelState.COMPLETE);
-		else
-			changeState(WizardStepPanelState.INCOMPLETE);
-	}
-	
-    /**
-     * Resize the beta matrix when the design matrix dimensions change
-     */
-    @Override
-    public void onWizardContextChange(WizardContextChangeEvent e)
-    {
-    	// no action needed
-    }
-    
-    /**
-     * Load the beta matrix information from the context
-     */
-    @Override
-    public void onWizardContextLoad()
-    {
-        NamedMatrix designEssence = 
-            studyDesignContext.getStudyDesign().getNamedMatrix(GlimmpseConstants.MATRIX_DESIGN);
-        reset();
-        if (designEssence != null) {
-            essenceFixed.loadFromNamedMatrix(designEssence);
-        }
-    }
-
-    /**
-     * Update the beta matrix in the context as we leave the screen
-     */
-    @Override
-    public void onExit()
-    {
-    	studyDesignContext.setDesignEssenceMatrix(this, 
-    					essenceFixed.toNamedMatrix(GlimmpseConstants.MATRIX_DESIGN), 
-    					null);
-    }
-
-}
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations. 
+ * 
+ * Copyright (C) 2010 Regents of the University of Colorado.  
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.matrix;
+
+import java.util.EnumSet;
+
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.VerticalPanel;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+import edu.ucdenver.bios.glimmpseweb.client.TextValidation;
+import edu.ucdenver.bios.glimmpseweb.client.shared.ResizableMatrixPanel;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContext;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContextChangeEvent;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanel;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanelState;
+import edu.ucdenver.bios.glimmpseweb.context.StudyDesignChangeEvent.StudyDesignChangeType;
+import edu.ucdenver.bios.glimmpseweb.context.StudyDesignContext;
+import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
+
+/**
+ * Matrix mode panel which allows entry of the design essence matrix
+ */
+public class DesignPanel extends WizardStepPanel
+{    	
+	// pointer to the study design context
+	StudyDesignContext studyDesignContext = (StudyDesignContext) context;
+	
+    protected ResizableMatrixPanel essenceFixed = 
+    	new ResizableMatrixPanel(GlimmpseConstants.DEFAULT_N, 
+    		GlimmpseConstants.DEFAULT_Q);
+    
+    
+   	protected boolean hasCovariate = false;
+
+	public DesignPanel(WizardContext context)
+	{
+		super(context, GlimmpseWeb.constants.navItemDesignEssenceMatrix(), 
+				WizardStepPanelState.COMPLETE,
+				EnumSet.of(StudyDesignChangeType.DESIGN_ESSENCE_MATRIX));
+		VerticalPanel panel = new VerticalPanel();
+		
+        // create header/instruction text
+        HTML header = new HTML(GlimmpseWeb.constants.matrixDesignTitle());
+        HTML description = new HTML(GlimmpseWeb.constants.matrixDesignDescription());
+        
+        // layout the overall panel
+        panel.add(header);
+        panel.add(description);
+        panel.add(essenceFixed);
+        
+        // set style
+        panel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
+        header.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_HEADER);
+        description.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_DESCRIPTION);
+
+        // add style
+        initWidget(panel);
+	}
+    
+	public void reset()
+	{
+		essenceFixed.reset(GlimmpseConstants.DEFAULT_N, GlimmpseConstants.DEFAULT_Q);
+	}
+
+	public void validate(String value) throws IllegalArgumentException
+	{
+    	try
+    	{
+    		TextValidation.parseInteger(value, 0, Integer.MAX_VALUE);
+    	}
+    	catch (NumberFormatException nfe)
+    	{
+    		throw new IllegalArgumentException(GlimmpseWeb.constants.errorInvalidAlpha());
+    	}
+	}
+	
+	public void onValidRowCount(int validRowCount)
+	{
+		if (validRowCount > 0)
+			changeState(WizardStepPanelState.COMPLETE);
+		else
+			changeState(WizardStepPanelState.INCOMPLETE);
+	}
+	
+    /**
+     * Reload the design essence matrix when it is changed elsewhere,
+     * such as by undo
+     */
+    @Override
+    public void onWizardContextChange(WizardContextChangeEvent e)
+    {
+    	if (e.getSource() != this) onWizardContextLoad();
+    }
+    
+    /**
+     * Load the beta matrix information from the context
+     */
+    @Override
+    public void onWizardContextLoad()
+    {
+        NamedMatrix designEssence = 
+            studyDesignContext.getMatrixByName(GlimmpseConstants.MATRIX_DESIGN);
+        reset();
+        if (designEssence != null) {
+            essenceFixed.loadFromNamedMatrix(designEssence);
+        }
+    }
+
+    /**
+     * Update the beta matrix in the context as we leave the screen
+     */
+    @Override
+    public void onExit()
+    {
+    	// only store the matrix if it changed since it was loaded
+    	if (essenceFixed.isModified() ||
+    			studyDesignContext.getMatrixByName(GlimmpseConstants.MATRIX_DESIGN) == null) {
+    		studyDesignContext.setDesignEssenceMatrix(this, 
+    						essenceFixed.toNamedMatrix(GlimmpseConstants.MATRIX_DESIGN), 
+    						null);
+    		essenceFixed.setModified(false);
+    	}
+    }
+
+}
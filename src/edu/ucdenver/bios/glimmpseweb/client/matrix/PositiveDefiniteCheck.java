@@ -0,0 +1,169 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.matrix;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.HTML;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+import edu.ucdenver.bios.glimmpseweb.client.TextValidation;
+import edu.ucdenver.bios.glimmpseweb.client.connector.MatrixProperty;
+import edu.ucdenver.bios.glimmpseweb.client.connector.MatrixSvcConnector;
+import edu.ucdenver.bios.glimmpseweb.client.connector.MatrixValidationResult;
+import edu.ucdenver.bios.glimmpseweb.client.connector.ServiceCallback;
+import edu.ucdenver.bios.glimmpseweb.client.shared.ResizableMatrixChangeHandler;
+import edu.ucdenver.bios.glimmpseweb.client.shared.ResizableMatrixPanel;
+import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
+
+/**
+ * Checks that the covariance matrix entered in a matrix mode panel
+ * is positive definite using the matrix service validation endpoint.
+ * Edits are collected for a short delay so that a paste or a series
+ * of cell changes is sent as a single request.  Service failures leave
+ * the message blank, since the study design context repeats the check
+ * before the design is considered complete.
+ */
+public class PositiveDefiniteCheck implements ResizableMatrixChangeHandler
+{
+    // delay after the last edit before the matrix is sent
+    private static final int CHECK_DELAY = 500;
+    // connector to the matrix service, shared by all panels
+    private static final MatrixSvcConnector matrixSvcConnector = new MatrixSvcConnector();
+    // matrix being checked
+    private ResizableMatrixPanel matrixPanel;
+    // name of the matrix in the study design
+    private String name;
+    // display for the result of the check
+    private HTML messageHTML = new HTML();
+    // number of requests sent, so replies to superseded requests are ignored
+    private int requestCount = 0;
+
+    private Timer checkTimer = new Timer() {
+        @Override
+        public void run() {
+            check();
+        }
+    };
+
+    /**
+     * Create a check for the specified matrix panel
+     * @param matrixPanel matrix entry panel
+     * @param name name of the matrix in the study design
+     */
+    public PositiveDefiniteCheck(ResizableMatrixPanel matrixPanel, String name)
+    {
+        this.matrixPanel = matrixPanel;
+        this.name = name;
+        messageHTML.setStyleName(GlimmpseConstants.STYLE_MESSAGE);
+        matrixPanel.addChangeHandler(this);
+    }
+
+    /**
+     * Get the widget which displays the result of the check
+     * @return message widget
+     */
+    public HTML getMessageWidget()
+    {
+        return messageHTML;
+    }
+
+    /**
+     * Send the current contents of the matrix to the matrix service
+     */
+    public void check()
+    {
+        checkTimer.cancel();
+        final int request = ++requestCount;
+        List<NamedMatrix> matrices = new ArrayList<NamedMatrix>(1);
+        matrices.add(matrixPanel.toNamedMatrix(name));
+        matrixSvcConnector.validateMatrices(matrices, 
+                EnumSet.of(MatrixProperty.POSITIVE_DEFINITE), 
+                new ServiceCallback<Map<String, MatrixValidationResult>>() {
+            @Override
+            public void onSuccess(Map<String, MatrixValidationResult> results) {
+                if (request != requestCount) {
+                    return;
+                }
+                MatrixValidationResult result = results.get(name);
+                if (result != null && Boolean.FALSE.equals(result.getPositiveDefinite())) {
+                    TextValidation.displayError(messageHTML, 
+                            GlimmpseWeb.constants.errorMatrixNotPositiveDefinite());
+                } else {
+                    TextValidation.displayOkay(messageHTML, "");
+                }
+            }
+
+            @Override
+            public void onFailure(String message) {
+                if (request == requestCount) {
+                    TextValidation.displayOkay(messageHTML, "");
+                }
+            }
+        });
+    }
+
+    /**
+     * Clear the message and drop any pending or outstanding check
+     */
+    public void reset()
+    {
+        checkTimer.cancel();
+        requestCount++;
+        TextValidation.displayOkay(messageHTML, "");
+    }
+
+    private void scheduleCheck()
+    {
+        checkTimer.cancel();
+        checkTimer.schedule(CHECK_DELAY);
+    }
+
+    @Override
+    public void onRowDimension(int rows)
+    {
+        scheduleCheck();
+    }
+
+    @Override
+    public void onColumnDimension(int columns)
+    {
+        scheduleCheck();
+    }
+
+    @Override
+    public void onCellChange(int row, int column, double value)
+    {
+        scheduleCheck();
+    }
+
+    @Override
+    public void onCellBlockChange(int[] rows, int[] columns, double[] values)
+    {
+        scheduleCheck();
+    }
+}
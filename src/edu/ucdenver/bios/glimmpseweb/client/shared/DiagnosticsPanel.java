@@ -0,0 +1,142 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.shared;
+
+import java.util.List;
+
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.i18n.client.NumberFormat;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.Button;
+import com.google.gwt.user.client.ui.Composite;
+import com.google.gwt.user.client.ui.Grid;
+import com.google.gwt.user.client.ui.VerticalPanel;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.client.connector.RequestMetrics;
+import edu.ucdenver.bios.glimmpseweb.client.connector.RequestMetrics.Measure;
+
+/**
+ * Diagnostics panel which displays rolling percentiles of the request
+ * measurements for each web service.  Only added to the page when the
+ * "diagnostics" URL parameter is present, and collapsed until opened.
+ */
+public class DiagnosticsPanel extends Composite
+{
+    // URL parameter which enables the panel
+    public static final String URL_PARAMETER = "diagnostics";
+    // refresh interval in milliseconds
+    private static final int REFRESH_INTERVAL = 2000;
+    // percentiles to display
+    private static final double[] PERCENTILES = {50, 90, 99};
+    private static final String[] HEADERS = {
+        "Service", "Measure", "Requests", "Failures", "p50", "p90", "p99"
+    };
+    private NumberFormat formatter = NumberFormat.getFormat("0.0");
+
+    // show / hide the table
+    protected Button toggleButton = new Button("Show diagnostics", 
+            new ClickHandler() {
+        @Override
+        public void onClick(ClickEvent event) {
+            setOpen(!table.isVisible());
+        }
+    });
+    // table of measurements
+    protected Grid table = new Grid(1, HEADERS.length);
+    // refreshes the table while it is open
+    protected Timer refreshTimer = new Timer() {
+        @Override
+        public void run() {
+            refresh();
+        }
+    };
+
+    /**
+     * Constructor
+     */
+    public DiagnosticsPanel()
+    {
+        VerticalPanel panel = new VerticalPanel();
+
+        for(int col = 0; col < HEADERS.length; col++) {
+            table.setText(0, col, HEADERS[col]);
+        }
+        table.setVisible(false);
+
+        panel.add(toggleButton);
+        panel.add(table);
+
+        // set style
+        panel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_TABLE_PANEL);
+        table.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_TABLE);
+        table.getRowFormatter().setStyleName(0, 
+                GlimmpseConstants.STYLE_WIZARD_STEP_TABLE_HEADER);
+
+        initWidget(panel);
+    }
+
+    /**
+     * Open or close the table
+     * @param open if true, show the table and refresh it periodically
+     */
+    public void setOpen(boolean open)
+    {
+        table.setVisible(open);
+        toggleButton.setText(open ? "Hide diagnostics" : "Show diagnostics");
+        if (open) {
+            refresh();
+            refreshTimer.scheduleRepeating(REFRESH_INTERVAL);
+        } else {
+            refreshTimer.cancel();
+        }
+    }
+
+    /**
+     * Rebuild the table from the current measurements
+     */
+    public void refresh()
+    {
+        RequestMetrics metrics = RequestMetrics.getInstance();
+        List<String> services = metrics.getServices();
+        Measure[] measures = Measure.values();
+        table.resizeRows(1 + services.size() * measures.length);
+        int row = 1;
+        for(String service: services) {
+            for(Measure measure: measures) {
+                table.setText(row, 0, service);
+                table.setText(row, 1, measure.toString().toLowerCase());
+                table.setText(row, 2, Integer.toString(metrics.getRequestCount(service)));
+                table.setText(row, 3, Integer.toString(metrics.getFailureCount(service)));
+                for(int i = 0; i < PERCENTILES.length; i++) {
+                    double value = metrics.getPercentile(service, measure, PERCENTILES[i]);
+                    table.setText(row, 4 + i, 
+                            (value == RequestMetrics.UNKNOWN ? "-" : formatter.format(value)));
+                }
+                table.getRowFormatter().setStyleName(row, 
+                        GlimmpseConstants.STYLE_WIZARD_STEP_TABLE_ROW);
+                row++;
+            }
+        }
+    }
+}
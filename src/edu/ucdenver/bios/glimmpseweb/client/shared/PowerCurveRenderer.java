@@ -0,0 +1,505 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.canvas.client.Canvas;
+import com.google.gwt.canvas.dom.client.Context2d;
+import com.google.gwt.event.dom.client.MouseMoveEvent;
+import com.google.gwt.event.dom.client.MouseMoveHandler;
+import com.google.gwt.event.dom.client.MouseOutEvent;
+import com.google.gwt.event.dom.client.MouseOutHandler;
+import com.google.gwt.i18n.client.NumberFormat;
+import com.google.gwt.user.client.ui.Composite;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.VerticalPanel;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+import edu.ucdenver.bios.glimmpseweb.client.connector.ChartSvcConnector;
+import edu.ucdenver.bios.glimmpseweb.client.connector.PowerCurveSeries;
+import edu.ucdenver.bios.webservice.common.domain.PowerCurveDescription;
+
+/**
+ * Draws a power curve in the browser on an HTML5 canvas.  The data
+ * series, line styles and confidence limit bands follow the chart
+ * service, so the chart service is only needed to export an image.
+ * Hovering over the curve shows the value of the nearest point.
+ * Use {@link #isSupported()} to check for canvas support before
+ * creating the renderer.
+ */
+public class PowerCurveRenderer extends Composite
+{
+    // default size if the curve description does not specify one
+    private static final int DEFAULT_WIDTH = 600;
+    private static final int DEFAULT_HEIGHT = 400;
+    // margins around the plot area
+    private static final int MARGIN_LEFT = 60;
+    private static final int MARGIN_RIGHT = 20;
+    private static final int MARGIN_TOP = 30;
+    private static final int MARGIN_BOTTOM = 50;
+    // width reserved for the legend
+    private static final int LEGEND_WIDTH = 160;
+    // number of axis ticks to aim for
+    private static final int TICK_COUNT = 5;
+    // hover distance in pixels for the point readout
+    private static final double HOVER_RADIUS = 8;
+    // values drawn for a series
+    private static final int POWER = 0;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+    // fonts and colors
+    private static final String FONT = "11px sans-serif";
+    private static final String TITLE_FONT = "bold 13px sans-serif";
+    private static final String AXIS_COLOR = "#333333";
+    private static final String GRID_COLOR = "#e0e0e0";
+    private static final String[] SERIES_COLORS = {
+        "#1f77b4", "#d62728", "#2ca02c", "#9467bd", "#ff7f0e",
+        "#8c564b", "#e377c2", "#7f7f7f", "#bcbd22", "#17becf"
+    };
+    private static final String[] BAND_COLORS = {
+        "rgba(31,119,180,0.15)", "rgba(214,39,40,0.15)", "rgba(44,160,44,0.15)", 
+        "rgba(148,103,189,0.15)", "rgba(255,127,14,0.15)", "rgba(140,86,75,0.15)", 
+        "rgba(227,119,194,0.15)", "rgba(127,127,127,0.15)", "rgba(188,189,34,0.15)", 
+        "rgba(23,190,207,0.15)"
+    };
+
+    private NumberFormat axisFormatter = NumberFormat.getFormat("0.###");
+    private NumberFormat powerFormatter = NumberFormat.getFormat("0.000");
+    private Canvas canvas;
+    private HTML readout = new HTML("&nbsp;");
+
+    // currently displayed series
+    private List<PowerCurveSeries> seriesList = new ArrayList<PowerCurveSeries>();
+    // plot area in pixels
+    private double plotLeft;
+    private double plotTop;
+    private double plotWidth;
+    private double plotHeight;
+    // horizontal axis range
+    private double xMin;
+    private double xMax;
+
+    /**
+     * Returns true if the browser supports the canvas element
+     */
+    public static boolean isSupported()
+    {
+        return Canvas.isSupported();
+    }
+
+    /**
+     * Create the renderer.  The browser must support canvas.
+     */
+    public PowerCurveRenderer()
+    {
+        canvas = Canvas.createIfSupported();
+        VerticalPanel panel = new VerticalPanel();
+        panel.add(canvas);
+        panel.add(readout);
+
+        canvas.addMouseMoveHandler(new MouseMoveHandler() {
+            @Override
+            public void onMouseMove(MouseMoveEvent event)
+            {
+                showNearestPoint(event.getRelativeX(canvas.getElement()), 
+                        event.getRelativeY(canvas.getElement()));
+            }
+        });
+        canvas.addMouseOutHandler(new MouseOutHandler() {
+            @Override
+            public void onMouseOut(MouseOutEvent event)
+            {
+                readout.setHTML("&nbsp;");
+            }
+        });
+
+        readout.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_DESCRIPTION);
+        initWidget(panel);
+    }
+
+    /**
+     * Draw the power curve
+     * @param description power curve description
+     * @param seriesList points for each data series
+     */
+    public void draw(PowerCurveDescription description, List<PowerCurveSeries> seriesList)
+    {
+        this.seriesList = seriesList;
+        int width = (description.getWidth() > 0 ? description.getWidth() : DEFAULT_WIDTH);
+        int height = (description.getHeight() > 0 ? description.getHeight() : DEFAULT_HEIGHT);
+        canvas.setCoordinateSpaceWidth(width);
+        canvas.setCoordinateSpaceHeight(height);
+        canvas.setPixelSize(width, height);
+        readout.setHTML("&nbsp;");
+
+        Context2d context = canvas.getContext2d();
+        context.clearRect(0, 0, width, height);
+        context.setFillStyle("#ffffff");
+        context.fillRect(0, 0, width, height);
+
+        boolean hasLegend = false;
+        for(PowerCurveSeries series: seriesList) {
+            if (series.getLabel() != null && series.getLabel().length() > 0) {
+                hasLegend = true;
+            }
+        }
+        plotLeft = MARGIN_LEFT;
+        plotTop = MARGIN_TOP;
+        plotWidth = Math.max(1, width - MARGIN_LEFT - MARGIN_RIGHT - 
+                (hasLegend ? LEGEND_WIDTH : 0));
+        plotHeight = Math.max(1, height - MARGIN_TOP - MARGIN_BOTTOM);
+        computeRange();
+
+        drawAxes(context, description);
+        for(int i = 0; i < seriesList.size(); i++) {
+            PowerCurveSeries series = seriesList.get(i);
+            if (series.hasConfidenceLimits()) {
+                drawBand(context, series, BAND_COLORS[i % BAND_COLORS.length]);
+            }
+        }
+        for(int i = 0; i < seriesList.size(); i++) {
+            PowerCurveSeries series = seriesList.get(i);
+            String color = SERIES_COLORS[i % SERIES_COLORS.length];
+            if (series.hasConfidenceLimits()) {
+                String ciStyle = ChartSvcConnector.getConfidenceLimitLineStyle();
+                drawLine(context, series, LOWER, color, ciStyle);
+                drawLine(context, series, UPPER, color, ciStyle);
+            }
+            drawLine(context, series, POWER, color, series.getLineStyle());
+        }
+        if (hasLegend) {
+            drawLegend(context, width);
+        }
+        if (description.getTitle() != null) {
+            context.setFont(TITLE_FONT);
+            context.setFillStyle(AXIS_COLOR);
+            context.setTextAlign(Context2d.TextAlign.CENTER);
+            context.setTextBaseline(Context2d.TextBaseline.MIDDLE);
+            context.fillText(description.getTitle(), plotLeft + plotWidth / 2, MARGIN_TOP / 2);
+        }
+    }
+
+    /**
+     * Find the range of the horizontal axis over all series
+     */
+    private void computeRange()
+    {
+        xMin = Double.POSITIVE_INFINITY;
+        xMax = Double.NEGATIVE_INFINITY;
+        for(PowerCurveSeries series: seriesList) {
+            for(int i = 0; i < series.size(); i++) {
+                xMin = Math.min(xMin, series.getX(i));
+                xMax = Math.max(xMax, series.getX(i));
+            }
+        }
+        if (xMin > xMax) {
+            xMin = 0;
+            xMax = 1;
+        } else if (xMin == xMax) {
+            xMin -= 1;
+            xMax += 1;
+        }
+    }
+
+    private double toPixelX(double x)
+    {
+        return plotLeft + (x - xMin) / (xMax - xMin) * plotWidth;
+    }
+
+    private double toPixelY(double power)
+    {
+        return plotTop + (1 - power) * plotHeight;
+    }
+
+    /**
+     * Draw the grid, axes, tick labels and axis labels
+     */
+    private void drawAxes(Context2d context, PowerCurveDescription description)
+    {
+        context.setLineWidth(1);
+        setLineDash(context, 0, 0);
+        context.setFont(FONT);
+        context.setFillStyle(AXIS_COLOR);
+
+        // horizontal grid lines and power ticks
+        context.setTextAlign(Context2d.TextAlign.RIGHT);
+        context.setTextBaseline(Context2d.TextBaseline.MIDDLE);
+        for(int i = 0; i <= TICK_COUNT; i++) {
+            double power = (double) i / TICK_COUNT;
+            double y = toPixelY(power);
+            context.setStrokeStyle(GRID_COLOR);
+            context.beginPath();
+            context.moveTo(plotLeft, y);
+            context.lineTo(plotLeft + plotWidth, y);
+            context.stroke();
+            context.fillText(axisFormatter.format(power), plotLeft - 6, y);
+        }
+
+        // vertical grid lines and horizontal axis ticks
+        context.setTextAlign(Context2d.TextAlign.CENTER);
+        context.setTextBaseline(Context2d.TextBaseline.TOP);
+        double step = getTickStep(xMax - xMin);
+        for(double tick = Math.ceil(xMin / step) * step; tick <= xMax + step * 1e-9; tick += step) {
+            double x = toPixelX(tick);
+            context.setStrokeStyle(GRID_COLOR);
+            context.beginPath();
+            context.moveTo(x, plotTop);
+            context.lineTo(x, plotTop + plotHeight);
+            context.stroke();
+            context.fillText(axisFormatter.format(tick), x, plotTop + plotHeight + 6);
+        }
+
+        // axes
+        context.setStrokeStyle(AXIS_COLOR);
+        context.beginPath();
+        context.moveTo(plotLeft, plotTop);
+        context.lineTo(plotLeft, plotTop + plotHeight);
+        context.lineTo(plotLeft + plotWidth, plotTop + plotHeight);
+        context.stroke();
+
+        // axis labels
+        context.setTextBaseline(Context2d.TextBaseline.BOTTOM);
+        context.fillText(getHorizontalAxisLabel(description), 
+                plotLeft + plotWidth / 2, plotTop + plotHeight + MARGIN_BOTTOM - 4);
+        context.save();
+        context.translate(14, plotTop + plotHeight / 2);
+        context.rotate(-Math.PI / 2);
+        context.setTextBaseline(Context2d.TextBaseline.MIDDLE);
+        context.fillText(GlimmpseWeb.constants.curveOptionsPowerLabel(), 0, 0);
+        context.restore();
+    }
+
+    /**
+     * Get a tick spacing of 1, 2 or 5 times a power of 10 which gives
+     * roughly TICK_COUNT ticks
+     * @param range axis range
+     * @return tick spacing
+     */
+    private double getTickStep(double range)
+    {
+        double rough = range / TICK_COUNT;
+        double magnitude = Math.pow(10, Math.floor(Math.log(rough) / Math.log(10)));
+        double fraction = rough / magnitude;
+        if (fraction < 1.5) {
+            return magnitude;
+        } else if (fraction < 3.5) {
+            return 2 * magnitude;
+        } else if (fraction < 7.5) {
+            return 5 * magnitude;
+        }
+        return 10 * magnitude;
+    }
+
+    private String getHorizontalAxisLabel(PowerCurveDescription description)
+    {
+        if (description.getHorizontalAxisLabelEnum() != null) {
+            switch(description.getHorizontalAxisLabelEnum()) {
+            case TOTAL_SAMPLE_SIZE:
+                return GlimmpseWeb.constants.curveOptionsSampleSizeLabel();
+            case REGRESSION_COEEFICIENT_SCALE_FACTOR:
+                return GlimmpseWeb.constants.curveOptionsBetaScaleLabel();
+            case VARIABILITY_SCALE_FACTOR:
+                return GlimmpseWeb.constants.curveOptionsSigmaScaleLabel();
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Fill the area between the lower and upper confidence limits
+     */
+    private void drawBand(Context2d context, PowerCurveSeries series, String color)
+    {
+        int size = series.size();
+        if (size < 2) {
+            return;
+        }
+        context.setFillStyle(color);
+        context.beginPath();
+        context.moveTo(toPixelX(series.getX(0)), toPixelY(series.getUpper(0)));
+        for(int i = 1; i < size; i++) {
+            context.lineTo(toPixelX(series.getX(i)), toPixelY(series.getUpper(i)));
+        }
+        for(int i = size - 1; i >= 0; i--) {
+            context.lineTo(toPixelX(series.getX(i)), toPixelY(series.getLower(i)));
+        }
+        context.closePath();
+        context.fill();
+    }
+
+    /**
+     * Draw the power or confidence limit line for a series
+     * @param which POWER, LOWER or UPPER
+     * @param lineStyle line style as "thickness,dash,space"
+     */
+    private void drawLine(Context2d context, PowerCurveSeries series, int which,
+            String color, String lineStyle)
+    {
+        applyLineStyle(context, lineStyle);
+        context.setStrokeStyle(color);
+        context.beginPath();
+        for(int i = 0; i < series.size(); i++) {
+            double x = toPixelX(series.getX(i));
+            double y = toPixelY(getValue(series, which, i));
+            if (i == 0) {
+                context.moveTo(x, y);
+            } else {
+                context.lineTo(x, y);
+            }
+        }
+        context.stroke();
+        if (which == POWER) {
+            // mark the calculated points
+            context.setFillStyle(color);
+            for(int i = 0; i < series.size(); i++) {
+                context.fillRect(toPixelX(series.getX(i)) - 2, 
+                        toPixelY(series.getPower(i)) - 2, 4, 4);
+            }
+        }
+        setLineDash(context, 0, 0);
+    }
+
+    private double getValue(PowerCurveSeries series, int which, int index)
+    {
+        switch (which) {
+        case LOWER:
+            return series.getLower(index);
+        case UPPER:
+            return series.getUpper(index);
+        default:
+            return series.getPower(index);
+        }
+    }
+
+    /**
+     * Draw the legend to the right of the plot area
+     */
+    private void drawLegend(Context2d context, int width)
+    {
+        double left = width - MARGIN_RIGHT - LEGEND_WIDTH + 10;
+        double y = plotTop + 8;
+        context.setFont(FONT);
+        context.setTextAlign(Context2d.TextAlign.LEFT);
+        context.setTextBaseline(Context2d.TextBaseline.MIDDLE);
+        for(int i = 0; i < seriesList.size(); i++) {
+            PowerCurveSeries series = seriesList.get(i);
+            String color = SERIES_COLORS[i % SERIES_COLORS.length];
+            applyLineStyle(context, series.getLineStyle());
+            context.setStrokeStyle(color);
+            context.beginPath();
+            context.moveTo(left, y);
+            context.lineTo(left + 24, y);
+            context.stroke();
+            setLineDash(context, 0, 0);
+            context.setFillStyle(AXIS_COLOR);
+            context.fillText(series.getLabel() != null ? series.getLabel() : "", 
+                    left + 30, y);
+            y += 18;
+        }
+    }
+
+    /**
+     * Set the line width and dash pattern from a "thickness,dash,space"
+     * line style.  Any positive space produces a broken line, so a
+     * style such as "1,1,3" is drawn dotted.
+     */
+    private void applyLineStyle(Context2d context, String lineStyle)
+    {
+        double thickness = 1;
+        double dash = 0;
+        double space = 0;
+        if (lineStyle != null) {
+            String[] parts = lineStyle.split(",");
+            try {
+                if (parts.length > 0) {
+                    thickness = Double.parseDouble(parts[0]);
+                }
+                if (parts.length > 2) {
+                    dash = Double.parseDouble(parts[1]);
+                    space = Double.parseDouble(parts[2]);
+                }
+            } catch (NumberFormatException e) {
+                // fall back to a solid line
+            }
+        }
+        context.setLineWidth(Math.max(thickness, 1) * 1.5);
+        if (space > 0) {
+            setLineDash(context, Math.max(dash, 1), space);
+        } else {
+            setLineDash(context, 0, 0);
+        }
+    }
+
+    /**
+     * Set the dash pattern, or a solid line if dash is 0.  Browsers
+     * without setLineDash draw solid lines.
+     */
+    private static native void setLineDash(Context2d context, double dash, double space) /*-{
+        if (context.setLineDash) {
+            context.setLineDash(dash > 0 ? [dash, space] : []);
+        }
+    }-*/;
+
+    /**
+     * Show the value of the point nearest to the mouse, if any
+     * @param mouseX mouse position relative to the canvas
+     * @param mouseY mouse position relative to the canvas
+     */
+    private void showNearestPoint(int mouseX, int mouseY)
+    {
+        PowerCurveSeries nearestSeries = null;
+        int nearestIndex = -1;
+        double nearestDistance = HOVER_RADIUS * HOVER_RADIUS;
+        for(PowerCurveSeries series: seriesList) {
+            for(int i = 0; i < series.size(); i++) {
+                double dx = toPixelX(series.getX(i)) - mouseX;
+                double dy = toPixelY(series.getPower(i)) - mouseY;
+                double distance = dx * dx + dy * dy;
+                if (distance <= nearestDistance) {
+                    nearestDistance = distance;
+                    nearestSeries = series;
+                    nearestIndex = i;
+                }
+            }
+        }
+        if (nearestSeries == null) {
+            readout.setHTML("&nbsp;");
+            return;
+        }
+        StringBuffer buffer = new StringBuffer();
+        if (nearestSeries.getLabel() != null) {
+            buffer.append(nearestSeries.getLabel()).append(": ");
+        }
+        buffer.append(axisFormatter.format(nearestSeries.getX(nearestIndex)));
+        buffer.append(", ").append(GlimmpseWeb.constants.curveOptionsPowerLabel());
+        buffer.append(" = ").append(powerFormatter.format(nearestSeries.getPower(nearestIndex)));
+        if (nearestSeries.hasConfidenceLimits()) {
+            buffer.append(" (").append(powerFormatter.format(nearestSeries.getLower(nearestIndex)));
+            buffer.append(", ").append(powerFormatter.format(nearestSeries.getUpper(nearestIndex)));
+            buffer.append(")");
+        }
+        readout.setText(buffer.toString());
+    }
+}
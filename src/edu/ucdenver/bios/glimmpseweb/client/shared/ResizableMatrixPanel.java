@@ -1,821 +1,1489 @@
-/*
- * Web Interface for the GLIMMPSE Software System.  Allows
- * users to perform power, sample size, and detectable difference
- * calculations. 
- * 
- * Copyright (C) 2010 Regents of the University of Colorado.  
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the GNU General Public License
- * as published by the Free Software Foundation; either version 2
- * of the License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with this program; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
- */
-package edu.ucdenver.bios.glimmpseweb.client.shared;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import com.google.gwt.event.dom.client.ChangeEvent;
-import com.google.gwt.event.dom.client.ChangeHandler;
-import com.google.gwt.user.client.ui.Composite;
-import com.google.gwt.user.client.ui.FlexTable;
-import com.google.gwt.user.client.ui.HTML;
-import com.google.gwt.user.client.ui.HorizontalPanel;
-import com.google.gwt.user.client.ui.TextBox;
-import com.google.gwt.user.client.ui.VerticalPanel;
-
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
-import edu.ucdenver.bios.glimmpseweb.client.TextValidation;
-import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
-
-/**
- * Generic resizable matrix display panel.
- * 
- * @author Vijay Chander-Akula
- * @author Sarah Kreidler
- *
- */
-public class ResizableMatrixPanel extends Composite
-{
-    // change handler for matrix cell values
-    // at present we only allow one of these - didn't have time to deal with
-    // the timing issues of resize events and adding change handlers
-    protected ArrayList<ResizableMatrixChangeHandler> handlers = 
-            new ArrayList<ResizableMatrixChangeHandler>();
-    
-    // maximum allowed rows and columns
-    protected static final int DEFAULT_MAX_ROWS = 50;
-    protected static final int DEFAULT_MAX_COLS = 50;
-    // minimum allowed rows/columns
-    protected static final int MIN_ROW_COL = 1;
-    // max rows/columns - allows calling application to control this value
-    protected int maxRows = DEFAULT_MAX_ROWS;
-    protected int maxCols = DEFAULT_MAX_COLS;
-    // min and max values for matrix cells
-    protected double minCellValue = Double.NaN;
-    protected double maxCellValue = Double.NaN;
-    
-    // default value for off diagonal elements
-    protected String defaultOffDiagonalValue = "0";
-    protected String defaultDiagonalValue = "1";
-    // row dimension of the matrix
-    protected int rows;
-    // column dimension of the matrix
-    protected int columns;
-    // indicates the matrix is symmetric
-    // if true, the matrix will only allow editing of the lower triangle and will auto-populate
-    // the corresponding cells in the upper triangle
-    protected boolean isSymmetric;
-    // indicates that the off diagonals of the matrix are editable
-    protected boolean allowEditOffDiagonal;
-    // indicates that the diagonal elements of the matrix are editable
-    protected boolean allowEditDiagonal;
-    // indicates if the matrix dimensions should be displayed
-    protected boolean showDimensions;
-    // container for matrix cells and row/column labels
-    protected FlexTable matrixCellAndLabelTable = new FlexTable();
-    // panel containing dimensions
-    protected HorizontalPanel dimensionPanel = new HorizontalPanel();
-    // text box for row dimension
-    protected TextBox rowTextBox = new TextBox();
-    // text box for column dimension
-    protected TextBox columnTextBox = new TextBox();
-    
-    // error html
-    protected HTML errorHTML = new HTML();
-    protected String errorMsg = GlimmpseWeb.constants.errorInvalidNumber();
-    /**
-     * Text box which knows its row/column position in the matrix
-     * Used to manage symmetric matrices
-     */
-    private class RowColumnTextBox extends TextBox 
-    {
-        public int row;
-        public int column;
-        private String defaultValue = "0";
-
-        public RowColumnTextBox(int row, int column, String defaultValue)
-        {
-            super();
-            this.row = row;
-            this.column = column;
-            this.defaultValue = defaultValue;
-        }
-
-        public void reset()
-        {
-            this.setText(defaultValue);
-        }
-    };
-
-    /**
-     * Create a ResizableMatrixPanel with the specified dimensions.  By default, dimensions
-     * are displayed, and all cells are editable
-     * 
-     * @param row row dimension
-     * @param column column dimension
-     * @param showDimensions if true, the row x column dimensions will be displayed in the panel
-     * @param allowEditDiagonal if true, diagonal elements will be editable
-     * @param allowEditOffDiagonal if true, off diagonal elements will be editable
-     * @param isSymmetric indicates if the matrix is symmetric
-     */
-    public ResizableMatrixPanel(int rows, int columns)
-    {
-        this(rows, columns, true, true, true, false);
-    }
-
-    /**
-     * Create a ResizableMatrixPanel with the specified restrictions
-     * 
-     * @param row row dimension
-     * @param column column dimension
-     * @param showDimensions if true, the row x column dimensions will be displayed in the panel
-     * @param allowEditDiagonal if true, diagonal elements will be editable
-     * @param allowEditOffDiagonal if true, off diagonal elements will be editable
-     * @param isSymmetric indicates if the matrix is symmetric
-     */
-    public ResizableMatrixPanel(int rows, int columns, boolean showDimensions, boolean allowEditDiagonal,
-            boolean allowEditOffDiagonal, boolean isSymmetric)
-    {
-        VerticalPanel verticalPanel = new VerticalPanel();
-        this.rows = rows;
-        this.columns = columns;
-        this.isSymmetric = isSymmetric;
-        this.allowEditOffDiagonal = allowEditOffDiagonal;
-        this.allowEditDiagonal = allowEditDiagonal;
-        this.showDimensions = showDimensions;
-
-        // build the matrix data
-        buildMatrixCellsAndLabels();
-
-        // build the dimension display
-        buildDimensions();
-
-        // layout the panel
-        verticalPanel.add(dimensionPanel);
-        verticalPanel.add(matrixCellAndLabelTable);
-        verticalPanel.add(errorHTML);
-
-        // show and hide widgets as specified
-        dimensionPanel.setVisible(showDimensions);
-
-        // add style
-        verticalPanel.setStyleName(GlimmpseConstants.STYLE_MATRIX_PANEL);
-        dimensionPanel.setStyleName(GlimmpseConstants.STYLE_MATRIX_DIMENSION);
-        matrixCellAndLabelTable.setStyleName(GlimmpseConstants.STYLE_MATRIX_DATA);
-        errorHTML.setStyleName(GlimmpseConstants.STYLE_MESSAGE);
-
-        // initialize
-        initWidget(verticalPanel);
-    }
-
-    /**
-     * Change the row dimension of the matrix display
-     * @param newRows new row dimension
-     */
-    public void setRowDimension(int newRows)
-    {
-        if (newRows != rows && 
-                newRows >= MIN_ROW_COL && newRows <= maxRows)
-        {
-            int oldRows = rows;			
-            if (newRows > oldRows)
-            {
-                // add new rows if the new row dimension is larger than the old
-                for(int row = matrixCellAndLabelTable.getRowCount(); 
-                row <= newRows && row < maxRows; row++)
-                {
-                    addRow(row);
-                }
-                if (isSymmetric)
-                {
-                    for(int column = matrixCellAndLabelTable.getCellCount(0);
-                    column <= newRows && columns <= maxCols; column++)
-                    {
-                        addColumn(column);
-                    }
-                }
-
-            }
-            else if (newRows < oldRows)
-            {
-                for(int row = matrixCellAndLabelTable.getRowCount()-1; 
-                row > newRows && row > 0; row--)
-                {
-                    matrixCellAndLabelTable.removeRow(row);
-                    if (isSymmetric) removeColumn(row);
-                }
-            }
-
-            // update the dimension value and display text
-            rows = newRows;
-            rowTextBox.setText(Integer.toString(rows));
-            if (isSymmetric)
-            {
-                columns = newRows;
-                columnTextBox.setText(Integer.toString(columns));
-            }
-
-        }
-    }
-
-    /**
-     * Change the column dimension of the matrix
-     * @param newCols new column dimension
-     */
-    public void setColumnDimension(int newCols)
-    {
-        if (newCols != columns &&
-                newCols >= MIN_ROW_COL && newCols <= maxCols)
-        {
-            int oldCols = columns;			
-            if (newCols > oldCols)
-            {
-                // add new columns if the new row dimension is larger than the old
-                for(int column = matrixCellAndLabelTable.getCellCount(0);
-                column <= newCols && column <= maxCols; column++)
-                {
-                    addColumn(column);
-                }
-                if (isSymmetric)
-                {
-                    // for symmetric matrices, add columns to maintain equal row/col dimensions
-                    for(int row = matrixCellAndLabelTable.getRowCount();
-                    row <= newCols && row <= maxRows; row++)
-                    {
-                        addRow(row);
-                    }
-                }
-            }
-            else if (newCols < oldCols)
-            {
-                // delete columns when new dimension is smaller than the old
-                for(int column = matrixCellAndLabelTable.getCellCount(0)-1; 
-                column > newCols && column > 0; column--)
-                {
-                    removeColumn(column);
-                    // for symmetric matrices, remove the corresponding rows as well
-                    if (isSymmetric) matrixCellAndLabelTable.removeRow(column);
-                }
-            }
-            // update the dimension value and display text
-            columns = newCols;
-            columnTextBox.setText(Integer.toString(columns));
-            if (isSymmetric)
-            {
-                rows = newCols;
-                rowTextBox.setText(Integer.toString(rows));
-            }
-        }
-    }
-
-    /**
-     * Add a new row to the matrix table
-     * @param row row number
-     */
-    private void addRow(int row)
-    {
-        int numColumns = matrixCellAndLabelTable.getCellCount(0);
-        for(int column = 0; column < numColumns; column++)
-        {
-            if (column == 0)
-            {
-                // add a label widget
-                matrixCellAndLabelTable.setWidget(row, column, createMatrixLabel(""));
-            }
-            else
-            {
-                // add a cell widget
-                matrixCellAndLabelTable.setWidget(row, column, createMatrixCellWidget(row, column));
-            }
-        }
-    }
-
-    /**
-     * Add a new column to the matrix data
-     * @param column column number
-     */
-    public void addColumn(int column)
-    {
-        int numRows = matrixCellAndLabelTable.getRowCount();
-        for(int row = 0; row < numRows; row++)
-        {
-            if (row == 0)
-            {
-                // add a label widget
-                matrixCellAndLabelTable.setWidget(row, column, createMatrixLabel(""));
-            }
-            else
-            {
-                // add a cell widget
-                matrixCellAndLabelTable.setWidget(row, column, createMatrixCellWidget(row, column));
-            }
-        }
-    }
-
-    /**
-     * Add row labels.  The number of labels must exactly match the number
-     * of rows in the matrix
-     * @param labelList list of labels
-     */
-    public void setRowLabels(List<String> labelList)
-    {
-        if (labelList.size() == rows)
-        {
-            int row = 1;
-            for(String label: labelList)
-            {
-                matrixCellAndLabelTable.setWidget(row, 0, createMatrixLabel(label));
-                row++;
-            }
-        }
-    }
-
-    /**
-     * Add column labels to the panel.  The list length must be exactly the
-     * number of columns currently in the matrix
-     * @param labelList list of labels.
-     */
-    public void setColumnLabels(List<String> labelList)
-    {
-        if (labelList.size() == columns)
-        {
-            int column = 1;
-            for(String label: labelList)
-            {
-                matrixCellAndLabelTable.setWidget(0, column, createMatrixLabel(label));
-                column++;
-            }
-        }
-    }
-
-    /**
-     * Set the value of a specified cell in the matrix
-     * @param row cell's row index
-     * @param column cell's column index
-     * @param value new cell value
-     */
-    public void setCellValue(int row, int column, String value)
-    {	
-        TextBox tb = (TextBox) matrixCellAndLabelTable.getWidget(row+1, column+1);
-        tb.setText(value);
-    }
-
-    /**
-     * Get the value of a specified cell in the matrix
-     * @param row cell's row index
-     * @param column cell's column index
-     */
-    public double getCellValue(int row, int column)
-    {
-        Double value;
-        TextBox tb = (TextBox) matrixCellAndLabelTable.getWidget(row+1, column+1);
-        value = Double.parseDouble(tb.getValue());
-        return value;
-    }
-
-    /**
-     * Specify whether editing of diagonal elements is allowed
-     * @param editable if true, the diagonal cells can be edited
-     */
-    public void setDiagonalsEditable(boolean editable)
-    {
-        this.allowEditDiagonal = editable;
-        for(int i = 0; i < rows; i++)
-        {
-            TextBox tb = (TextBox) matrixCellAndLabelTable.getWidget(i+1, i+1);
-            tb.setEnabled(true);
-        }
-    }
-
-    /**
-     * Build the panel of matrix cells and surrounding labels.  Labels appear in
-     * the left-most column and top row.
-     */
-    private void buildMatrixCellsAndLabels()
-    {
-        // fill in the cells and labels.  Note that labels appear in row 0, and column 0
-        for(int row = 0; row < rows+1; row++)
-        {
-            for(int column = 0; column < columns+1; column++)
-            {
-                if (row == 0 && column == 0)
-                {
-                    // add an empty widget in the upper left corned
-                    matrixCellAndLabelTable.setWidget(row, column, new HTML(""));
-                }
-                else if (row == 0 || column == 0)
-                {
-                    // add a label widget
-                    matrixCellAndLabelTable.setWidget(row, column, createMatrixLabel(""));
-                }
-                else
-                {
-                    // add the widget to the grid
-                    matrixCellAndLabelTable.setWidget(row, column, createMatrixCellWidget(row, column));
-                }
-            }
-        }
-
-    }
-
-    /**
-     * Build the row/column dimension panel
-     */
-    private void buildDimensions()
-    {
-        // matrix dimensions
-        rowTextBox = new TextBox();
-        rowTextBox.setValue(Integer.toString(rows), false);
-        rowTextBox.addChangeHandler(new ChangeHandler() {
-            public void onChange(ChangeEvent e)
-            {
-                try
-                {
-                    int newRows = 
-                        TextValidation.parseInteger(rowTextBox.getText(), MIN_ROW_COL, maxRows);
-                    setRowDimension(newRows);
-                    // notify listeners of row change
-                    notifyOnRows(newRows);
-                    TextValidation.displayOkay(errorHTML, "");
-                }
-                catch (NumberFormatException nfe)
-                {
-                    TextValidation.displayError(errorHTML, GlimmpseWeb.constants.errorInvalidMatrixDimension());
-                    rowTextBox.setText(Integer.toString(rows));
-                }
-            }
-        });
-        columnTextBox = new TextBox();
-        columnTextBox.setValue(Integer.toString(columns), false);		
-        columnTextBox.addChangeHandler(new ChangeHandler() {
-            public void onChange(ChangeEvent e)
-            {
-                try
-                {
-                    int newCols = TextValidation.parseInteger(columnTextBox.getText(), MIN_ROW_COL, maxCols);
-                    setColumnDimension(newCols);
-                    // notify listeners of column change
-                    notifyOnColumns(newCols);
-                    TextValidation.displayOkay(errorHTML, "");
-                }
-                catch (NumberFormatException nfe)
-                {
-                    columnTextBox.setText(Integer.toString(columns));
-                    TextValidation.displayError(errorHTML, GlimmpseWeb.constants.errorInvalidMatrixDimension());
-                }
-            }
-        });
-
-        // layout the matrix dimensions
-        dimensionPanel.add(rowTextBox);
-        dimensionPanel.add(new HTML(GlimmpseWeb.constants.matrixDimensionSeparator()));
-        dimensionPanel.add(columnTextBox);
-    }
-
-
-    /**
-     * Create a matrix label widget
-     * @param label the display label
-     * @return matrix label widget
-     */
-    private HTML createMatrixLabel(String label)
-    {
-        return new HTML(label);
-    }
-
-    /**
-     * Create a text box widget for the matrix
-     * @param isDiagonalCell if true, the cell is on the diagonal
-     * @return text box
-     */
-    private TextBox createMatrixCellWidget(int row, int column)
-    {
-        String defaultValue = ((row == column) ? defaultDiagonalValue : defaultOffDiagonalValue);
-        // the row/column associated with the text box indicate the true position 
-        // in the matrix, so we subtract 1 here to adjust for the label row/column
-        RowColumnTextBox cellTextBox = 
-            new RowColumnTextBox(row-1, column-1, defaultValue);
-        cellTextBox.addChangeHandler(new ChangeHandler() {
-            @Override
-            public void onChange(ChangeEvent event)
-            {
-                RowColumnTextBox tb = (RowColumnTextBox) event.getSource();
-                try
-                {
-                    String value = tb.getValue();
-                    double numericValue = Double.NaN;
-                    if (!Double.isNaN(maxCellValue) && !Double.isNaN(maxCellValue) ) {
-                        numericValue = TextValidation.parseDouble(value, minCellValue, maxCellValue, true);
-                    } else if (!Double.isNaN(maxCellValue)) {
-                        numericValue = TextValidation.parseDouble(value, maxCellValue, false, true);      
-                    } else if (!Double.isNaN(minCellValue)) {
-                        numericValue = TextValidation.parseDouble(value, minCellValue, true, true);       
-                    } else {
-                        numericValue = TextValidation.parseDouble(value);
-                    }
-                    TextValidation.displayOkay(errorHTML, "");
-                    // notify listeners of cell contents change
-                    notifyOnCellChange(tb.row, tb.column, numericValue);
-                   
-                    if (isSymmetric && tb.row != tb.column) {
-                        setCellValue(tb.column, tb.row, value);
-                        // notify listeners of cell contents change
-                        notifyOnCellChange(tb.column, tb.row, numericValue);
-                    }
-
-                }
-                catch(Exception e)
-                {
-                    TextValidation.displayError(errorHTML, errorMsg);
-                    tb.reset();
-                    if (isSymmetric && tb.row != tb.column)  setCellValue(tb.column, tb.row, tb.getValue());
-                }
-            }
-        });
-        
-        cellTextBox.setEnabled(isCellEditAllowed(row-1, column-1));		
-        cellTextBox.setValue((row == column) ? defaultDiagonalValue : defaultOffDiagonalValue);
-
-        // set style
-        cellTextBox.setStyleName(GlimmpseConstants.STYLE_MATRIX_CELL);
-        if (!cellTextBox.isEnabled()) cellTextBox.addStyleDependentName(GlimmpseConstants.STYLE_DISABLED);
-
-        return cellTextBox;
-    }
-    
-    /**
-     * Determines whether a cell is editable.<p>
-     *  A diagonal cell is editable if any of the following conditions hold
-     *  <ol>
-     * <li>non-symmetric, but editing allowed on diagonal</li>
-     * <li>symmetric matrix</li>
-     * </ol>
-     * </p><p>
-     * An off diagonal cell is editable if any of the following conditions hold
-     * <ol>
-     * <li>non-symmetric, but editing allowed on off-diagonal</li>
-     * <li>symmetric, and current cell in the lower triangle</li>
-     *</p>
-     *
-     * @param row
-     * @param column
-     * @return
-     */
-    private boolean isCellEditAllowed(int row, int column)
-    {
-        boolean isDiagonal = (row == column);
-
-        if (isSymmetric) {
-            if (isDiagonal) {
-                return allowEditDiagonal;
-            } else {
-                return (allowEditOffDiagonal && (row > column));
-            }
-        } else {
-            if (isDiagonal) {
-                return allowEditDiagonal;
-            } else {
-                return allowEditOffDiagonal;
-            }
-        }
-    }
-
-    /**
-     * GWT's flex table doesn't provide a function to
-     * remove a column, so here is it
-     */
-    private void removeColumn(int column)
-    {
-        int tableRows = matrixCellAndLabelTable.getRowCount();
-        for(int row = 0; row < tableRows; row++) 
-            matrixCellAndLabelTable.removeCell(row, column);
-    }
-
-    /**
-     * Create a NamedMatrix object from the ResizableMatrixPanel
-     * widgets
-     * @param name name of the matrix
-     */
-    public NamedMatrix toNamedMatrix(String name)
-    {
-        NamedMatrix namedMatrix = new NamedMatrix(name);
-        namedMatrix.setRows(rows);
-        namedMatrix.setColumns(columns);
-        double[][] data = new double[rows][columns];
-        for(int row = 0; row < rows; row++)
-        {
-            for(int column = 0; column < columns; column++)
-            {
-                TextBox tb = (TextBox) matrixCellAndLabelTable.getWidget(row+1, column+1);
-                String value = tb.getValue();
-                if (value != null && !value.isEmpty()) {
-                    data[row][column] = Double.parseDouble(tb.getValue());
-                } else {
-                    data[row][column] = Double.NaN;
-                }
-            }
-        }
-        namedMatrix.setDataFromArray(data);
-        return namedMatrix;
-    }
-
-    /**
-     * Reset to the default cell value and remove all labels
-     * 
-     * @param rows row dimension
-     * @param columns column dimension
-     */
-    public void reset(int rows, int columns)
-    {
-
-    }
-
-    /**
-     * Specify whether the row dimension of the matrix is editable
-     * @param enabled if true, edits are allowed in the row dimension
-     */
-    public void setEnabledRowDimension(boolean enabled)
-    {
-        rowTextBox.setEnabled(enabled);
-    }
-
-    /**
-     * Specify whether the column dimension of the matrix is editable
-     * @param enabled if true, edits are allowed in the column dimension
-     */
-    public void setEnabledColumnDimension(boolean enabled)
-    {
-        columnTextBox.setEnabled(enabled);
-    }
-
-    /**
-     * Set maximum number of rows allowed in the matrix
-     * @param rows max allowed rows
-     */
-    public void setMaxRows(int rows)
-    {
-        if (rows >= MIN_ROW_COL)
-        {
-            maxRows = rows;
-            if (isSymmetric) maxCols = rows;
-        }
-    }
-
-    /**
-     * Set maximum number of columns allowed in the matrix
-     * @param columns max allowed columns
-     */
-    public void setMaxColumns(int columns)
-    {
-        if (columns >= MIN_ROW_COL)
-        {
-            maxCols = columns;
-            if (isSymmetric) maxRows = columns;
-        }
-    }
-    
-    
-    /**
-     * Set maximum value for cells in the matrix
-     * @param rows max allowed rows
-     */
-    public void setMaxCellValue(double maxValue)
-    {
-        this.maxCellValue = maxValue;
-    }
-
-    /**
-     * Set minimum value for cells in the matrix
-     * @param columns max allowed columns
-     */
-    public void setMinCellValue(double minValue)
-    {
-        this.minCellValue = minValue;
-    }
-    
-    public void setCellErrorMessage(String msg) {
-        this.errorMsg = msg;
-    }
-
-    /**
-     * FIll in the matrix widgets from a NamedMatrix object
-     * @param matrix NamedMatrix object
-     */
-    public void loadFromNamedMatrix(NamedMatrix matrix)
-    {
-        if (matrix != null)
-        {
-            setRowDimension(matrix.getRows());
-            setColumnDimension(matrix.getColumns());
-            double[][] data = matrix.getData().getData();
-            for(int row = 0; row < rows; row++)
-            {
-                for(int column = 0; column < columns; column++)
-                {
-                    double value = data[row][column];
-                    if (value != Double.NaN) {
-                        setCellValue(row, column, Double.toString(value));
-                    } else {
-                        setCellValue(row, column, "");
-                    }
-                }
-            }
-            rowTextBox.setValue(Integer.toString(rows));
-            columnTextBox.setValue(Integer.toString(columns));
-        }
-    }
-    
-    /**
-     * Load a submatrix of data into the panel
-     * @param dataRows number of rows in the data
-     * @param dataColumns number of columns in the data
-     * @param data the data
-     */
-    public void loadMatrixData(int dataRows, int dataColumns, double[][] data) {
-        if (dataRows <= rows &&
-                dataColumns <= columns &&
-                data != null) {
-            for(int row = 0; row < dataRows; row++)
-            {
-                for(int column = 0; column < dataColumns; column++)
-                {
-                    double value = data[row][column];
-                    if (value != Double.NaN) {
-                        setCellValue(row, column, Double.toString(value));
-                    } else {
-                        setCellValue(row, column, "");
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Get row dimension of the matrix
-     * @return row dimension
-     */
-    public int getRowDimension()
-    {
-        return rows;
-    }
-
-    /**
-     * Get column dimension of the matrix
-     * @return row dimension
-     */
-    public int getColumnDimension()
-    {
-        return columns;
-    }
-
-    /**
-     * Add a change handler to the matrix panel
-     * @param handler handler for dimension or contents changes
-     */
-    public void addChangeHandler(ResizableMatrixChangeHandler handler) {
-        handlers.add(handler);
-    }
-    
-    /**
-     * Notify handlers of a row dimension change
-     * @param newRows new row dimension
-     */
-    private void notifyOnRows(int newRows) {
-        for(ResizableMatrixChangeHandler handler: handlers) {
-            handler.onRowDimension(newRows);
-        }
-    }
-    
-    /**
-     * Notify handlers of a column dimension change
-     * @param newColumns new column dimension
-     */
-    private void notifyOnColumns(int newColumns) {
-        for(ResizableMatrixChangeHandler handler: handlers) {
-            handler.onColumnDimension(newColumns);
-        }
-    }
-    
-    /**
-     * Notify handlers of a cell contents change
-     * @param row cell row
-     * @param column cell column
-     * @param value new cell contents
-     */
-    private void notifyOnCellChange(int row, int column, double value) {
-        for(ResizableMatrixChangeHandler handler: handlers) {
-            handler.onCellChange(row, column, value);
-        }
-    }
-}
+/*
+ * Web Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations. 
+ * 
+ * Copyright (C) 2010 Regents of the University of Colorado.  
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.event.dom.client.ChangeEvent;
+import com.google.gwt.event.dom.client.ChangeHandler;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.ScrollEvent;
+import com.google.gwt.event.dom.client.ScrollHandler;
+import com.google.gwt.user.client.ui.AbsolutePanel;
+import com.google.gwt.user.client.ui.Button;
+import com.google.gwt.user.client.ui.Composite;
+import com.google.gwt.user.client.ui.Grid;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.HorizontalPanel;
+import com.google.gwt.user.client.ui.ScrollPanel;
+import com.google.gwt.user.client.ui.TextBox;
+import com.google.gwt.user.client.ui.VerticalPanel;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+import edu.ucdenver.bios.glimmpseweb.client.TextValidation;
+import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
+
+/**
+ * Generic resizable matrix display panel.
+ * <p>
+ * The cell values are held in a numeric model, and only the cells in
+ * the visible viewport are rendered.  The viewport uses a fixed pool of
+ * text boxes which are rebound to matrix cells as the user scrolls, and
+ * edits are handled by a single change handler on the cell grid.  This
+ * keeps the number of widgets constant for matrices with several
+ * hundred rows and columns.
+ * </p>
+ * 
+ * @author Vijay Chander-Akula
+ * @author Sarah Kreidler
+ *
+ */
+public class ResizableMatrixPanel extends Composite
+{
+    // change handler for matrix cell values
+    // at present we only allow one of these - didn't have time to deal with
+    // the timing issues of resize events and adding change handlers
+    protected ArrayList<ResizableMatrixChangeHandler> handlers = 
+            new ArrayList<ResizableMatrixChangeHandler>();
+    
+    // maximum allowed rows and columns
+    protected static final int DEFAULT_MAX_ROWS = 500;
+    protected static final int DEFAULT_MAX_COLS = 500;
+    // minimum allowed rows/columns
+    protected static final int MIN_ROW_COL = 1;
+    // maximum number of rows and columns rendered at once
+    protected static final int VIEWPORT_ROWS = 15;
+    protected static final int VIEWPORT_COLUMNS = 10;
+    // estimated size of cells and labels in pixels, used to size the scroll area
+    private static final int CELL_WIDTH = 56;
+    private static final int CELL_HEIGHT = 28;
+    private static final int LABEL_WIDTH = 120;
+    private static final int SCROLLBAR_SIZE = 20;
+    // max rows/columns - allows calling application to control this value
+    protected int maxRows = DEFAULT_MAX_ROWS;
+    protected int maxCols = DEFAULT_MAX_COLS;
+    // min and max values for matrix cells
+    protected double minCellValue = Double.NaN;
+    protected double maxCellValue = Double.NaN;
+    
+    // default value for off diagonal elements
+    protected String defaultOffDiagonalValue = "0";
+    protected String defaultDiagonalValue = "1";
+    // row dimension of the matrix
+    protected int rows;
+    // column dimension of the matrix
+    protected int columns;
+    // indicates the matrix is symmetric
+    // if true, the matrix will only allow editing of the lower triangle and will auto-populate
+    // the corresponding cells in the upper triangle
+    protected boolean isSymmetric;
+    // indicates that the off diagonals of the matrix are editable
+    protected boolean allowEditOffDiagonal;
+    // indicates that the diagonal elements of the matrix are editable
+    protected boolean allowEditDiagonal;
+    // indicates if the matrix dimensions should be displayed
+    protected boolean showDimensions;
+    // cell values stored row by row.  Empty cells are NaN.  This is the
+    // authoritative copy of the matrix - editors only display it
+    protected double[] values;
+    // true if the values or dimensions changed since the last load
+    protected boolean modified = false;
+    // row and column labels
+    protected String[] rowLabels;
+    protected String[] columnLabels;
+    // first matrix row and column displayed in the viewport
+    protected int firstRow = 0;
+    protected int firstColumn = 0;
+    // labels and pooled cell editors for the viewport.  Labels appear 
+    // in row 0 and column 0
+    protected Grid cellGrid = new Grid(1, 1);
+    private RowColumnTextBox[][] editors = 
+        new RowColumnTextBox[VIEWPORT_ROWS][VIEWPORT_COLUMNS];
+    // scroll area used when the matrix is larger than the viewport
+    protected ScrollPanel scrollPanel = new ScrollPanel();
+    protected AbsolutePanel scrollContent = new AbsolutePanel();
+    // panel containing dimensions
+    protected HorizontalPanel dimensionPanel = new HorizontalPanel();
+    // text box for row dimension
+    protected TextBox rowTextBox = new TextBox();
+    // text box for column dimension
+    protected TextBox columnTextBox = new TextBox();
+    // panel containing the fill operations
+    protected HorizontalPanel fillPanel = new HorizontalPanel();
+    // text box for the fill value
+    protected TextBox fillValueTextBox = new TextBox();
+    // fill operation buttons
+    protected Button fillButton = new Button(GlimmpseWeb.constants.matrixFillConstantButton());
+    protected Button diagonalButton = new Button(GlimmpseWeb.constants.matrixSetDiagonalButton());
+    protected Button identityButton = new Button(GlimmpseWeb.constants.matrixIdentityButton());
+    // if false, the fill operations are hidden even if cells are editable
+    protected boolean fillOperationsVisible = true;
+    
+    // error html
+    protected HTML errorHTML = new HTML();
+    protected String errorMsg = GlimmpseWeb.constants.errorInvalidNumber();
+    /**
+     * Text box which knows the matrix cell it is currently editing.
+     * The position changes as the viewport scrolls.
+     */
+    private class RowColumnTextBox extends TextBox 
+    {
+        public int row;
+        public int column;
+    };
+
+    /**
+     * Create a ResizableMatrixPanel with the specified dimensions.  By default, dimensions
+     * are displayed, and all cells are editable
+     * 
+     * @param row row dimension
+     * @param column column dimension
+     * @param showDimensions if true, the row x column dimensions will be displayed in the panel
+     * @param allowEditDiagonal if true, diagonal elements will be editable
+     * @param allowEditOffDiagonal if true, off diagonal elements will be editable
+     * @param isSymmetric indicates if the matrix is symmetric
+     */
+    public ResizableMatrixPanel(int rows, int columns)
+    {
+        this(rows, columns, true, true, true, false);
+    }
+
+    /**
+     * Create a ResizableMatrixPanel with the specified restrictions
+     * 
+     * @param row row dimension
+     * @param column column dimension
+     * @param showDimensions if true, the row x column dimensions will be displayed in the panel
+     * @param allowEditDiagonal if true, diagonal elements will be editable
+     * @param allowEditOffDiagonal if true, off diagonal elements will be editable
+     * @param isSymmetric indicates if the matrix is symmetric
+     */
+    public ResizableMatrixPanel(int rows, int columns, boolean showDimensions, boolean allowEditDiagonal,
+            boolean allowEditOffDiagonal, boolean isSymmetric)
+    {
+        VerticalPanel verticalPanel = new VerticalPanel();
+        this.rows = 0;
+        this.columns = 0;
+        this.values = new double[0];
+        this.rowLabels = new String[0];
+        this.columnLabels = new String[0];
+        this.isSymmetric = isSymmetric;
+        this.allowEditOffDiagonal = allowEditOffDiagonal;
+        this.allowEditDiagonal = allowEditDiagonal;
+        this.showDimensions = showDimensions;
+
+        // build the matrix data
+        buildMatrixCellsAndLabels();
+        resize(rows, columns);
+        modified = false;
+
+        // build the dimension display
+        buildDimensions();
+        // build the fill operations
+        buildFillOperations();
+
+        // layout the panel
+        verticalPanel.add(dimensionPanel);
+        verticalPanel.add(scrollPanel);
+        verticalPanel.add(fillPanel);
+        verticalPanel.add(errorHTML);
+
+        // show and hide widgets as specified
+        dimensionPanel.setVisible(showDimensions);
+
+        // add style
+        verticalPanel.setStyleName(GlimmpseConstants.STYLE_MATRIX_PANEL);
+        dimensionPanel.setStyleName(GlimmpseConstants.STYLE_MATRIX_DIMENSION);
+        fillPanel.setStyleName(GlimmpseConstants.STYLE_MATRIX_FILL);
+        cellGrid.setStyleName(GlimmpseConstants.STYLE_MATRIX_DATA);
+        errorHTML.setStyleName(GlimmpseConstants.STYLE_MESSAGE);
+
+        // initialize
+        initWidget(verticalPanel);
+    }
+
+    /**
+     * Change the row dimension of the matrix display
+     * @param newRows new row dimension
+     */
+    public void setRowDimension(int newRows)
+    {
+        if (newRows != rows && 
+                newRows >= MIN_ROW_COL && newRows <= maxRows)
+        {
+            resize(newRows, (isSymmetric ? newRows : columns));
+            // update the display text
+            rowTextBox.setText(Integer.toString(rows));
+            columnTextBox.setText(Integer.toString(columns));
+        }
+    }
+
+    /**
+     * Change the column dimension of the matrix
+     * @param newCols new column dimension
+     */
+    public void setColumnDimension(int newCols)
+    {
+        if (newCols != columns &&
+                newCols >= MIN_ROW_COL && newCols <= maxCols)
+        {
+            resize((isSymmetric ? newCols : rows), newCols);
+            // update the display text
+            rowTextBox.setText(Integer.toString(rows));
+            columnTextBox.setText(Integer.toString(columns));
+        }
+    }
+
+    /**
+     * Resize the matrix model.  Existing values and labels are kept,
+     * and new cells are set to the default values.
+     * @param newRows new row dimension
+     * @param newColumns new column dimension
+     */
+    private void resize(int newRows, int newColumns)
+    {
+        double diagonal = parseDefault(defaultDiagonalValue);
+        double offDiagonal = parseDefault(defaultOffDiagonalValue);
+        double[] newValues = new double[newRows * newColumns];
+        for(int row = 0; row < newRows; row++)
+        {
+            int offset = row * newColumns;
+            int copied = 0;
+            if (row < rows)
+            {
+                copied = Math.min(columns, newColumns);
+                System.arraycopy(values, row * columns, newValues, offset, copied);
+            }
+            for(int column = copied; column < newColumns; column++)
+            {
+                newValues[offset + column] = (row == column ? diagonal : offDiagonal);
+            }
+        }
+        values = newValues;
+        rowLabels = resizeLabels(rowLabels, newRows);
+        columnLabels = resizeLabels(columnLabels, newColumns);
+        rows = newRows;
+        columns = newColumns;
+        modified = true;
+        layoutViewport();
+        updateFillOperations();
+    }
+
+    /**
+     * Resize a label array, keeping existing labels
+     */
+    private String[] resizeLabels(String[] labels, int size)
+    {
+        String[] newLabels = new String[size];
+        for(int i = 0; i < size; i++)
+        {
+            newLabels[i] = (i < labels.length ? labels[i] : "");
+        }
+        return newLabels;
+    }
+
+    /**
+     * Parse a default cell value
+     * @param value default value as a string
+     * @return numeric value, or NaN if empty
+     */
+    private double parseDefault(String value)
+    {
+        try
+        {
+            return (value != null && !value.isEmpty() ? Double.parseDouble(value) : Double.NaN);
+        }
+        catch (NumberFormatException nfe)
+        {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Add row labels.  The number of labels must exactly match the number
+     * of rows in the matrix
+     * @param labelList list of labels
+     */
+    public void setRowLabels(List<String> labelList)
+    {
+        if (labelList.size() == rows)
+        {
+            rowLabels = labelList.toArray(new String[rows]);
+            render();
+        }
+    }
+
+    /**
+     * Add column labels to the panel.  The list length must be exactly the
+     * number of columns currently in the matrix
+     * @param labelList list of labels.
+     */
+    public void setColumnLabels(List<String> labelList)
+    {
+        if (labelList.size() == columns)
+        {
+            columnLabels = labelList.toArray(new String[columns]);
+            render();
+        }
+    }
+
+    /**
+     * Set the value of a specified cell in the matrix
+     * @param row cell's row index
+     * @param column cell's column index
+     * @param value new cell value
+     */
+    public void setCellValue(int row, int column, String value)
+    {	
+        double numericValue = Double.NaN;
+        if (value != null && !value.isEmpty())
+        {
+            try
+            {
+                numericValue = Double.parseDouble(value);
+            }
+            catch (NumberFormatException nfe)
+            {
+                // leave the cell empty
+            }
+        }
+        storeValue(row, column, numericValue);
+    }
+
+    /**
+     * Get the value of a specified cell in the matrix
+     * @param row cell's row index
+     * @param column cell's column index
+     */
+    public double getCellValue(int row, int column)
+    {
+        return values[row * columns + column];
+    }
+
+    /**
+     * Specify whether editing of diagonal elements is allowed
+     * @param editable if true, the diagonal cells can be edited
+     */
+    public void setDiagonalsEditable(boolean editable)
+    {
+        this.allowEditDiagonal = editable;
+        render();
+        updateFillOperations();
+    }
+
+    /**
+     * Build the grid of matrix cells and surrounding labels, and the
+     * delegated event handlers
+     */
+    private void buildMatrixCellsAndLabels()
+    {
+        // a single change handler for all cell editors
+        cellGrid.addDomHandler(new ChangeHandler() {
+            @Override
+            public void onChange(ChangeEvent event)
+            {
+                RowColumnTextBox tb = findEditor(
+                        Element.as(event.getNativeEvent().getEventTarget()));
+                if (tb != null)
+                {
+                    onCellEdit(tb);
+                }
+            }
+        }, ChangeEvent.getType());
+
+        scrollPanel.addScrollHandler(new ScrollHandler() {
+            @Override
+            public void onScroll(ScrollEvent event)
+            {
+                commitFocusedEditor();
+                updateViewportPosition();
+            }
+        });
+        scrollPanel.setWidget(cellGrid);
+        addPasteHandler(cellGrid.getElement());
+    }
+
+    /**
+     * Size the cell grid and scroll area for the current dimensions
+     */
+    private void layoutViewport()
+    {
+        int viewRows = Math.min(rows, VIEWPORT_ROWS);
+        int viewColumns = Math.min(columns, VIEWPORT_COLUMNS);
+        cellGrid.resize(viewRows + 1, viewColumns + 1);
+        for(int row = 0; row < viewRows; row++)
+        {
+            for(int column = 0; column < viewColumns; column++)
+            {
+                RowColumnTextBox editor = getEditor(row, column);
+                if (cellGrid.getWidget(row + 1, column + 1) != editor)
+                {
+                    cellGrid.setWidget(row + 1, column + 1, editor);
+                }
+            }
+        }
+
+        if (rows > viewRows || columns > viewColumns)
+        {
+            // size the scroll area for the full matrix, and keep the 
+            // grid positioned over the visible part
+            int contentWidth = LABEL_WIDTH + columns * CELL_WIDTH;
+            int contentHeight = (rows + 1) * CELL_HEIGHT;
+            scrollContent.setPixelSize(contentWidth, contentHeight);
+            if (cellGrid.getParent() != scrollContent)
+            {
+                scrollContent.add(cellGrid, 0, 0);
+            }
+            if (scrollPanel.getWidget() != scrollContent)
+            {
+                scrollPanel.setWidget(scrollContent);
+            }
+            scrollPanel.setPixelSize(
+                    Math.min(contentWidth, LABEL_WIDTH + viewColumns * CELL_WIDTH) + SCROLLBAR_SIZE, 
+                    Math.min(contentHeight, (viewRows + 1) * CELL_HEIGHT) + SCROLLBAR_SIZE);
+            updateViewportPosition();
+        }
+        else
+        {
+            if (scrollPanel.getWidget() != cellGrid)
+            {
+                scrollPanel.setWidget(cellGrid);
+            }
+            scrollPanel.setSize("", "");
+            firstRow = 0;
+            firstColumn = 0;
+            render();
+        }
+    }
+
+    /**
+     * Move the viewport to match the scroll position
+     */
+    private void updateViewportPosition()
+    {
+        if (cellGrid.getParent() != scrollContent)
+        {
+            return;
+        }
+        int top = scrollPanel.getVerticalScrollPosition();
+        int left = scrollPanel.getHorizontalScrollPosition();
+        int verticalRange = scrollPanel.getMaximumVerticalScrollPosition();
+        int horizontalRange = scrollPanel.getMaximumHorizontalScrollPosition();
+        int maxFirstRow = rows - Math.min(rows, VIEWPORT_ROWS);
+        int maxFirstColumn = columns - Math.min(columns, VIEWPORT_COLUMNS);
+        // map the scroll fraction onto the rows and columns so the last
+        // cells are reachable even if the estimated cell size is off
+        firstRow = (verticalRange > 0 ? 
+                (int) Math.round((double) top / verticalRange * maxFirstRow) : 0);
+        firstColumn = (horizontalRange > 0 ? 
+                (int) Math.round((double) left / horizontalRange * maxFirstColumn) : 0);
+        firstRow = Math.max(0, Math.min(firstRow, maxFirstRow));
+        firstColumn = Math.max(0, Math.min(firstColumn, maxFirstColumn));
+        scrollContent.setWidgetPosition(cellGrid, left, top);
+        render();
+    }
+
+    /**
+     * Store any text being typed in the focused cell editor before the
+     * editors are bound to different cells.  The editor loses focus so
+     * further typing does not go to the newly bound cell.
+     */
+    private void commitFocusedEditor()
+    {
+        RowColumnTextBox tb = findEditor(getActiveElement());
+        if (tb == null || !tb.isEnabled())
+        {
+            return;
+        }
+        // browsers may fire the change event on blur, which stores the text
+        tb.setFocus(false);
+        String storedText = formatValue(values[tb.row * columns + tb.column]);
+        if (!storedText.equals(tb.getText()))
+        {
+            onCellEdit(tb);
+        }
+    }
+
+    /**
+     * Get the element which has keyboard focus
+     * @return focused element, or null if none
+     */
+    private static native Element getActiveElement() /*-{
+        return $doc.activeElement;
+    }-*/;
+
+    /**
+     * Get the pooled editor for a viewport position, creating it if needed
+     * @param viewRow row in the viewport
+     * @param viewColumn column in the viewport
+     * @return editor
+     */
+    private RowColumnTextBox getEditor(int viewRow, int viewColumn)
+    {
+        RowColumnTextBox editor = editors[viewRow][viewColumn];
+        if (editor == null)
+        {
+            editor = new RowColumnTextBox();
+            editor.setStyleName(GlimmpseConstants.STYLE_MATRIX_CELL);
+            editors[viewRow][viewColumn] = editor;
+        }
+        return editor;
+    }
+
+    /**
+     * Find the editor for the element which fired an event
+     * @param target event target
+     * @return editor, or null if the target is not a cell editor
+     */
+    private RowColumnTextBox findEditor(Element target)
+    {
+        int viewRows = Math.min(rows, VIEWPORT_ROWS);
+        int viewColumns = Math.min(columns, VIEWPORT_COLUMNS);
+        for(int row = 0; row < viewRows; row++)
+        {
+            for(int column = 0; column < viewColumns; column++)
+            {
+                RowColumnTextBox editor = editors[row][column];
+                if (editor != null && editor.getElement() == target)
+                {
+                    return editor;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bind the viewport editors and labels to the visible cells
+     */
+    private void render()
+    {
+        int viewRows = Math.min(rows, VIEWPORT_ROWS);
+        int viewColumns = Math.min(columns, VIEWPORT_COLUMNS);
+        cellGrid.setHTML(0, 0, "");
+        for(int column = 0; column < viewColumns; column++)
+        {
+            cellGrid.setHTML(0, column + 1, columnLabels[firstColumn + column]);
+        }
+        for(int row = 0; row < viewRows; row++)
+        {
+            cellGrid.setHTML(row + 1, 0, rowLabels[firstRow + row]);
+            for(int column = 0; column < viewColumns; column++)
+            {
+                RowColumnTextBox editor = getEditor(row, column);
+                editor.row = firstRow + row;
+                editor.column = firstColumn + column;
+                updateEditor(editor);
+            }
+        }
+    }
+
+    /**
+     * Update the editor for a single cell, if it is visible
+     * @param row cell row
+     * @param column cell column
+     */
+    private void renderCell(int row, int column)
+    {
+        int viewRow = row - firstRow;
+        int viewColumn = column - firstColumn;
+        if (viewRow >= 0 && viewRow < Math.min(rows, VIEWPORT_ROWS) &&
+                viewColumn >= 0 && viewColumn < Math.min(columns, VIEWPORT_COLUMNS))
+        {
+            updateEditor(getEditor(viewRow, viewColumn));
+        }
+    }
+
+    /**
+     * Show the value and edit state of the editor's cell
+     * @param editor cell editor
+     */
+    private void updateEditor(RowColumnTextBox editor)
+    {
+        String text = formatValue(values[editor.row * columns + editor.column]);
+        if (!text.equals(editor.getText()))
+        {
+            editor.setText(text);
+        }
+        boolean enabled = isCellEditAllowed(editor.row, editor.column);
+        if (enabled != editor.isEnabled())
+        {
+            editor.setEnabled(enabled);
+            if (enabled)
+            {
+                editor.removeStyleDependentName(GlimmpseConstants.STYLE_DISABLED);
+            }
+            else
+            {
+                editor.addStyleDependentName(GlimmpseConstants.STYLE_DISABLED);
+            }
+        }
+    }
+
+    /**
+     * Store a cell value in the model.  The cell is only redrawn 
+     * if the value changed and is visible.
+     * @param row cell row
+     * @param column cell column
+     * @param value new value
+     * @return true if the value changed
+     */
+    private boolean storeValue(int row, int column, double value)
+    {
+        int index = row * columns + column;
+        double current = values[index];
+        if (current == value || (Double.isNaN(current) && Double.isNaN(value)))
+        {
+            return false;
+        }
+        values[index] = value;
+        modified = true;
+        renderCell(row, column);
+        return true;
+    }
+
+    /**
+     * Format a cell value for display.  Whole numbers are shown 
+     * without a decimal point, and empty cells as blank.
+     * @param value cell value
+     * @return display text
+     */
+    private String formatValue(double value)
+    {
+        if (Double.isNaN(value))
+        {
+            return "";
+        }
+        if (value == Math.floor(value) && Math.abs(value) < 1.0E15)
+        {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * Validate an edited cell and store it in the model.  Invalid
+     * entries are reverted to the stored value.
+     * @param tb cell editor
+     */
+    private void onCellEdit(RowColumnTextBox tb)
+    {
+        try
+        {
+            double numericValue = parseCellValue(tb.getValue());
+            TextValidation.displayOkay(errorHTML, "");
+            storeValue(tb.row, tb.column, numericValue);
+            // notify listeners of cell contents change
+            notifyOnCellChange(tb.row, tb.column, numericValue);
+
+            if (isSymmetric && tb.row != tb.column) {
+                storeValue(tb.column, tb.row, numericValue);
+                // notify listeners of cell contents change
+                notifyOnCellChange(tb.column, tb.row, numericValue);
+            }
+        }
+        catch(Exception e)
+        {
+            TextValidation.displayError(errorHTML, errorMsg);
+            updateEditor(tb);
+        }
+    }
+
+    /**
+     * Parse a cell value and check it against the min and max cell values
+     * @param value cell text
+     * @return numeric value
+     * @throws NumberFormatException if the value is invalid or out of range
+     */
+    private double parseCellValue(String value) throws NumberFormatException
+    {
+        if (!Double.isNaN(minCellValue) && !Double.isNaN(maxCellValue) ) {
+            return TextValidation.parseDouble(value, minCellValue, maxCellValue, true);
+        } else if (!Double.isNaN(maxCellValue)) {
+            return TextValidation.parseDouble(value, maxCellValue, false, true);
+        } else if (!Double.isNaN(minCellValue)) {
+            return TextValidation.parseDouble(value, minCellValue, true, true);
+        } else {
+            return TextValidation.parseDouble(value);
+        }
+    }
+
+    /**
+     * Returns true if the value is within the min and max cell values
+     * @param value cell value
+     */
+    private boolean isCellValueAllowed(double value)
+    {
+        return !Double.isNaN(value) &&
+            (Double.isNaN(minCellValue) || value >= minCellValue) &&
+            (Double.isNaN(maxCellValue) || value <= maxCellValue);
+    }
+
+    /**
+     * Handle text pasted into a cell editor.  Blocks of values are
+     * pasted starting at the cell, while a single value is left to the
+     * text box.
+     * @param target element receiving the paste
+     * @param text clipboard contents
+     * @return true if the paste was handled
+     */
+    private boolean onPaste(Element target, String text)
+    {
+        RowColumnTextBox tb = findEditor(target);
+        if (tb == null || text == null ||
+                (text.indexOf('\t') < 0 && text.indexOf(',') < 0 &&
+                        text.trim().indexOf('\n') < 0))
+        {
+            return false;
+        }
+        pasteText(tb.row, tb.column, text);
+        return true;
+    }
+
+    /**
+     * Listen for paste events from the cell editors.  GWT does not
+     * provide a paste event, so the handler is attached to the grid
+     * element directly.
+     * @param element cell grid element
+     */
+    private native void addPasteHandler(Element element) /*-{
+        var panel = this;
+        element.onpaste = $entry(function(event) {
+            event = event || $wnd.event;
+            var clipboard = (event.clipboardData ? event.clipboardData : $wnd.clipboardData);
+            if (!clipboard) {
+                return true;
+            }
+            var text = clipboard.getData(event.clipboardData ? "text/plain" : "Text");
+            var target = (event.target ? event.target : event.srcElement);
+            if (panel.@edu.ucdenver.bios.glimmpseweb.client.shared.ResizableMatrixPanel::onPaste(Lcom/google/gwt/dom/client/Element;Ljava/lang/String;)(target, text)) {
+                if (event.preventDefault) {
+                    event.preventDefault();
+                }
+                return false;
+            }
+            return true;
+        });
+    }-*/;
+
+    /**
+     * Split clipboard text into rows of fields.  Fields are separated by
+     * tabs, as copied from a spreadsheet, or by commas for CSV text.
+     * Quotes around fields and a trailing line break are removed.
+     * @param text clipboard text
+     * @return fields by row.  Rows may have different lengths.
+     */
+    protected static String[][] splitBlock(String text)
+    {
+        String block = text.replace("\r\n", "\n").replace('\r', '\n');
+        if (block.endsWith("\n"))
+        {
+            block = block.substring(0, block.length() - 1);
+        }
+        String delimiter = (block.indexOf('\t') >= 0 ? "\t" : ",");
+        String[] lines = block.split("\n", -1);
+        String[][] fields = new String[lines.length][];
+        for(int row = 0; row < lines.length; row++)
+        {
+            fields[row] = lines[row].split(delimiter, -1);
+            for(int column = 0; column < fields[row].length; column++)
+            {
+                String field = fields[row][column].trim();
+                if (field.length() >= 2 && field.startsWith("\"") && field.endsWith("\""))
+                {
+                    field = field.substring(1, field.length() - 1).trim();
+                }
+                fields[row][column] = field;
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Paste a block of tab or comma delimited values with its upper left
+     * corner at the specified cell.  All values are validated before any
+     * cell is changed.  The matrix grows to fit the block if its dimensions
+     * are editable, otherwise the block is clipped.  Empty fields and
+     * cells which may not be edited are skipped.  Listeners receive a
+     * single block change event.
+     * @param row row of the upper left cell
+     * @param column column of the upper left cell
+     * @param text delimited text
+     * @return true if the text was valid
+     */
+    public boolean pasteText(int row, int column, String text)
+    {
+        if (text == null || row < 0 || row >= rows ||
+                column < 0 || column >= columns)
+        {
+            return false;
+        }
+        String[][] fields = splitBlock(text);
+        int blockColumns = 0;
+        for(String[] fieldRow: fields)
+        {
+            blockColumns = Math.max(blockColumns, fieldRow.length);
+        }
+        double[][] block = new double[fields.length][blockColumns];
+        try
+        {
+            for(int r = 0; r < fields.length; r++)
+            {
+                for(int c = 0; c < blockColumns; c++)
+                {
+                    String field = (c < fields[r].length ? fields[r][c] : "");
+                    block[r][c] = (field.isEmpty() ? Double.NaN : parseCellValue(field));
+                }
+            }
+        }
+        catch (NumberFormatException nfe)
+        {
+            TextValidation.displayError(errorHTML, errorMsg);
+            return false;
+        }
+        TextValidation.displayOkay(errorHTML, "");
+        growToFit(row + fields.length, column + blockColumns);
+        storeBlock(row, column, block);
+        return true;
+    }
+
+    /**
+     * Set every editable cell to the specified value.  Listeners
+     * receive a single block change event.
+     * @param value new cell value
+     * @return true if the value is allowed in the matrix
+     */
+    public boolean fillConstant(double value)
+    {
+        if (!isCellValueAllowed(value))
+        {
+            return false;
+        }
+        double[][] block = new double[rows][columns];
+        for(int row = 0; row < rows; row++)
+        {
+            for(int column = 0; column < columns; column++)
+            {
+                block[row][column] = value;
+            }
+        }
+        storeBlock(0, 0, block);
+        return true;
+    }
+
+    /**
+     * Set the editable diagonal cells to the specified value.  Listeners
+     * receive a single block change event.
+     * @param value new diagonal value
+     * @return true if the diagonal is editable and the value is allowed
+     * in the matrix
+     */
+    public boolean setDiagonal(double value)
+    {
+        if (!allowEditDiagonal || !isCellValueAllowed(value))
+        {
+            return false;
+        }
+        double[][] block = new double[rows][columns];
+        for(int row = 0; row < rows; row++)
+        {
+            for(int column = 0; column < columns; column++)
+            {
+                block[row][column] = (row == column ? value : Double.NaN);
+            }
+        }
+        storeBlock(0, 0, block);
+        return true;
+    }
+
+    /**
+     * Set the editable cells to the identity matrix (or the upper left
+     * identity block for non-square matrices).  Listeners receive a
+     * single block change event.
+     * @return true if any cell is editable and 0 and 1 are allowed in 
+     * the matrix
+     */
+    public boolean setIdentity()
+    {
+        if ((!allowEditDiagonal && !allowEditOffDiagonal) ||
+                !isCellValueAllowed(0) || !isCellValueAllowed(1))
+        {
+            return false;
+        }
+        double[][] block = new double[rows][columns];
+        for(int row = 0; row < rows && row < columns; row++)
+        {
+            block[row][row] = 1;
+        }
+        storeBlock(0, 0, block);
+        return true;
+    }
+
+    /**
+     * Grow the matrix to the specified size, within the maximum
+     * dimensions, if the dimensions are editable.  Listeners are
+     * notified of dimension changes.
+     * @param neededRows minimum row dimension
+     * @param neededColumns minimum column dimension
+     */
+    private void growToFit(int neededRows, int neededColumns)
+    {
+        int newRows = rows;
+        int newColumns = columns;
+        if (showDimensions && rowTextBox.isEnabled())
+        {
+            newRows = Math.max(rows, Math.min(neededRows, maxRows));
+        }
+        if (showDimensions && columnTextBox.isEnabled())
+        {
+            newColumns = Math.max(columns, Math.min(neededColumns, maxCols));
+        }
+        if (isSymmetric)
+        {
+            newRows = Math.max(newRows, newColumns);
+            newColumns = newRows;
+        }
+        if (newRows != rows)
+        {
+            setRowDimension(newRows);
+            notifyOnRows(newRows);
+        }
+        if (newColumns != columns)
+        {
+            setColumnDimension(newColumns);
+            notifyOnColumns(newColumns);
+        }
+    }
+
+    /**
+     * Store a block of values with its upper left corner at the specified
+     * cell.  Empty (NaN) entries, cells outside the matrix, and cells which
+     * may not be edited are skipped.  Values are mirrored in symmetric
+     * matrices.  If any cell changed, listeners receive a single block
+     * change event listing only the changed cells.
+     * @param startRow row of the upper left cell
+     * @param startColumn column of the upper left cell
+     * @param block values to store
+     */
+    private void storeBlock(int startRow, int startColumn, double[][] block)
+    {
+        int capacity = 0;
+        for(int r = 0; r < block.length && startRow + r < rows; r++)
+        {
+            capacity += Math.max(0, Math.min(block[r].length, columns - startColumn));
+        }
+        int[] changedRows = new int[capacity];
+        int[] changedColumns = new int[capacity];
+        double[] changedValues = new double[capacity];
+        int count = 0;
+        for(int r = 0; r < block.length && startRow + r < rows; r++)
+        {
+            int row = startRow + r;
+            for(int c = 0; c < block[r].length && startColumn + c < columns; c++)
+            {
+                int column = startColumn + c;
+                double value = block[r][c];
+                if (Double.isNaN(value) || !isCellEditAllowed(row, column))
+                {
+                    continue;
+                }
+                boolean changed = storeValue(row, column, value);
+                if (isSymmetric && row != column)
+                {
+                    changed = storeValue(column, row, value) || changed;
+                }
+                if (changed)
+                {
+                    // editable cells of symmetric matrices are in the lower triangle
+                    changedRows[count] = row;
+                    changedColumns[count] = column;
+                    changedValues[count] = value;
+                    count++;
+                }
+            }
+        }
+        if (count > 0)
+        {
+            if (count < capacity)
+            {
+                int[] trimmedRows = new int[count];
+                int[] trimmedColumns = new int[count];
+                double[] trimmedValues = new double[count];
+                System.arraycopy(changedRows, 0, trimmedRows, 0, count);
+                System.arraycopy(changedColumns, 0, trimmedColumns, 0, count);
+                System.arraycopy(changedValues, 0, trimmedValues, 0, count);
+                changedRows = trimmedRows;
+                changedColumns = trimmedColumns;
+                changedValues = trimmedValues;
+            }
+            notifyOnCellBlockChange(changedRows, changedColumns, changedValues);
+        }
+    }
+
+    /**
+     * Build the row/column dimension panel
+     */
+    private void buildDimensions()
+    {
+        // matrix dimensions
+        rowTextBox = new TextBox();
+        rowTextBox.setValue(Integer.toString(rows), false);
+        rowTextBox.addChangeHandler(new ChangeHandler() {
+            public void onChange(ChangeEvent e)
+            {
+                try
+                {
+                    int newRows = 
+                        TextValidation.parseInteger(rowTextBox.getText(), MIN_ROW_COL, maxRows);
+                    setRowDimension(newRows);
+                    // notify listeners of row change
+                    notifyOnRows(newRows);
+                    TextValidation.displayOkay(errorHTML, "");
+                }
+                catch (NumberFormatException nfe)
+                {
+                    TextValidation.displayError(errorHTML, GlimmpseWeb.constants.errorInvalidMatrixDimension());
+                    rowTextBox.setText(Integer.toString(rows));
+                }
+            }
+        });
+        columnTextBox = new TextBox();
+        columnTextBox.setValue(Integer.toString(columns), false);		
+        columnTextBox.addChangeHandler(new ChangeHandler() {
+            public void onChange(ChangeEvent e)
+            {
+                try
+                {
+                    int newCols = TextValidation.parseInteger(columnTextBox.getText(), MIN_ROW_COL, maxCols);
+                    setColumnDimension(newCols);
+                    // notify listeners of column change
+                    notifyOnColumns(newCols);
+                    TextValidation.displayOkay(errorHTML, "");
+                }
+                catch (NumberFormatException nfe)
+                {
+                    columnTextBox.setText(Integer.toString(columns));
+                    TextValidation.displayError(errorHTML, GlimmpseWeb.constants.errorInvalidMatrixDimension());
+                }
+            }
+        });
+
+        // layout the matrix dimensions
+        dimensionPanel.add(rowTextBox);
+        dimensionPanel.add(new HTML(GlimmpseWeb.constants.matrixDimensionSeparator()));
+        dimensionPanel.add(columnTextBox);
+    }
+
+    /**
+     * Build the panel of fill operations.  Each operation is applied
+     * to the editable cells as a single block change.
+     */
+    private void buildFillOperations()
+    {
+        fillButton.addClickHandler(new ClickHandler() {
+            public void onClick(ClickEvent event)
+            {
+                Double value = parseFillValue();
+                if (value != null)
+                {
+                    fillConstant(value);
+                }
+            }
+        });
+        diagonalButton.addClickHandler(new ClickHandler() {
+            public void onClick(ClickEvent event)
+            {
+                Double value = parseFillValue();
+                if (value != null)
+                {
+                    setDiagonal(value);
+                }
+            }
+        });
+        identityButton.addClickHandler(new ClickHandler() {
+            public void onClick(ClickEvent event)
+            {
+                if (setIdentity())
+                {
+                    TextValidation.displayOkay(errorHTML, "");
+                }
+                else
+                {
+                    TextValidation.displayError(errorHTML, errorMsg);
+                }
+            }
+        });
+
+        // layout the fill operations
+        fillPanel.add(new HTML(GlimmpseWeb.constants.matrixFillValueLabel()));
+        fillPanel.add(fillValueTextBox);
+        fillPanel.add(fillButton);
+        fillPanel.add(diagonalButton);
+        fillPanel.add(identityButton);
+        updateFillOperations();
+    }
+
+    /**
+     * Parse the fill value, displaying an error if it is invalid
+     * @return fill value, or null if invalid
+     */
+    private Double parseFillValue()
+    {
+        try
+        {
+            double value = parseCellValue(fillValueTextBox.getText());
+            TextValidation.displayOkay(errorHTML, "");
+            return value;
+        }
+        catch (NumberFormatException nfe)
+        {
+            TextValidation.displayError(errorHTML, errorMsg);
+            return null;
+        }
+    }
+
+    /**
+     * Show or hide the fill operations
+     * @param visible if true, the fill operations are displayed
+     */
+    public void setFillOperationsVisible(boolean visible)
+    {
+        fillOperationsVisible = visible;
+        updateFillOperations();
+    }
+
+    /**
+     * Show only the fill operations which can change an editable cell.
+     * The panel is hidden if no cell is editable, and the set diagonal
+     * button if the diagonal is not editable.
+     */
+    private void updateFillOperations()
+    {
+        boolean diagonalEditable = allowEditDiagonal && Math.min(rows, columns) > 0;
+        boolean offDiagonalEditable = allowEditOffDiagonal && 
+            rows * columns > Math.min(rows, columns);
+        fillPanel.setVisible(fillOperationsVisible && 
+                (diagonalEditable || offDiagonalEditable));
+        diagonalButton.setVisible(diagonalEditable);
+    }
+
+    /**
+     * Determines whether a cell is editable.<p>
+     *  A diagonal cell is editable if any of the following conditions hold
+     *  <ol>
+     * <li>non-symmetric, but editing allowed on diagonal</li>
+     * <li>symmetric matrix</li>
+     * </ol>
+     * </p><p>
+     * An off diagonal cell is editable if any of the following conditions hold
+     * <ol>
+     * <li>non-symmetric, but editing allowed on off-diagonal</li>
+     * <li>symmetric, and current cell in the lower triangle</li>
+     *</p>
+     *
+     * @param row
+     * @param column
+     * @return
+     */
+    private boolean isCellEditAllowed(int row, int column)
+    {
+        boolean isDiagonal = (row == column);
+
+        if (isSymmetric) {
+            if (isDiagonal) {
+                return allowEditDiagonal;
+            } else {
+                return (allowEditOffDiagonal && (row > column));
+            }
+        } else {
+            if (isDiagonal) {
+                return allowEditDiagonal;
+            } else {
+                return allowEditOffDiagonal;
+            }
+        }
+    }
+
+    /**
+     * Create a NamedMatrix object from the ResizableMatrixPanel
+     * model
+     * @param name name of the matrix
+     */
+    public NamedMatrix toNamedMatrix(String name)
+    {
+        NamedMatrix namedMatrix = new NamedMatrix(name);
+        namedMatrix.setRows(rows);
+        namedMatrix.setColumns(columns);
+        namedMatrix.setDataFromArray(toArray());
+        return namedMatrix;
+    }
+
+    /**
+     * Copy the matrix values.  Empty cells are NaN.
+     * @return matrix data
+     */
+    public double[][] toArray()
+    {
+        double[][] data = new double[rows][columns];
+        for(int row = 0; row < rows; row++)
+        {
+            System.arraycopy(values, row * columns, data[row], 0, columns);
+        }
+        return data;
+    }
+
+    /**
+     * Returns true if the matrix values or dimensions have changed 
+     * since the matrix was last loaded or marked unmodified.  Panels
+     * use this to skip storing an unchanged matrix in the context.
+     */
+    public boolean isModified()
+    {
+        return modified;
+    }
+
+    /**
+     * Set the modified flag, typically to false once the matrix has 
+     * been stored in the context
+     * @param modified new value of the flag
+     */
+    public void setModified(boolean modified)
+    {
+        this.modified = modified;
+    }
+
+    /**
+     * Reset to the default cell value and remove all labels
+     * 
+     * @param rows row dimension
+     * @param columns column dimension
+     */
+    public void reset(int rows, int columns)
+    {
+
+    }
+
+    /**
+     * Specify whether the row dimension of the matrix is editable
+     * @param enabled if true, edits are allowed in the row dimension
+     */
+    public void setEnabledRowDimension(boolean enabled)
+    {
+        rowTextBox.setEnabled(enabled);
+    }
+
+    /**
+     * Specify whether the column dimension of the matrix is editable
+     * @param enabled if true, edits are allowed in the column dimension
+     */
+    public void setEnabledColumnDimension(boolean enabled)
+    {
+        columnTextBox.setEnabled(enabled);
+    }
+
+    /**
+     * Set maximum number of rows allowed in the matrix
+     * @param rows max allowed rows
+     */
+    public void setMaxRows(int rows)
+    {
+        if (rows >= MIN_ROW_COL)
+        {
+            maxRows = rows;
+            if (isSymmetric) maxCols = rows;
+        }
+    }
+
+    /**
+     * Set maximum number of columns allowed in the matrix
+     * @param columns max allowed columns
+     */
+    public void setMaxColumns(int columns)
+    {
+        if (columns >= MIN_ROW_COL)
+        {
+            maxCols = columns;
+            if (isSymmetric) maxRows = columns;
+        }
+    }
+    
+    
+    /**
+     * Set maximum value for cells in the matrix
+     * @param rows max allowed rows
+     */
+    public void setMaxCellValue(double maxValue)
+    {
+        this.maxCellValue = maxValue;
+    }
+
+    /**
+     * Set minimum value for cells in the matrix
+     * @param columns max allowed columns
+     */
+    public void setMinCellValue(double minValue)
+    {
+        this.minCellValue = minValue;
+    }
+    
+    public void setCellErrorMessage(String msg) {
+        this.errorMsg = msg;
+    }
+
+    /**
+     * FIll in the matrix model from a NamedMatrix object.  Only the
+     * cells whose values changed are redrawn.  The panel is marked
+     * unmodified afterwards.
+     * @param matrix NamedMatrix object
+     */
+    public void loadFromNamedMatrix(NamedMatrix matrix)
+    {
+        if (matrix != null)
+        {
+            setRowDimension(matrix.getRows());
+            setColumnDimension(matrix.getColumns());
+            if (matrix.getData() != null)
+            {
+                loadValues(rows, columns, matrix.getData().getData());
+            }
+            rowTextBox.setValue(Integer.toString(rows));
+            columnTextBox.setValue(Integer.toString(columns));
+            modified = false;
+        }
+    }
+    
+    /**
+     * Load a submatrix of data into the panel
+     * @param dataRows number of rows in the data
+     * @param dataColumns number of columns in the data
+     * @param data the data
+     */
+    public void loadMatrixData(int dataRows, int dataColumns, double[][] data) {
+        if (dataRows <= rows &&
+                dataColumns <= columns &&
+                data != null) {
+            loadValues(dataRows, dataColumns, data);
+        }
+    }
+
+    /**
+     * Copy the upper left block of the data into the model, storing 
+     * only the values which changed
+     * @param dataRows maximum number of rows to copy
+     * @param dataColumns maximum number of columns to copy
+     * @param data the data
+     */
+    private void loadValues(int dataRows, int dataColumns, double[][] data)
+    {
+        if (data == null)
+        {
+            return;
+        }
+        for(int row = 0; row < dataRows && row < data.length; row++)
+        {
+            double[] dataRow = data[row];
+            if (dataRow == null)
+            {
+                continue;
+            }
+            for(int column = 0; column < dataColumns && column < dataRow.length; column++)
+            {
+                storeValue(row, column, dataRow[column]);
+            }
+        }
+    }
+
+    /**
+     * Get row dimension of the matrix
+     * @return row dimension
+     */
+    public int getRowDimension()
+    {
+        return rows;
+    }
+
+    /**
+     * Get column dimension of the matrix
+     * @return row dimension
+     */
+    public int getColumnDimension()
+    {
+        return columns;
+    }
+
+    /**
+     * Add a change handler to the matrix panel
+     * @param handler handler for dimension or contents changes
+     */
+    public void addChangeHandler(ResizableMatrixChangeHandler handler) {
+        handlers.add(handler);
+    }
+    
+    /**
+     * Notify handlers of a row dimension change
+     * @param newRows new row dimension
+     */
+    private void notifyOnRows(int newRows) {
+        for(ResizableMatrixChangeHandler handler: handlers) {
+            handler.onRowDimension(newRows);
+        }
+    }
+    
+    /**
+     * Notify handlers of a column dimension change
+     * @param newColumns new column dimension
+     */
+    private void notifyOnColumns(int newColumns) {
+        for(ResizableMatrixChangeHandler handler: handlers) {
+            handler.onColumnDimension(newColumns);
+        }
+    }
+    
+    /**
+     * Notify handlers of a cell contents change
+     * @param row cell row
+     * @param column cell column
+     * @param value new cell contents
+     */
+    private void notifyOnCellChange(int row, int column, double value) {
+        for(ResizableMatrixChangeHandler handler: handlers) {
+            handler.onCellChange(row, column, value);
+        }
+    }
+
+    /**
+     * Notify handlers of a bulk change to a set of cells
+     * @param changedRows row of each changed cell
+     * @param changedColumns column of each changed cell
+     * @param changedValues new value of each changed cell
+     */
+    private void notifyOnCellBlockChange(int[] changedRows, int[] changedColumns, 
+            double[] changedValues) {
+        for(ResizableMatrixChangeHandler handler: handlers) {
+            handler.onCellBlockChange(changedRows, changedColumns, changedValues);
+        }
+    }
+}
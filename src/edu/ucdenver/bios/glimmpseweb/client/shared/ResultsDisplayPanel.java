@@ -1,636 +1,1037 @@
-/*
- * User Interface for the GLIMMPSE Software System.  Allows
- * users to perform power, sample size, and detectable difference
- * calculations. 
- * 
- * Copyright (C) 2010 Regents of the University of Colorado.  
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the GNU General Public License
- * as published by the Free Software Foundation; either version 2
- * of the License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with this program; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
- */
-package edu.ucdenver.bios.glimmpseweb.client.shared;
-
-import java.util.List;
-
-import com.google.gwt.event.dom.client.ClickEvent;
-import com.google.gwt.event.dom.client.ClickHandler;
-import com.google.gwt.event.dom.client.ErrorEvent;
-import com.google.gwt.event.dom.client.ErrorHandler;
-import com.google.gwt.event.dom.client.LoadEvent;
-import com.google.gwt.event.dom.client.LoadHandler;
-import com.google.gwt.http.client.Request;
-import com.google.gwt.http.client.RequestCallback;
-import com.google.gwt.http.client.Response;
-import com.google.gwt.i18n.client.NumberFormat;
-import com.google.gwt.user.client.ui.Button;
-import com.google.gwt.user.client.ui.DialogBox;
-import com.google.gwt.user.client.ui.Grid;
-import com.google.gwt.user.client.ui.HTML;
-import com.google.gwt.user.client.ui.HorizontalPanel;
-import com.google.gwt.user.client.ui.Image;
-import com.google.gwt.user.client.ui.VerticalPanel;
-import com.smartgwt.client.types.AutoFitWidthApproach;
-import com.smartgwt.client.types.Autofit;
-import com.smartgwt.client.types.SelectionStyle;
-import com.smartgwt.client.widgets.grid.ListGrid;
-import com.smartgwt.client.widgets.grid.ListGridField;
-import com.smartgwt.client.widgets.grid.ListGridRecord;
-
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
-import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
-import edu.ucdenver.bios.glimmpseweb.client.connector.ChartSvcConnector;
-import edu.ucdenver.bios.glimmpseweb.client.connector.FileSvcConnector;
-import edu.ucdenver.bios.glimmpseweb.client.connector.PowerSvcConnector;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContext;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContextChangeEvent;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanel;
-import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanelState;
-import edu.ucdenver.bios.glimmpseweb.context.StudyDesignChangeEvent;
-import edu.ucdenver.bios.glimmpseweb.context.StudyDesignContext;
-import edu.ucdenver.bios.webservice.common.domain.ConfidenceInterval;
-import edu.ucdenver.bios.webservice.common.domain.PowerResult;
-import edu.ucdenver.bios.webservice.common.domain.Quantile;
-import edu.ucdenver.bios.webservice.common.domain.StatisticalTest;
-import edu.ucdenver.bios.webservice.common.domain.StudyDesign;
-import edu.ucdenver.bios.webservice.common.enums.PowerMethodEnum;
-import edu.ucdenver.bios.webservice.common.enums.SolutionTypeEnum;
-
-/**
- * Final results display panel
- * @author Sarah Kreidler
- *
- */
-public class ResultsDisplayPanel extends WizardStepPanel
-{	
-    // separator style
-    private static final String STYLE_SEPARATOR = "separator";
-    // format for power values
-    private NumberFormat doubleFormatter = NumberFormat.getFormat("0.000");
-
-    // context object
-    StudyDesignContext studyDesignContext = (StudyDesignContext) context;
-
-    // connector to the power service
-    PowerSvcConnector powerSvcConnector = new PowerSvcConnector();
-    // connector to the power service
-    ChartSvcConnector chartSvcConnector = new ChartSvcConnector();
-    // connector to the file service
-    FileSvcConnector fileSvcConnector = new FileSvcConnector();
-
-    // wait dialog
-    protected DialogBox waitDialog;
-
-    // Smart GWT grid to hold the results
-    protected ListGrid resultsGrid = new ListGrid();
-
-    // tabular display of results
-    protected VerticalPanel resultsTablePanel = new VerticalPanel();
-
-    // curve display
-    protected VerticalPanel resultsCurvePanel = new VerticalPanel();
-
-    // error display
-    protected VerticalPanel errorPanel = new VerticalPanel();
-    protected HTML errorHTML = new HTML();
-    // I tried to build the curves with Google Chart Api, but the scatter chart
-    // didn't have enough control over line types, etc.  Thus, I rolled my own
-    // restlet on top of JFreeChart.  Images are retrieved via GET
-    protected Image powerCurveImage = new Image();
-
-    // if true, we display the confidence intervals 
-    protected boolean hasCI = false;
-    // if true, we display the calculation method and quantiles
-    protected boolean hasCovariate = false;
-    // if true, we show the nominal power value
-    protected boolean showNominalPower = false;
-
-    // Column model for the results table display
-    private class PowerRecord extends ListGridRecord {
-        public PowerRecord(PowerResult result) {
-            setAttribute(GlimmpseConstants.COLUMN_NAME_ACTUAL_POWER, 
-                    doubleFormatter.format(result.getActualPower()));  
-            setAttribute(GlimmpseConstants.COLUMN_NAME_ALPHA, 
-                    result.getAlpha().getAlphaValue());  
-            setAttribute(GlimmpseConstants.COLUMN_NAME_SAMPLE_SIZE, 
-                    result.getTotalSampleSize());  
-            setAttribute(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER, 
-                    doubleFormatter.format(result.getNominalPower().getValue()));  
-            setAttribute(GlimmpseConstants.COLUMN_NAME_TEST, 
-                    formatTestName(result.getTest()));  
-            setAttribute(GlimmpseConstants.COLUMN_NAME_BETA_SCALE, 
-                    result.getBetaScale().getValue());  
-            setAttribute(GlimmpseConstants.COLUMN_NAME_SIGMA_SCALE, 
-                    result.getSigmaScale().getValue());  
-
-            // covariate related data
-            setAttribute(GlimmpseConstants.COLUMN_NAME_POWER_METHOD, 
-                    formatPowerMethodName(result.getPowerMethod().getPowerMethodEnum()));  
-            Quantile quantile = result.getQuantile();
-            if (quantile != null) {
-                setAttribute(GlimmpseConstants.COLUMN_NAME_QUANTILE, 
-                        quantile.getValue());  
-            }
-
-            // set confidence intervals if applicable
-            ConfidenceInterval ci = result.getConfidenceInterval();
-            if (ci != null) {
-                setAttribute(GlimmpseConstants.COLUMN_NAME_CI_LOWER, 
-                        doubleFormatter.format(ci.getLowerLimit()));  
-                setAttribute(GlimmpseConstants.COLUMN_NAME_CI_UPPER, 
-                        doubleFormatter.format(ci.getUpperLimit()));  
-            }
-        }
-    }
-
-
-    /**
-     * Constructor.
-     * @param context the study design context
-     */
-    public ResultsDisplayPanel(WizardContext context)
-    {
-        super(context, GlimmpseWeb.constants.navItemFinish(),
-                WizardStepPanelState.NOT_ALLOWED);
-        VerticalPanel panel = new VerticalPanel();
-
-        // build the wait dialog
-        buildWaitDialog();
-        // build the data table - must be called prior to buildTablePanel
-        buildDataTable();
-        // build the display panels
-        buildErrorPanel();
-        buildCurvePanel();
-        buildTablePanel();
-
-        // layout the panel
-        panel.add(errorPanel);
-        panel.add(resultsCurvePanel);
-        panel.add(resultsTablePanel);
-        // need the save form to actually appear in the panel
-        panel.add(fileSvcConnector);
-        panel.add(powerSvcConnector);
-
-        // set style
-        panel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
-
-        // initialize
-        initWidget(panel);
-    }
-
-    /**
-     * Build the error display panel
-     */
-    private void buildErrorPanel()
-    {
-        errorPanel.add(errorHTML);
-        errorPanel.setVisible(false);
-    }
-
-    /**
-     * Build the panel containing the power curve display
-     */
-    private void buildCurvePanel()
-    {
-        HTML header = new HTML(GlimmpseWeb.constants.resultsPowerCurveLabel());
-        HTML description = new HTML("");
-
-        // add load callbacks
-        powerCurveImage.addErrorHandler(new ErrorHandler() {
-
-            @Override
-            public void onError(ErrorEvent event)
-            {
-                hideWorkingDialog();
-            }
-        });
-        powerCurveImage.addLoadHandler(new LoadHandler() {
-            @Override
-            public void onLoad(LoadEvent event)
-            {
-                hideWorkingDialog();
-            }
-        });
-
-        // layout the image / legend
-        Grid grid = new Grid(1,2);
-        grid.setWidget(0,0,powerCurveImage);
-        //		grid.setWidget(0,1,legendImage);
-
-        // layout the sub panel
-        resultsCurvePanel.add(header);
-        resultsCurvePanel.add(description);
-        resultsCurvePanel.add(grid);
-
-        // set style
-        //		powerCurveImage.setStyleName(STYLE_POWER_CURVE_FRAME);
-        //		legendImage.setStyleName(STYLE_POWER_CURVE_FRAME);
-        resultsCurvePanel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
-        resultsCurvePanel.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
-        header.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_HEADER);
-        header.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
-        description.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_DESCRIPTION);
-        description.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
-    }
-
-    /**
-     * Build the panel containing the power results table
-     */
-    private void buildTablePanel()
-    {
-        HTML header = new HTML(GlimmpseWeb.constants.resultsPowerResultsLabel());
-        HTML description = new HTML("");
-
-        // tools for saving the results as csv and viewing as a matrix
-        HorizontalPanel buttonPanel = new HorizontalPanel();
-        Button saveButton = new Button(GlimmpseWeb.constants.resultsSaveToCSVLabel(), 
-                new ClickHandler() {
-            @Override
-            public void onClick(ClickEvent event)
-            {
-                saveDataToCSV();
-            }
-        });
-        // view matrices button
-        Button viewMatricesButton = new Button(GlimmpseWeb.constants.resultsViewMatricesLabel(), 
-                new ClickHandler() {
-            @Override
-            public void onClick(ClickEvent event)
-            {
-                viewMatrices();
-            }
-        });
-        buttonPanel.add(saveButton);
-        buttonPanel.add(viewMatricesButton);
-
-        // layout the sub panel
-        resultsTablePanel.add(header);
-        resultsTablePanel.add(description);
-        resultsTablePanel.add(resultsGrid);
-        resultsTablePanel.add(buttonPanel);
-        // set style
-        saveButton.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_BUTTON);
-        saveButton.addStyleDependentName(STYLE_SEPARATOR);
-        viewMatricesButton.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_BUTTON);
-        //		viewMatrixButton.setStyleName(STYLE_RESULT_BUTTON);
-        resultsTablePanel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
-        resultsTablePanel.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
-        header.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_HEADER);
-        header.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
-        description.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_DESCRIPTION);
-        description.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
-    }
-
-    /**
-     * Clear any previous results
-     */
-    @Override
-    public void reset()
-    {
-        resultsGrid.selectAllRecords();
-        resultsGrid.removeSelectedData();
-        resultsTablePanel.setVisible(false);
-        resultsCurvePanel.setVisible(false);
-        errorPanel.setVisible(false);
-    }
-
-    /**
-     * Send a request to the power service as the user enters the screen
-     */
-    @Override
-    public void onEnter()
-    {
-        reset();
-        sendPowerRequest();
-    }
-
-    /**
-     * Set up the columns of the display table for the power results
-     */
-    private void buildDataTable()
-    {
-        // set up the columns in the data table
-        resultsGrid.setWidth(660);  
-//        resultsGrid.setHeight(400);
-        resultsGrid.setUseAllDataSourceFields(true);  
-        resultsGrid.setAutoFitFieldWidths(true);
-        resultsGrid.setAutoFitData(Autofit.VERTICAL);
-        resultsGrid.setAutoFitMaxRecords(14);
-        resultsGrid.setAutoFitWidthApproach(AutoFitWidthApproach.BOTH);
-        resultsGrid.setSelectionType(SelectionStyle.SINGLE);
-        // power
-        ListGridField powerField = 
-            createListGridField(GlimmpseConstants.COLUMN_NAME_ACTUAL_POWER, 
-            "Power");
-        // confidence interval upper
-        ListGridField powerUpperField = 
-            createListGridField(GlimmpseConstants.COLUMN_NAME_CI_UPPER, 
-            "CI Upper");
-        // confidence interval lower
-        ListGridField powerLowerField = 
-            createListGridField(GlimmpseConstants.COLUMN_NAME_CI_LOWER, 
-            "CI Lower");
-        // sample size
-        ListGridField totalNField = 
-            createListGridField(GlimmpseConstants.COLUMN_NAME_SAMPLE_SIZE, 
-            "Total Sample Size");
-        // nominal power
-        ListGridField nominalPowerField = 
-            createListGridField(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER, 
-            "Target Power");
-        // test
-        ListGridField testField = createListGridField(GlimmpseConstants.COLUMN_NAME_TEST, "Test");
-        // type I error
-        ListGridField alphaField = createListGridField(GlimmpseConstants.COLUMN_NAME_ALPHA, "Type I Error Rate");
-        // beta scale
-        ListGridField betaScaleField = createListGridField(GlimmpseConstants.COLUMN_NAME_BETA_SCALE, 
-        "Means Scale Factor");
-        // sigma scale
-        ListGridField sigmaScaleField = createListGridField(GlimmpseConstants.COLUMN_NAME_SIGMA_SCALE, 
-        "Variability Scale Factor");
-        // power method
-        ListGridField powerMethodField = createListGridField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD, 
-        "Calculation Method");
-        ListGridField quantileField = createListGridField(GlimmpseConstants.COLUMN_NAME_QUANTILE, 
-        "Quantile");
-
-        resultsGrid.setFields(powerField, powerLowerField, powerUpperField, 
-                totalNField, nominalPowerField, testField, alphaField, betaScaleField,
-                sigmaScaleField, powerMethodField, quantileField); 
-
-        // default, these fields are hidden
-        resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_CI_LOWER);
-        resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_CI_UPPER);
-        resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD);
-        resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_QUANTILE);
-    }
-
-    /**
-     * Create a column in the power results display table
-     * @param name name of the column
-     * @param label display label for the column
-     * @return ListGridField object representing a column
-     */
-    private ListGridField createListGridField(String name, String label) {
-        ListGridField field = new ListGridField(name, label);
-        field.setCanDragResize(false);
-        field.setCanFreeze(false);
-        field.setCanGroupBy(false);
-        return field;
-    }
-
-    /**
-     * Build a processing dialog
-     */
-    private void buildWaitDialog()
-    {
-        waitDialog = new DialogBox();
-        waitDialog.setGlassEnabled(true);
-        HTML text = new HTML("Processing, Please Wait...");
-        text.setStyleName("waitDialogText");
-        waitDialog.setStyleName("waitDialog");
-        waitDialog.setWidget(text);
-    }
-
-    /**
-     * Show the processing dialog
-     */
-    private void showWorkingDialog()
-    {
-        waitDialog.center();
-    }
-
-    /**
-     * Hide the processing dialog
-     */
-    private void hideWorkingDialog()
-    {
-        waitDialog.hide();
-    }
-
-    /**
-     * Display an error if the power request failed
-     * @param message
-     */
-    private void showError(String message)
-    {
-        errorHTML.setHTML(message);
-        errorPanel.setVisible(true);
-        hideWorkingDialog();
-    }
-
-    /**
-     * Display the power results
-     * @param results
-     */
-    private void showResults(List<PowerResult> results)
-    {
-        if (results != null) {
-            for(PowerResult result: results) {
-                resultsGrid.addData(new PowerRecord(result));
-            }
-            resultsTablePanel.setVisible(true);     
-            if (hasCI) {
-                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_CI_LOWER);
-                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_CI_UPPER);
-            } else {
-                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_CI_LOWER);
-                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_CI_UPPER);
-            }
-            if (hasCovariate) {
-                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD);
-                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_QUANTILE);
-            } else {
-                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD);
-                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_QUANTILE);
-            }
-            if (showNominalPower) {
-                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER);
-            } else {
-                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER);
-            }
-        }
-    }
-
-    /**
-     * Create a URI for the chart service to generate a power curve
-     * @param resultList
-     */
-    private void showCurveResults(List<PowerResult> resultList)
-    {
-        if (resultList != null && resultList.size() > 0 &&
-                studyDesignContext.getStudyDesign().getPowerCurveDescriptions() != null) {
-            // submit the result to the chart service
-            String queryStr = chartSvcConnector.buildQueryString(resultList, 
-                    studyDesignContext.getStudyDesign().getPowerCurveDescriptions());
-            powerCurveImage.setUrl(chartSvcConnector.buildScatterURL(queryStr));
-            //	        legendImage.setUrl(chartSvcConnector.buildLegendURL(queryStr));
-            resultsCurvePanel.setVisible(true);
-        }
-    }
-
-    /**
-     * Pretty formatting for the power method
-     * @param name
-     * @return
-     */
-    private String formatPowerMethodName(PowerMethodEnum name)
-    {
-        return name.toString(); // TODO
-    }
-
-    /**
-     * Pretty formatting for the test name
-     * @param name
-     * @return
-     */
-    private String formatTestName(StatisticalTest name)
-    {
-        return name.getType().toString(); // TODO
-    }
-
-    /**
-     * Send a request to the power web service to 
-     * calculate the results
-     */
-    private void sendPowerRequest()
-    {
-        showWorkingDialog();
-        StudyDesign studyDesign = studyDesignContext.getStudyDesign();
-
-        // send an ajax request to calculate power
-        try {
-            RequestCallback callback = new RequestCallback() {
-
-                @Override
-                public void onResponseReceived(Request request, Response response) {
-                    hideWorkingDialog();
-                    if (response.getStatusCode() == Response.SC_OK) {
-
-                        String resultsJSON = response.getText();
-
-                        List<PowerResult> results = powerSvcConnector.parsePowerResultList(resultsJSON);
-                        if (results != null && results.size() > 0) {
-                            showResults(results);
-                            showCurveResults(results);
-                        } else {
-                            showError("0 results");
-                        }
-                    } else {
-                        showError(response.getText());
-                    }
-                }
-
-                @Override
-                public void onError(Request request, Throwable exception) {
-                    hideWorkingDialog();
-                    showError(exception.getMessage());
-                }
-            };
-            switch(studyDesign.getSolutionTypeEnum()) {
-            case POWER:
-                powerSvcConnector.getPower(studyDesign, callback);
-                break;
-            case SAMPLE_SIZE:
-                powerSvcConnector.getSampleSize(studyDesign, callback);
-                break;
-            }
-        } catch (Exception e) {
-
-        }
-
-    }
-
-    /**
-     * Convert the ListGrid data to a CSV and 
-     * issue a call to the file service to save the results.
-     * 
-     * Note that only visible columns are saved to the file
-     */
-    private void saveDataToCSV() {
-
-        StringBuffer buffer = new StringBuffer();
-        boolean first = true;
-        // build the header row
-        for(ListGridField field : resultsGrid.getFields()) {
-            if (!first) {
-                buffer.append(",");
-            } else {
-                first = false;
-            }
-            buffer.append(field.getName());
-        }
-        buffer.append("\n");
-
-        // build the data rows
-        for(ListGridRecord record : resultsGrid.getRecords()) {
-            first = true;
-            for(ListGridField field : resultsGrid.getFields()) {
-                if (!first) {
-                    buffer.append(",");
-                } else {
-                    first = false;
-                }
-                String value = record.getAttribute(field.getName());
-                if (value != null) {
-                    buffer.append(value);
-                }
-            }
-            buffer.append("\n");
-        }
-
-        // save via the file service
-        fileSvcConnector.saveStringToFile(buffer.toString(), null);
-    }
-
-    /**
-     * Submit a form to display matrices in a separate window
-     */
-    private void viewMatrices() {
-        powerSvcConnector.getMatricesAsHTML(studyDesignContext.getStudyDesign());
-    }
-
-    /**
-     * Update the visible columns depending on the structure of 
-     * the study design
-     */
-    @Override
-    public void onWizardContextChange(WizardContextChangeEvent e) {
-        StudyDesignChangeEvent changeEvent = (StudyDesignChangeEvent) e;
-        switch (changeEvent.getType())
-        {
-        case CONFIDENCE_INTERVAL:
-            hasCI = (studyDesignContext.getStudyDesign().getConfidenceIntervalDescriptions() != null);
-            break;
-        case COVARIATE:
-            hasCovariate = (studyDesignContext.getStudyDesign().isGaussianCovariate());
-            break;
-        case SOLVING_FOR:
-            showNominalPower = 
-                (studyDesignContext.getStudyDesign().getSolutionTypeEnum() != 
-                    SolutionTypeEnum.POWER);
-        }  
-    }
-
-    /**
-     * Initialize the screen when a new context is loaded
-     */
-    @Override
-    public void onWizardContextLoad() {
-        hasCI = (studyDesignContext.getStudyDesign().getConfidenceIntervalDescriptions() != null);
-        hasCovariate = (studyDesignContext.getStudyDesign().isGaussianCovariate());
-        showNominalPower = 
-            (studyDesignContext.getStudyDesign().getSolutionTypeEnum() != 
-                SolutionTypeEnum.POWER);
-    }
-}
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations. 
+ * 
+ * Copyright (C) 2010 Regents of the University of Colorado.  
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.shared;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.ErrorEvent;
+import com.google.gwt.event.dom.client.ErrorHandler;
+import com.google.gwt.event.dom.client.LoadEvent;
+import com.google.gwt.event.dom.client.LoadHandler;
+import com.google.gwt.i18n.client.NumberFormat;
+import com.google.gwt.user.client.Command;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.ui.Anchor;
+import com.google.gwt.user.client.ui.Button;
+import com.google.gwt.user.client.ui.DialogBox;
+import com.google.gwt.user.client.ui.Grid;
+import com.google.gwt.user.client.ui.HTML;
+import com.google.gwt.user.client.ui.HorizontalPanel;
+import com.google.gwt.user.client.ui.Image;
+import com.google.gwt.user.client.ui.VerticalPanel;
+import com.smartgwt.client.data.RecordList;
+import com.smartgwt.client.types.AutoFitWidthApproach;
+import com.smartgwt.client.types.Autofit;
+import com.smartgwt.client.types.SelectionStyle;
+import com.smartgwt.client.widgets.grid.CellFormatter;
+import com.smartgwt.client.widgets.grid.ListGrid;
+import com.smartgwt.client.widgets.grid.ListGridField;
+import com.smartgwt.client.widgets.grid.ListGridRecord;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseWeb;
+import edu.ucdenver.bios.glimmpseweb.client.connector.ChartSvcConnector;
+import edu.ucdenver.bios.glimmpseweb.client.connector.FileSvcConnector;
+import edu.ucdenver.bios.glimmpseweb.client.connector.PowerBatchCallback;
+import edu.ucdenver.bios.glimmpseweb.client.connector.PowerCurveSeries;
+import edu.ucdenver.bios.glimmpseweb.client.connector.PowerSvcConnector;
+import edu.ucdenver.bios.glimmpseweb.client.connector.RequestMetrics;
+import edu.ucdenver.bios.glimmpseweb.client.connector.ServiceCallback;
+import edu.ucdenver.bios.glimmpseweb.client.connector.StudyDesignPartitioner;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContext;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContextChangeEvent;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardContextListener;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanel;
+import edu.ucdenver.bios.glimmpseweb.client.wizard.WizardStepPanelState;
+import edu.ucdenver.bios.glimmpseweb.context.StudyDesignChangeEvent;
+import edu.ucdenver.bios.glimmpseweb.context.StudyDesignChangeEvent.StudyDesignChangeType;
+import edu.ucdenver.bios.glimmpseweb.context.StudyDesignContext;
+import edu.ucdenver.bios.webservice.common.domain.ConfidenceInterval;
+import edu.ucdenver.bios.webservice.common.domain.PowerCurveDescription;
+import edu.ucdenver.bios.webservice.common.domain.PowerResult;
+import edu.ucdenver.bios.webservice.common.domain.Quantile;
+import edu.ucdenver.bios.webservice.common.domain.StatisticalTest;
+import edu.ucdenver.bios.webservice.common.domain.StudyDesign;
+import edu.ucdenver.bios.webservice.common.enums.PowerMethodEnum;
+import edu.ucdenver.bios.webservice.common.enums.SolutionTypeEnum;
+
+/**
+ * Final results display panel
+ * @author Sarah Kreidler
+ *
+ */
+public class ResultsDisplayPanel extends WizardStepPanel
+{	
+    // separator style
+    private static final String STYLE_SEPARATOR = "separator";
+    // position of the results grid in the table panel, below the
+    // header and description
+    private static final int RESULTS_GRID_INDEX = 2;
+    // logical operation name for the power request.  A new request
+    // supersedes any outstanding one
+    private static final String OPERATION_RESULTS = "results";
+    // result grids at least this large are requested in batches
+    private static final int BATCH_THRESHOLD = 64;
+    // number of batches for large result grids
+    private static final int BATCH_COUNT = 4;
+    // logical operation name for speculative requests
+    private static final String OPERATION_SPECULATIVE = "speculative";
+    // URL parameter which enables speculative calculation
+    private static final String PARAM_SPECULATIVE = "prefetch";
+    // delay in milliseconds after the last change before a speculative request
+    private static final int SPECULATIVE_DELAY = 1000;
+    // speculative results are only kept in the connector's result cache
+    private static final ServiceCallback<List<PowerResult>> SPECULATIVE_CALLBACK =
+        new ServiceCallback<List<PowerResult>>() {
+        @Override
+        public void onSuccess(List<PowerResult> result) {}
+        @Override
+        public void onFailure(String message) {}
+    };
+    private static final PowerBatchCallback SPECULATIVE_BATCH_CALLBACK =
+        new PowerBatchCallback() {
+        @Override
+        public void onBatchResults(List<PowerResult> results, int completed, int total) {}
+        @Override
+        public void onBatchFailure(String message) {}
+        @Override
+        public void onComplete(int failures) {}
+    };
+    // format for power values
+    private NumberFormat doubleFormatter = NumberFormat.getFormat("0.000");
+    // formats power values as the cells are drawn, so only the 
+    // visible rows are formatted
+    private CellFormatter powerFormatter = null;
+
+    // context object
+    StudyDesignContext studyDesignContext = (StudyDesignContext) context;
+
+    // connector to the power service
+    PowerSvcConnector powerSvcConnector = new PowerSvcConnector();
+    // connector to the power service
+    ChartSvcConnector chartSvcConnector = new ChartSvcConnector();
+    // connector to the file service
+    FileSvcConnector fileSvcConnector = new FileSvcConnector();
+
+    // wait dialog
+    protected DialogBox waitDialog;
+
+    // if true, results are calculated in the background once the design is complete
+    protected boolean speculativeCalculation = false;
+    // true while the results are displayed
+    protected boolean entered = false;
+    // sends the speculative request once the design stops changing
+    protected Timer speculativeTimer = new Timer() {
+        @Override
+        public void run() {
+            sendSpeculativeRequest();
+        }
+    };
+
+    // Smart GWT grid to hold the results.  The grid is split from the
+    // wizard code and created the first time results are shown
+    protected ListGrid resultsGrid = null;
+    // records displayed in the grid, or null if no results are shown.
+    // Each batch of results is appended to this list in a single call
+    protected RecordList resultRecords = null;
+
+    // tabular display of results
+    protected VerticalPanel resultsTablePanel = new VerticalPanel();
+
+    // curve display
+    protected VerticalPanel resultsCurvePanel = new VerticalPanel();
+
+    // error display
+    protected VerticalPanel errorPanel = new VerticalPanel();
+    protected HTML errorHTML = new HTML();
+    // I tried to build the curves with Google Chart Api, but the scatter chart
+    // didn't have enough control over line types, etc.  Thus, I rolled my own
+    // restlet on top of JFreeChart.  Images are retrieved via GET.
+    // Browsers with canvas support draw the curve locally instead, and
+    // the chart service is only used to export an image.
+    protected Image powerCurveImage = new Image();
+    protected PowerCurveRenderer powerCurveRenderer = 
+        (PowerCurveRenderer.isSupported() ? new PowerCurveRenderer() : null);
+    protected Anchor exportCurveLink = 
+        new Anchor(GlimmpseWeb.constants.resultsPowerCurveExportLabel());
+    // results shown in the current curve, used for image export
+    protected List<PowerResult> curveResultList = null;
+    // measurements for the chart image currently loading
+    protected RequestMetrics.Sample chartSample = null;
+
+    // if true, we display the confidence intervals 
+    protected boolean hasCI = false;
+    // if true, we display the calculation method and quantiles
+    protected boolean hasCovariate = false;
+    // if true, we show the nominal power value
+    protected boolean showNominalPower = false;
+
+    // Column model for the results table display.  Power values are
+    // stored unformatted, and formatted when the cells are drawn
+    private class PowerRecord extends ListGridRecord {
+        public PowerRecord(PowerResult result) {
+            setAttribute(GlimmpseConstants.COLUMN_NAME_ACTUAL_POWER, 
+                    result.getActualPower());  
+            setAttribute(GlimmpseConstants.COLUMN_NAME_ALPHA, 
+                    result.getAlpha().getAlphaValue());  
+            setAttribute(GlimmpseConstants.COLUMN_NAME_SAMPLE_SIZE, 
+                    result.getTotalSampleSize());  
+            setAttribute(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER, 
+                    result.getNominalPower().getValue());  
+            setAttribute(GlimmpseConstants.COLUMN_NAME_TEST, 
+                    formatTestName(result.getTest()));  
+            setAttribute(GlimmpseConstants.COLUMN_NAME_BETA_SCALE, 
+                    result.getBetaScale().getValue());  
+            setAttribute(GlimmpseConstants.COLUMN_NAME_SIGMA_SCALE, 
+                    result.getSigmaScale().getValue());  
+
+            // covariate related data
+            setAttribute(GlimmpseConstants.COLUMN_NAME_POWER_METHOD, 
+                    formatPowerMethodName(result.getPowerMethod().getPowerMethodEnum()));  
+            Quantile quantile = result.getQuantile();
+            if (quantile != null) {
+                setAttribute(GlimmpseConstants.COLUMN_NAME_QUANTILE, 
+                        quantile.getValue());  
+            }
+
+            // set confidence intervals if applicable
+            ConfidenceInterval ci = result.getConfidenceInterval();
+            if (ci != null) {
+                setAttribute(GlimmpseConstants.COLUMN_NAME_CI_LOWER, 
+                        ci.getLowerLimit());  
+                setAttribute(GlimmpseConstants.COLUMN_NAME_CI_UPPER, 
+                        ci.getUpperLimit());  
+            }
+        }
+    }
+
+
+    /**
+     * Constructor.
+     * @param context the study design context
+     */
+    public ResultsDisplayPanel(WizardContext context)
+    {
+        super(context, GlimmpseWeb.constants.navItemFinish(),
+                WizardStepPanelState.NOT_ALLOWED,
+                EnumSet.of(StudyDesignChangeType.CONFIDENCE_INTERVAL,
+                        StudyDesignChangeType.COVARIATE,
+                        StudyDesignChangeType.SOLVING_FOR));
+        VerticalPanel panel = new VerticalPanel();
+
+        // build the wait dialog
+        buildWaitDialog();
+        // build the display panels
+        buildErrorPanel();
+        buildCurvePanel();
+        buildTablePanel();
+
+        // layout the panel
+        panel.add(errorPanel);
+        panel.add(resultsCurvePanel);
+        panel.add(resultsTablePanel);
+        // need the save form to actually appear in the panel
+        panel.add(fileSvcConnector);
+        panel.add(powerSvcConnector);
+
+        // set style
+        panel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
+
+        // watch all changes to the design for speculative calculation
+        context.addContextListener(new WizardContextListener() {
+            @Override
+            public void onWizardContextChange(WizardContextChangeEvent e) {
+                scheduleSpeculativeRequest();
+            }
+
+            @Override
+            public void onWizardContextLoad() {
+                scheduleSpeculativeRequest();
+            }
+        });
+        setSpeculativeCalculation(Window.Location.getParameter(PARAM_SPECULATIVE) != null);
+
+        // initialize
+        initWidget(panel);
+    }
+
+    /**
+     * Enable or disable speculative calculation.  When enabled, the
+     * power or sample size request is sent in the background once the
+     * design is complete and has not changed for a short time, so the
+     * results are cached by the time the user clicks Finish.
+     * @param enabled if true, calculate results speculatively
+     */
+    public void setSpeculativeCalculation(boolean enabled)
+    {
+        speculativeCalculation = enabled;
+        scheduleSpeculativeRequest();
+    }
+
+    /**
+     * Build the error display panel
+     */
+    private void buildErrorPanel()
+    {
+        errorPanel.add(errorHTML);
+        errorPanel.setVisible(false);
+    }
+
+    /**
+     * Build the panel containing the power curve display
+     */
+    private void buildCurvePanel()
+    {
+        HTML header = new HTML(GlimmpseWeb.constants.resultsPowerCurveLabel());
+        HTML description = new HTML("");
+
+        // add load callbacks
+        powerCurveImage.addErrorHandler(new ErrorHandler() {
+
+            @Override
+            public void onError(ErrorEvent event)
+            {
+                hideWorkingDialog();
+                recordChartLoad(false);
+            }
+        });
+        powerCurveImage.addLoadHandler(new LoadHandler() {
+            @Override
+            public void onLoad(LoadEvent event)
+            {
+                hideWorkingDialog();
+                recordChartLoad(true);
+            }
+        });
+
+        exportCurveLink.addClickHandler(new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event)
+            {
+                exportCurveImage();
+            }
+        });
+
+        // layout the image / legend
+        Grid grid = new Grid(1,2);
+        if (powerCurveRenderer != null) {
+            grid.setWidget(0,0,powerCurveRenderer);
+        } else {
+            grid.setWidget(0,0,powerCurveImage);
+        }
+        //		grid.setWidget(0,1,legendImage);
+
+        // layout the sub panel
+        resultsCurvePanel.add(header);
+        resultsCurvePanel.add(description);
+        resultsCurvePanel.add(grid);
+        if (powerCurveRenderer != null) {
+            resultsCurvePanel.add(exportCurveLink);
+        }
+
+        // set style
+        //		powerCurveImage.setStyleName(STYLE_POWER_CURVE_FRAME);
+        //		legendImage.setStyleName(STYLE_POWER_CURVE_FRAME);
+        resultsCurvePanel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
+        resultsCurvePanel.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
+        header.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_HEADER);
+        header.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
+        description.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_DESCRIPTION);
+        description.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
+    }
+
+    /**
+     * Build the panel containing the power results table
+     */
+    private void buildTablePanel()
+    {
+        HTML header = new HTML(GlimmpseWeb.constants.resultsPowerResultsLabel());
+        HTML description = new HTML("");
+
+        // tools for saving the results as csv and viewing as a matrix
+        HorizontalPanel buttonPanel = new HorizontalPanel();
+        Button saveButton = new Button(GlimmpseWeb.constants.resultsSaveToCSVLabel(), 
+                new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event)
+            {
+                saveDataToCSV();
+            }
+        });
+        // view matrices button
+        Button viewMatricesButton = new Button(GlimmpseWeb.constants.resultsViewMatricesLabel(), 
+                new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event)
+            {
+                viewMatrices();
+            }
+        });
+        buttonPanel.add(saveButton);
+        buttonPanel.add(viewMatricesButton);
+
+        // layout the sub panel
+        // the results grid is inserted below the description once loaded
+        resultsTablePanel.add(header);
+        resultsTablePanel.add(description);
+        resultsTablePanel.add(buttonPanel);
+        // set style
+        saveButton.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_BUTTON);
+        saveButton.addStyleDependentName(STYLE_SEPARATOR);
+        viewMatricesButton.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_BUTTON);
+        //		viewMatrixButton.setStyleName(STYLE_RESULT_BUTTON);
+        resultsTablePanel.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_PANEL);
+        resultsTablePanel.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
+        header.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_HEADER);
+        header.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
+        description.setStyleName(GlimmpseConstants.STYLE_WIZARD_STEP_DESCRIPTION);
+        description.addStyleDependentName(GlimmpseConstants.STYLE_WIZARD_STEP_SUBPANEL);
+    }
+
+    /**
+     * Clear any previous results
+     */
+    @Override
+    public void reset()
+    {
+        resultRecords = null;
+        if (resultsGrid != null) {
+            resultsGrid.setData(new ListGridRecord[0]);
+        }
+        resultsTablePanel.setVisible(false);
+        resultsCurvePanel.setVisible(false);
+        curveResultList = null;
+        errorPanel.setVisible(false);
+    }
+
+    /**
+     * Send a request to the power service as the user enters the screen
+     */
+    @Override
+    public void onEnter()
+    {
+        entered = true;
+        speculativeTimer.cancel();
+        reset();
+        // start downloading the results grid while the request is running
+        withResultsGrid(null);
+        sendPowerRequest();
+        // release the speculative request only after the results request 
+        // has joined it, so an identical request in flight is not cancelled
+        powerSvcConnector.cancel(OPERATION_SPECULATIVE);
+    }
+
+    /**
+     * Allow speculative calculation once the user leaves the screen
+     */
+    @Override
+    public void onExit()
+    {
+        entered = false;
+    }
+
+    /**
+     * Run the command once the results grid is available.  The Smart GWT
+     * grid is downloaded and built on first use.  This is the only split 
+     * point for the grid, and commands run in the order they were issued.
+     * @param command command to run, or null to only load the grid
+     */
+    private void withResultsGrid(final Command command)
+    {
+        GWT.runAsync(new RunAsyncCallback() {
+            @Override
+            public void onFailure(Throwable reason) {
+                showError(GlimmpseWeb.constants.errorDownloadFailed());
+            }
+
+            @Override
+            public void onSuccess() {
+                if (resultsGrid == null) {
+                    resultsGrid = createResultsGrid();
+                    resultsTablePanel.insert(resultsGrid, RESULTS_GRID_INDEX);
+                }
+                if (command != null) {
+                    command.execute();
+                }
+            }
+        });
+    }
+
+    /**
+     * Create the display table and set up the columns for the power results
+     * @return results grid
+     */
+    ListGrid createResultsGrid()
+    {
+        // set up the columns in the data table
+        ListGrid grid = new ListGrid();
+        grid.setWidth(660);  
+//        grid.setHeight(400);
+        grid.setUseAllDataSourceFields(true);  
+        grid.setAutoFitFieldWidths(true);
+        grid.setAutoFitData(Autofit.VERTICAL);
+        grid.setAutoFitMaxRecords(14);
+        grid.setAutoFitWidthApproach(AutoFitWidthApproach.BOTH);
+        grid.setSelectionType(SelectionStyle.SINGLE);
+        // draw only the visible rows, and draw more as the user scrolls
+        grid.setShowAllRecords(false);
+        grid.setFixedRecordHeights(true);
+        if (powerFormatter == null) {
+            powerFormatter = new CellFormatter() {
+                @Override
+                public String format(Object value, ListGridRecord record, 
+                        int rowNum, int colNum) {
+                    return formatPower(value);
+                }
+            };
+        }
+        // power
+        ListGridField powerField = 
+            createListGridField(GlimmpseConstants.COLUMN_NAME_ACTUAL_POWER, 
+            "Power");
+        powerField.setCellFormatter(powerFormatter);
+        // confidence interval upper
+        ListGridField powerUpperField = 
+            createListGridField(GlimmpseConstants.COLUMN_NAME_CI_UPPER, 
+            "CI Upper");
+        powerUpperField.setCellFormatter(powerFormatter);
+        // confidence interval lower
+        ListGridField powerLowerField = 
+            createListGridField(GlimmpseConstants.COLUMN_NAME_CI_LOWER, 
+            "CI Lower");
+        powerLowerField.setCellFormatter(powerFormatter);
+        // sample size
+        ListGridField totalNField = 
+            createListGridField(GlimmpseConstants.COLUMN_NAME_SAMPLE_SIZE, 
+            "Total Sample Size");
+        // nominal power
+        ListGridField nominalPowerField = 
+            createListGridField(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER, 
+            "Target Power");
+        nominalPowerField.setCellFormatter(powerFormatter);
+        // test
+        ListGridField testField = createListGridField(GlimmpseConstants.COLUMN_NAME_TEST, "Test");
+        // type I error
+        ListGridField alphaField = createListGridField(GlimmpseConstants.COLUMN_NAME_ALPHA, "Type I Error Rate");
+        // beta scale
+        ListGridField betaScaleField = createListGridField(GlimmpseConstants.COLUMN_NAME_BETA_SCALE, 
+        "Means Scale Factor");
+        // sigma scale
+        ListGridField sigmaScaleField = createListGridField(GlimmpseConstants.COLUMN_NAME_SIGMA_SCALE, 
+        "Variability Scale Factor");
+        // power method
+        ListGridField powerMethodField = createListGridField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD, 
+        "Calculation Method");
+        ListGridField quantileField = createListGridField(GlimmpseConstants.COLUMN_NAME_QUANTILE, 
+        "Quantile");
+
+        grid.setFields(powerField, powerLowerField, powerUpperField, 
+                totalNField, nominalPowerField, testField, alphaField, betaScaleField,
+                sigmaScaleField, powerMethodField, quantileField); 
+
+        // default, these fields are hidden
+        grid.hideField(GlimmpseConstants.COLUMN_NAME_CI_LOWER);
+        grid.hideField(GlimmpseConstants.COLUMN_NAME_CI_UPPER);
+        grid.hideField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD);
+        grid.hideField(GlimmpseConstants.COLUMN_NAME_QUANTILE);
+        return grid;
+    }
+
+    /**
+     * Format a power value for display
+     * @param value unformatted value
+     * @return formatted value, or an empty string if not set
+     */
+    private String formatPower(Object value) {
+        if (value == null) {
+            return "";
+        } else if (value instanceof Number) {
+            return doubleFormatter.format(((Number) value).doubleValue());
+        } else {
+            return value.toString();
+        }
+    }
+
+    /**
+     * Returns true if the column contains power values formatted 
+     * by the power formatter
+     * @param name column name
+     */
+    private boolean isPowerColumn(String name) {
+        return GlimmpseConstants.COLUMN_NAME_ACTUAL_POWER.equals(name) ||
+            GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER.equals(name) ||
+            GlimmpseConstants.COLUMN_NAME_CI_LOWER.equals(name) ||
+            GlimmpseConstants.COLUMN_NAME_CI_UPPER.equals(name);
+    }
+
+    /**
+     * Create a column in the power results display table
+     * @param name name of the column
+     * @param label display label for the column
+     * @return ListGridField object representing a column
+     */
+    private ListGridField createListGridField(String name, String label) {
+        ListGridField field = new ListGridField(name, label);
+        field.setCanDragResize(false);
+        field.setCanFreeze(false);
+        field.setCanGroupBy(false);
+        return field;
+    }
+
+    /**
+     * Build a processing dialog
+     */
+    private void buildWaitDialog()
+    {
+        waitDialog = new DialogBox();
+        waitDialog.setGlassEnabled(true);
+        HTML text = new HTML("Processing, Please Wait...");
+        text.setStyleName("waitDialogText");
+        waitDialog.setStyleName("waitDialog");
+        waitDialog.setWidget(text);
+    }
+
+    /**
+     * Show the processing dialog
+     */
+    private void showWorkingDialog()
+    {
+        waitDialog.center();
+    }
+
+    /**
+     * Hide the processing dialog
+     */
+    private void hideWorkingDialog()
+    {
+        waitDialog.hide();
+    }
+
+    /**
+     * Display an error if the power request failed
+     * @param message
+     */
+    private void showError(String message)
+    {
+        errorHTML.setHTML(message);
+        errorPanel.setVisible(true);
+        hideWorkingDialog();
+    }
+
+    /**
+     * Display the power results
+     * @param results
+     */
+    private void showResults(final List<PowerResult> results)
+    {
+        if (results != null) {
+            withResultsGrid(new Command() {
+                @Override
+                public void execute() {
+                    addResults(results);
+                }
+            });
+        }
+    }
+
+    /**
+     * Add power results to the results grid and show the columns
+     * which apply to the design
+     * @param results
+     */
+    private void addResults(List<PowerResult> results)
+    {
+        if (results != null) {
+            resultRecords = appendRecords(resultsGrid, resultRecords, createRecords(results));
+            resultsTablePanel.setVisible(true);     
+            if (hasCI) {
+                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_CI_LOWER);
+                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_CI_UPPER);
+            } else {
+                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_CI_LOWER);
+                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_CI_UPPER);
+            }
+            if (hasCovariate) {
+                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD);
+                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_QUANTILE);
+            } else {
+                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_POWER_METHOD);
+                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_QUANTILE);
+            }
+            if (showNominalPower) {
+                resultsGrid.showField(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER);
+            } else {
+                resultsGrid.hideField(GlimmpseConstants.COLUMN_NAME_NOMINAL_POWER);
+            }
+        }
+    }
+
+    /**
+     * Create the grid records for a list of power results
+     * @param results power results
+     * @return grid records in the same order
+     */
+    ListGridRecord[] createRecords(List<PowerResult> results)
+    {
+        ListGridRecord[] records = new ListGridRecord[results.size()];
+        int index = 0;
+        for(PowerResult result: results) {
+            records[index++] = new PowerRecord(result);
+        }
+        return records;
+    }
+
+    /**
+     * Append a batch of records to the grid with a single call.  The
+     * first batch becomes the grid's record list.  Later batches are 
+     * added to that list, so the grid only processes the new rows 
+     * rather than reloading every result.
+     * @param grid results grid
+     * @param recordList the grid's record list, or null for the first batch
+     * @param batch records to append
+     * @return the grid's record list
+     */
+    static RecordList appendRecords(ListGrid grid, RecordList recordList, 
+            ListGridRecord[] batch)
+    {
+        if (recordList == null) {
+            recordList = new RecordList(batch);
+            grid.setData(recordList);
+        } else {
+            recordList.addList(batch);
+        }
+        return recordList;
+    }
+
+    /**
+     * Draw the power curve in the browser, or create a URI for the 
+     * chart service to generate it if canvas is not supported
+     * @param resultList
+     */
+    private void showCurveResults(List<PowerResult> resultList)
+    {
+        PowerCurveDescription curveDescription = 
+            studyDesignContext.getStudyDesign().getPowerCurveDescriptions();
+        if (resultList != null && resultList.size() > 0 && curveDescription != null) {
+            curveResultList = resultList;
+            if (powerCurveRenderer != null) {
+                List<PowerCurveSeries> seriesList = 
+                    chartSvcConnector.buildCurveSeries(resultList, curveDescription);
+                powerCurveRenderer.draw(curveDescription, seriesList);
+                resultsCurvePanel.setVisible(true);
+                return;
+            }
+            // submit the result to the chart service
+            RequestMetrics.Sample sample = 
+                RequestMetrics.getInstance().startSample(RequestMetrics.CHART);
+            String queryStr = chartSvcConnector.buildQueryString(resultList, 
+                    curveDescription);
+            String url = chartSvcConnector.buildScatterURL(queryStr);
+            sample.setSerialized(url.length());
+            chartSample = sample;
+            powerCurveImage.setUrl(url);
+            //	        legendImage.setUrl(chartSvcConnector.buildLegendURL(queryStr));
+            resultsCurvePanel.setVisible(true);
+        }
+    }
+
+    /**
+     * Open the power curve image from the chart service in a new window
+     */
+    private void exportCurveImage()
+    {
+        PowerCurveDescription curveDescription = 
+            studyDesignContext.getStudyDesign().getPowerCurveDescriptions();
+        if (curveResultList != null && curveDescription != null) {
+            Window.open(chartSvcConnector.buildScatterURL(curveResultList, curveDescription),
+                    "_blank", "");
+        }
+    }
+
+    /**
+     * Record the measurements for the chart image once it loads
+     * @param success true if the image loaded
+     */
+    private void recordChartLoad(boolean success)
+    {
+        if (chartSample != null) {
+            RequestMetrics.getInstance().recordResourceLoad(chartSample, 
+                    powerCurveImage.getUrl(), success);
+            chartSample = null;
+        }
+    }
+
+    /**
+     * Pretty formatting for the power method
+     * @param name
+     * @return
+     */
+    private String formatPowerMethodName(PowerMethodEnum name)
+    {
+        return name.toString(); // TODO
+    }
+
+    /**
+     * Pretty formatting for the test name
+     * @param name
+     * @return
+     */
+    private String formatTestName(StatisticalTest name)
+    {
+        return name.getType().toString(); // TODO
+    }
+
+    /**
+     * Send a request to the power web service to 
+     * calculate the results
+     */
+    private void sendPowerRequest()
+    {
+        showWorkingDialog();
+        StudyDesign studyDesign = studyDesignContext.getStudyDesign();
+        if (StudyDesignPartitioner.estimateResultCount(studyDesign) >= BATCH_THRESHOLD) {
+            sendBatchedPowerRequest(studyDesign);
+            return;
+        }
+
+        // send an ajax request to calculate power.  Unchanged designs
+        // are served from the connector's result cache
+        ServiceCallback<List<PowerResult>> callback = 
+            new ServiceCallback<List<PowerResult>>() {
+            @Override
+            public void onSuccess(List<PowerResult> results) {
+                hideWorkingDialog();
+                if (results.size() > 0) {
+                    showResults(results);
+                    showCurveResults(results);
+                } else {
+                    showError("0 results");
+                }
+            }
+
+            @Override
+            public void onFailure(String message) {
+                hideWorkingDialog();
+                showError(message);
+            }
+        };
+        try {
+            switch(studyDesign.getSolutionTypeEnum()) {
+            case POWER:
+                powerSvcConnector.calculatePower(OPERATION_RESULTS, studyDesign, callback);
+                break;
+            case SAMPLE_SIZE:
+                powerSvcConnector.calculateSampleSize(OPERATION_RESULTS, studyDesign, callback);
+                break;
+            }
+        } catch (Exception e) {
+            showError(e.getMessage());
+        }
+    }
+
+    /**
+     * Send a large result grid to the power web service in batches.
+     * Results are displayed as each batch returns, and the wait dialog 
+     * is closed once the first results arrive.
+     * @param studyDesign the study design
+     */
+    private void sendBatchedPowerRequest(StudyDesign studyDesign)
+    {
+        final ArrayList<PowerResult> curveResults = new ArrayList<PowerResult>();
+        PowerBatchCallback callback = new PowerBatchCallback() {
+            @Override
+            public void onBatchResults(List<PowerResult> results, int completed, int total) {
+                hideWorkingDialog();
+                if (results.size() > 0) {
+                    curveResults.addAll(results);
+                    showResults(results);
+                    showCurveResults(curveResults);
+                }
+            }
+
+            @Override
+            public void onBatchFailure(String message) {
+                showError(message);
+            }
+
+            @Override
+            public void onComplete(int failures) {
+                hideWorkingDialog();
+                if (failures == 0 && curveResults.isEmpty()) {
+                    showError("0 results");
+                }
+            }
+        };
+        try {
+            powerSvcConnector.calculateInBatches(OPERATION_RESULTS, studyDesign, 
+                    BATCH_COUNT, callback);
+        } catch (Exception e) {
+            showError(e.getMessage());
+        }
+    }
+
+    /**
+     * Cancel any speculative request for a previous version of the 
+     * design, and restart the delay if the design is complete.
+     */
+    private void scheduleSpeculativeRequest()
+    {
+        speculativeTimer.cancel();
+        powerSvcConnector.cancel(OPERATION_SPECULATIVE);
+        if (speculativeCalculation && !entered && context.isComplete()) {
+            speculativeTimer.schedule(SPECULATIVE_DELAY);
+        }
+    }
+
+    /**
+     * Send the power or sample size request in the background.  The
+     * results are stored in the connector's cache, so the request sent 
+     * when the user clicks Finish is answered immediately, or joins 
+     * this request if it is still in flight.
+     */
+    private void sendSpeculativeRequest()
+    {
+        if (!speculativeCalculation || entered || !context.isComplete()) {
+            return;
+        }
+        StudyDesign studyDesign = studyDesignContext.getStudyDesign();
+        try {
+            if (StudyDesignPartitioner.estimateResultCount(studyDesign) >= BATCH_THRESHOLD) {
+                powerSvcConnector.calculateInBatches(OPERATION_SPECULATIVE, studyDesign, 
+                        BATCH_COUNT, SPECULATIVE_BATCH_CALLBACK);
+                return;
+            }
+            switch(studyDesign.getSolutionTypeEnum()) {
+            case POWER:
+                powerSvcConnector.calculatePower(OPERATION_SPECULATIVE, 
+                        studyDesign, SPECULATIVE_CALLBACK);
+                break;
+            case SAMPLE_SIZE:
+                powerSvcConnector.calculateSampleSize(OPERATION_SPECULATIVE, 
+                        studyDesign, SPECULATIVE_CALLBACK);
+                break;
+            }
+        } catch (Exception e) {
+            // the request is sent again when the user clicks Finish
+        }
+    }
+
+    /**
+     * Convert the ListGrid data to a CSV and 
+     * issue a call to the file service to save the results.
+     * 
+     * Note that only visible columns are saved to the file
+     */
+    private void saveDataToCSV() {
+        if (resultsGrid == null) {
+            return;
+        }
+
+        StringBuffer buffer = new StringBuffer();
+        boolean first = true;
+        // build the header row
+        for(ListGridField field : resultsGrid.getFields()) {
+            if (!first) {
+                buffer.append(",");
+            } else {
+                first = false;
+            }
+            buffer.append(field.getName());
+        }
+        buffer.append("\n");
+
+        // build the data rows
+        for(ListGridRecord record : resultsGrid.getRecords()) {
+            first = true;
+            for(ListGridField field : resultsGrid.getFields()) {
+                if (!first) {
+                    buffer.append(",");
+                } else {
+                    first = false;
+                }
+                String value;
+                if (isPowerColumn(field.getName())) {
+                    value = formatPower(record.getAttributeAsObject(field.getName()));
+                } else {
+                    value = record.getAttribute(field.getName());
+                }
+                if (value != null) {
+                    buffer.append(value);
+                }
+            }
+            buffer.append("\n");
+        }
+
+        // save via the file service
+        fileSvcConnector.saveStringToFile(buffer.toString(), null);
+    }
+
+    /**
+     * Submit a form to display matrices in a separate window
+     */
+    private void viewMatrices() {
+        powerSvcConnector.getMatricesAsHTML(studyDesignContext.getStudyDesign());
+    }
+
+    /**
+     * Update the visible columns depending on the structure of 
+     * the study design
+     */
+    @Override
+    public void onWizardContextChange(WizardContextChangeEvent e) {
+        StudyDesignChangeEvent changeEvent = (StudyDesignChangeEvent) e;
+        switch (changeEvent.getType())
+        {
+        case CONFIDENCE_INTERVAL:
+            hasCI = (studyDesignContext.getStudyDesign().getConfidenceIntervalDescriptions() != null);
+            break;
+        case COVARIATE:
+            hasCovariate = (studyDesignContext.getStudyDesign().isGaussianCovariate());
+            break;
+        case SOLVING_FOR:
+            showNominalPower = 
+                (studyDesignContext.getStudyDesign().getSolutionTypeEnum() != 
+                    SolutionTypeEnum.POWER);
+        }  
+    }
+
+    /**
+     * Initialize the screen when a new context is loaded
+     */
+    @Override
+    public void onWizardContextLoad() {
+        // results for the previous design are no longer wanted
+        powerSvcConnector.cancel(OPERATION_RESULTS);
+        hasCI = (studyDesignContext.getStudyDesign().getConfidenceIntervalDescriptions() != null);
+        hasCovariate = (studyDesignContext.getStudyDesign().isGaussianCovariate());
+        showNominalPower = 
+            (studyDesignContext.getStudyDesign().getSolutionTypeEnum() != 
+                SolutionTypeEnum.POWER);
+    }
+}
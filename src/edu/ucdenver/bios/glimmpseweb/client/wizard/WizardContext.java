@@ -1,95 +1,346 @@
-/*
- * Web Interface for the GLIMMPSE Software System.  Allows
- * users to perform power, sample size, and detectable difference
- * calculations. 
- * 
- * Copyright (C) 2010 Regents of the University of Colorado.  
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the GNU General Public License
- * as published by the Free Software Foundation; either version 2
- * of the License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with this program; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
- */
-package edu.ucdenver.bios.glimmpseweb.client.wizard;
-
-import java.util.ArrayList;
-
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.user.client.Window;
-
-/**
- * Generic context object for tracking user input across 
- * multiple wizard screens.  WizardPanel users should 
- * create a subclass of this object specific to their application
- * 
- * @author Sarah Kreidler
- *
- */
-public abstract class WizardContext
-{
-	// listeners for changes to the context object
-	protected ArrayList<WizardContextListener> contextListeners = new ArrayList<WizardContextListener>();
-	// flag indicating if context is complete
-    protected boolean complete;
-    
-	/**
-	 * Add a listener for changes to the context
-	 * 
-	 * @param listener object implementing the WizardContextListener interface
-	 */
-	public void addContextListener(WizardContextListener listener)
-	{
-		contextListeners.add(listener);
-	}
-	
-	/**
-	 * Notify all listeners of a context change
-	 */
-	protected void notifyWizardContextChanged(WizardContextChangeEvent e)
-	{
-	    checkComplete(); // !this needs to be called before the notification!
-		for(WizardContextListener listener: contextListeners)
-		{
-			listener.onWizardContextChange(e);
-		}
-
-	}
-	
-	/**
-	 * Notify all listeners that the context has been loaded from
-	 * a file or database
-	 */
-	protected void notifyWizardContextLoad()
-	{
-	    checkComplete(); // !this needs to be called before the notification!
-		for(WizardContextListener listener: contextListeners)
-		{
-			listener.onWizardContextLoad();
-		}
-	}
-	
-	/**
-	 * Checks if the context is complete.  Implementing classes should
-	 * set the "complete" flag in this function call.
-	 */
-	public abstract void checkComplete();
-	
-    /**
-     * Returns true if the study design contains sufficient information
-     * to perform a power/sample size calculation
-     * 
-     * @return true if study design is complete, false otherwise
-     */
-    public boolean isComplete() {
-        return complete;
-    }
-}
+/*
+ * Web Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations. 
+ * 
+ * Copyright (C) 2010 Regents of the University of Colorado.  
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.wizard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.core.client.Scheduler.ScheduledCommand;
+import com.google.gwt.user.client.Window;
+
+/**
+ * Generic context object for tracking user input across 
+ * multiple wizard screens.  WizardPanel users should 
+ * create a subclass of this object specific to their application
+ * 
+ * @author Sarah Kreidler
+ *
+ */
+public abstract class WizardContext
+{
+    // URL parameter which enables deferred dispatch
+    public static final String PARAM_DEFERRED_DISPATCH = "deferDispatch";
+	// listeners for changes to the context object
+	protected ArrayList<WizardContextListener> contextListeners = new ArrayList<WizardContextListener>();
+	// listeners which receive every change event
+	private ArrayList<WizardContextListener> broadcastListeners = new ArrayList<WizardContextListener>();
+	// listeners indexed by change key.  Each list also includes the broadcast
+	// listeners so that registration order is preserved during dispatch
+	private HashMap<Object, ArrayList<WizardContextListener>> listenerIndex = 
+	    new HashMap<Object, ArrayList<WizardContextListener>>();
+	// number of listener callbacks made for change events
+	private long dispatchCount = 0;
+	// flag indicating if context is complete
+    protected boolean complete;
+    // nesting depth of open batch updates
+    private int batchDepth = 0;
+    // changes queued during a batch update, merged by change key and source
+    private LinkedHashMap<PendingKey, WizardContextChangeEvent> pendingEvents = 
+        new LinkedHashMap<PendingKey, WizardContextChangeEvent>();
+    // if true, changes are delivered once at the end of the browser event
+    private boolean deferredDispatch = false;
+    // flag indicating that a deferred flush is scheduled
+    private boolean flushScheduled = false;
+    // command which delivers the deferred changes
+    private ScheduledCommand flushCommand = new ScheduledCommand() {
+        @Override
+        public void execute() {
+            flushScheduled = false;
+            flush();
+        }
+    };
+
+    /**
+     * Key for a queued change event.  Events are only merged if they
+     * have the same change key and come from the same panel, so panels 
+     * which ignore their own changes still do so after a batch.
+     */
+    private static class PendingKey
+    {
+        private final Object changeKey;
+        private final WizardStepPanel source;
+
+        public PendingKey(WizardContextChangeEvent e)
+        {
+            this.changeKey = e.getChangeKey();
+            this.source = e.getSource();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof PendingKey)) {
+                return false;
+            }
+            PendingKey other = (PendingKey) obj;
+            return source == other.source && 
+                (changeKey == null ? other.changeKey == null : changeKey.equals(other.changeKey));
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (changeKey != null ? changeKey.hashCode() : 0) * 31 + 
+                (source != null ? source.hashCode() : 0);
+        }
+    }
+    
+	/**
+	 * Add a listener for changes to the context
+	 * 
+	 * @param listener object implementing the WizardContextListener interface
+	 */
+	public void addContextListener(WizardContextListener listener)
+	{
+		contextListeners.add(listener);
+		broadcastListeners.add(listener);
+		for(ArrayList<WizardContextListener> listenerList: listenerIndex.values())
+		{
+		    listenerList.add(listener);
+		}
+	}
+	
+	/**
+	 * Add a listener which is only notified of changes with the 
+	 * specified change keys.  The listener still receives all
+	 * context load events.
+	 * 
+	 * @param listener object implementing the WizardContextListener interface
+	 * @param changeKeys change keys of interest, or null for all changes
+	 */
+	public void addContextListener(WizardContextListener listener,
+	        Collection<?> changeKeys)
+	{
+	    if (changeKeys == null) {
+	        addContextListener(listener);
+	        return;
+	    }
+	    contextListeners.add(listener);
+	    for(Object key: changeKeys)
+	    {
+	        ArrayList<WizardContextListener> listenerList = listenerIndex.get(key);
+	        if (listenerList == null) {
+	            listenerList = new ArrayList<WizardContextListener>(broadcastListeners);
+	            listenerIndex.put(key, listenerList);
+	        }
+	        listenerList.add(listener);
+	    }
+	}
+	
+	/**
+	 * Notify all listeners of a context change.  If a batch update
+	 * is open, the event is queued until the batch is committed.
+	 */
+	protected void notifyWizardContextChanged(WizardContextChangeEvent e)
+	{
+	    if (batchDepth > 0) {
+	        queueWizardContextChanged(e);
+	        return;
+	    }
+	    if (deferredDispatch) {
+	        queueWizardContextChanged(e);
+	        if (!flushScheduled) {
+	            flushScheduled = true;
+	            Scheduler.get().scheduleFinally(flushCommand);
+	        }
+	        return;
+	    }
+	    checkComplete(); // !this needs to be called before the notification!
+	    fireWizardContextChanged(e);
+	}
+	
+	/**
+	 * Deliver the change event to all listeners
+	 * @param e change event
+	 */
+	private void fireWizardContextChanged(WizardContextChangeEvent e)
+	{
+	    ArrayList<WizardContextListener> listenerList = 
+	        listenerIndex.get(e.getChangeKey());
+	    if (listenerList == null) {
+	        listenerList = broadcastListeners;
+	    }
+		for(WizardContextListener listener: listenerList)
+		{
+		    dispatchCount++;
+			listener.onWizardContextChange(e);
+		}
+	}
+	
+	/**
+	 * Queue a change event during a batch update or deferred dispatch.
+	 * Events with the same change key from the same panel are merged.
+	 * @param e change event
+	 */
+	private void queueWizardContextChanged(WizardContextChangeEvent e)
+	{
+	    PendingKey key = new PendingKey(e);
+	    if (!pendingEvents.containsKey(key)) {
+	        pendingEvents.put(key, e);
+	    }
+	}
+	
+	/**
+	 * Open a batch update.  Change notifications are held until the
+	 * matching call to commitBatch.  Batches may be nested, in which case
+	 * the notifications are delivered when the outermost batch is committed.
+	 */
+	public void beginBatch()
+	{
+	    batchDepth++;
+	}
+	
+	/**
+	 * Close a batch update.  When the outermost batch is committed, 
+	 * completeness is checked once and one merged event per change
+	 * key and source panel is delivered to the listeners.
+	 */
+	public void commitBatch()
+	{
+	    if (batchDepth <= 0) {
+	        return;
+	    }
+	    batchDepth--;
+	    flush();
+	}
+	
+	/**
+	 * Deliver any queued change events immediately.  Has no effect
+	 * while a batch update is open.  Callers which read listener state 
+	 * right after a change in deferred dispatch mode should flush first.
+	 */
+	public void flush()
+	{
+	    if (batchDepth == 0 && pendingEvents.size() > 0) {
+	        ArrayList<WizardContextChangeEvent> events = 
+	            new ArrayList<WizardContextChangeEvent>(pendingEvents.values());
+	        pendingEvents.clear();
+	        checkComplete(); // !this needs to be called before the notification!
+	        for(WizardContextChangeEvent e: events)
+	        {
+	            fireWizardContextChanged(e);
+	        }
+	    }
+	}
+	
+	/**
+	 * Enable or disable deferred dispatch.  When enabled, change events
+	 * are queued and merged, then delivered once at the end of the current
+	 * browser event via Scheduler.scheduleFinally.  Disabled by default.
+	 * @param deferred true to defer change notifications
+	 */
+	public void setDeferredDispatch(boolean deferred)
+	{
+	    deferredDispatch = deferred;
+	    if (!deferred) {
+	        flush();
+	    }
+	}
+	
+	/**
+	 * Returns true if change notifications are deferred to the
+	 * end of the browser event
+	 * @return true if deferred dispatch is enabled
+	 */
+	public boolean isDeferredDispatch()
+	{
+	    return deferredDispatch;
+	}
+	
+	/**
+	 * Run the specified changes as a single batch update
+	 * @param changes code which modifies the context
+	 */
+	public void batch(Runnable changes)
+	{
+	    beginBatch();
+	    try {
+	        changes.run();
+	    } finally {
+	        commitBatch();
+	    }
+	}
+	
+	/**
+	 * Get the number of listener callbacks made for change events
+	 * since the context was created or the count was last reset.
+	 * @return dispatch count
+	 */
+	public long getDispatchCount()
+	{
+	    return dispatchCount;
+	}
+	
+	/**
+	 * Reset the listener dispatch count to zero
+	 */
+	public void resetDispatchCount()
+	{
+	    dispatchCount = 0;
+	}
+	
+	/**
+	 * Returns true if a batch update is currently open
+	 * @return true if notifications are being held
+	 */
+	public boolean isBatchOpen()
+	{
+	    return batchDepth > 0;
+	}
+	
+	/**
+	 * Notify all listeners that the context has been loaded from
+	 * a file or database
+	 */
+	protected void notifyWizardContextLoad()
+	{
+	    if (batchDepth == 0) {
+	        // the load event supersedes any deferred changes
+	        pendingEvents.clear();
+	    }
+	    checkComplete(); // !this needs to be called before the notification!
+		for(WizardContextListener listener: contextListeners)
+		{
+			listener.onWizardContextLoad();
+		}
+	}
+	
+	/**
+	 * Checks if the context is complete.  Implementing classes should
+	 * set the "complete" flag in this function call.
+	 */
+	public abstract void checkComplete();
+	
+    /**
+     * Returns true if the study design contains sufficient information
+     * to perform a power/sample size calculation
+     * 
+     * @return true if study design is complete, false otherwise
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.context;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Undo/redo history for cell level edits to the study design.  Each
+ * edit stores only the target, the cell position, and the prior and
+ * new values, so the history does not copy whole matrices.
+ * Edits made during a batch update are grouped into a single step.
+ * The oldest steps are evicted when the estimated memory use exceeds
+ * the budget.
+ */
+public class EditHistory {
+    // estimated size in bytes of a single cell edit
+    private static final int CELL_EDIT_SIZE = 48;
+    // estimated size in bytes of the bookkeeping for a single step
+    private static final int STEP_SIZE = 32;
+    // default memory budget in bytes
+    public static final int DEFAULT_MEMORY_LIMIT = 1024 * 1024;
+
+    /**
+     * Values which may be edited at the cell level
+     */
+    public enum EditTarget
+    {
+        BETA,
+        COVARIANCE,
+        COVARIANCE_STANDARD_DEVIATION,
+        COVARIATE_OUTCOMES_COVARIANCE,
+        THETA_NULL,
+        MATRIX
+    };
+
+    /**
+     * A single reversible cell edit
+     */
+    public static class CellEdit {
+        private EditTarget target;
+        private String name;
+        private int row;
+        private int column;
+        private double oldValue;
+        private double newValue;
+
+        /**
+         * Create a cell edit
+         * @param target type of value edited
+         * @param name name of the covariance or matrix, or null for the
+         * beta, covariate outcomes covariance, and theta null targets
+         * @param row cell row
+         * @param column cell column
+         * @param oldValue value before the edit
+         * @param newValue value after the edit
+         */
+        public CellEdit(EditTarget target, String name, int row, int column,
+                double oldValue, double newValue) {
+            this.target = target;
+            this.name = name;
+            this.row = row;
+            this.column = column;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        public EditTarget getTarget() {
+            return target;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+
+        public double getOldValue() {
+            return oldValue;
+        }
+
+        public double getNewValue() {
+            return newValue;
+        }
+    }
+
+    // completed steps, oldest first
+    private LinkedList<ArrayList<CellEdit>> undoSteps =
+        new LinkedList<ArrayList<CellEdit>>();
+    // undone steps, most recently undone last
+    private LinkedList<ArrayList<CellEdit>> redoSteps =
+        new LinkedList<ArrayList<CellEdit>>();
+    // step being recorded during a batch update
+    private ArrayList<CellEdit> openStep = null;
+    // nesting depth of open groups
+    private int groupDepth = 0;
+    // estimated memory use of all steps
+    private int memoryUsed = 0;
+    // memory budget
+    private int memoryLimit = DEFAULT_MEMORY_LIMIT;
+
+    /**
+     * Create an empty history with the default memory budget
+     */
+    public EditHistory() {}
+
+    /**
+     * Start grouping edits into a single step.  Groups may be nested.
+     */
+    public void beginGroup() {
+        groupDepth++;
+    }
+
+    /**
+     * Close the current group.  When the outermost group is closed,
+     * the recorded edits are stored as a single step.
+     */
+    public void endGroup() {
+        if (groupDepth <= 0) {
+            return;
+        }
+        groupDepth--;
+        if (groupDepth == 0 && openStep != null) {
+            ArrayList<CellEdit> step = openStep;
+            openStep = null;
+            pushStep(step);
+        }
+    }
+
+    /**
+     * Record a cell edit.  Clears the redo history.
+     * @param edit the edit
+     */
+    public void record(CellEdit edit) {
+        if (groupDepth > 0) {
+            if (openStep == null) {
+                openStep = new ArrayList<CellEdit>();
+            }
+            openStep.add(edit);
+        } else {
+            ArrayList<CellEdit> step = new ArrayList<CellEdit>(1);
+            step.add(edit);
+            pushStep(step);
+        }
+    }
+
+    /**
+     * Returns true if there is a step to undo
+     */
+    public boolean canUndo() {
+        return undoSteps.size() > 0;
+    }
+
+    /**
+     * Returns true if there is a step to redo
+     */
+    public boolean canRedo() {
+        return redoSteps.size() > 0;
+    }
+
+    /**
+     * Remove the most recent step and move it to the redo history
+     * @return edits in the step, in the order they were made,
+     * or null if there is nothing to undo
+     */
+    public List<CellEdit> undo() {
+        if (undoSteps.isEmpty()) {
+            return null;
+        }
+        ArrayList<CellEdit> step = undoSteps.removeLast();
+        redoSteps.addLast(step);
+        return step;
+    }
+
+    /**
+     * Remove the most recently undone step and move it back to the
+     * undo history
+     * @return edits in the step, in the order they were made,
+     * or null if there is nothing to redo
+     */
+    public List<CellEdit> redo() {
+        if (redoSteps.isEmpty()) {
+            return null;
+        }
+        ArrayList<CellEdit> step = redoSteps.removeLast();
+        undoSteps.addLast(step);
+        return step;
+    }
+
+    /**
+     * Clear all history
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        openStep = null;
+        memoryUsed = 0;
+    }
+
+    /**
+     * Set the memory budget for the history.  The oldest steps
+     * are evicted to stay within the budget.
+     * @param bytes estimated memory budget in bytes
+     */
+    public void setMemoryLimit(int bytes) {
+        memoryLimit = bytes;
+        evict();
+    }
+
+    /**
+     * Get the memory budget for the history
+     * @return memory budget in bytes
+     */
+    public int getMemoryLimit() {
+        return memoryLimit;
+    }
+
+    /**
+     * Get the estimated memory used by the history
+     * @return estimated memory use in bytes
+     */
+    public int getMemoryUsed() {
+        return memoryUsed;
+    }
+
+    /**
+     * Store a completed step and clear the redo history
+     * @param step list of edits
+     */
+    private void pushStep(ArrayList<CellEdit> step) {
+        for(ArrayList<CellEdit> redoStep: redoSteps) {
+            memoryUsed -= getStepSize(redoStep);
+        }
+        redoSteps.clear();
+        undoSteps.addLast(step);
+        memoryUsed += getStepSize(step);
+        evict();
+    }
+
+    /**
+     * Evict the oldest steps until the history fits in the budget
+     */
+    private void evict() {
+        while (memoryUsed > memoryLimit && !undoSteps.isEmpty()) {
+            memoryUsed -= getStepSize(undoSteps.removeFirst());
+        }
+        while (memoryUsed > memoryLimit && !redoSteps.isEmpty()) {
+            memoryUsed -= getStepSize(redoSteps.removeFirst());
+        }
+    }
+
+    /**
+     * Estimate the memory used by a step
+     * @param step list of edits
+     * @return estimated size in bytes
+     */
+    private int getStepSize(List<CellEdit> step) {
+        return STEP_SIZE + step.size() * CELL_EDIT_SIZE;
+    }
+}
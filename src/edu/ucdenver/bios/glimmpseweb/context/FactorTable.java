@@ -1,176 +1,296 @@
-/*
- * User Interface for the GLIMMPSE Software System.  Allows
- * users to perform power, sample size, and detectable difference
- * calculations. 
- * 
- * Copyright (C) 2010 Regents of the University of Colorado.  
- *
- * This program is free software; you can redistribute it and/or
- * modify it under the terms of the GNU General Public License
- * as published by the Free Software Foundation; either version 2
- * of the License, or (at your option) any later version.
- *
- * This program is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with this program; if not, write to the Free Software
- * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
- */
-package edu.ucdenver.bios.glimmpseweb.context;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import edu.ucdenver.bios.webservice.common.domain.BetweenParticipantFactor;
-import edu.ucdenver.bios.webservice.common.domain.Category;
-
-/**
- * Convenience class for tables of string labels.  Used for generating
- * all possible permutations of factors
- * @author Sarah Kreidler
- *
- */
-public class FactorTable {
-    protected ArrayList<String> columnLabels = new ArrayList<String>();
-    protected ArrayList<ArrayList<String>> columns = new ArrayList<ArrayList<String>>();
-
-    /**
-     * Create an empty factor table
-     */
-    public FactorTable() {}
-
-    /**
-     * Fill the factor table from a list of between participant factors.
-     * Generates all possible combinations of levels of each factor
-     * 
-     * @param factorList list of between participant factors
-     */
-    public void loadBetweenParticipantFactors(List<BetweenParticipantFactor> factorList) {
-        clear();        
-        if (factorList != null && factorList.size() > 0) {
-            int totalPermutations = 1;
-
-            // calculate total size and add column headers
-            for(BetweenParticipantFactor factor: factorList) {
-                List<Category> categoryList = factor.getCategoryList();
-                if (categoryList != null && categoryList.size() >= 2) {
-                    // add colum header
-                    columnLabels.add(factor.getPredictorName());
-                    // multiple in the number of categories
-                    totalPermutations *= categoryList.size();
-                }
-            }
-            
-            // now build the columns
-            int numRepetitions = totalPermutations;
-            for(BetweenParticipantFactor factor: factorList) {
-                ArrayList<String> column = new ArrayList<String>(totalPermutations);
-                List<Category> categoryList = factor.getCategoryList();
-                if (categoryList != null && categoryList.size() >= 2) {
-                    numRepetitions /= categoryList.size();
-                    for(int perm = 0; perm < totalPermutations; ) {
-                        for(Category category: categoryList) {
-                            String value = category.getCategory();
-                            for(int rep = 0; rep < numRepetitions; rep++) {
-                                column.add(value);
-                                perm++;
-                            }
-                        }
-                    }
-                }
-                columns.add(column);
-            }
-        }
-    }
-
-    /**
-     * Add a factor to the table
-     * @param factor
-     */
-    public void addFactor(BetweenParticipantFactor factor) {
-        List<Category> categoryList = factor.getCategoryList();
-        if (categoryList != null && categoryList.size() >= 2) {
-            columnLabels.add(factor.getPredictorName());
-        }
-        
-    }
-    
-    /** 
-     * remove a factor from the table
-     * @param factor
-     */
-    public void deleteFactor(BetweenParticipantFactor factor) {
-        
-    }
-    
-    /**
-     * Add a category to the specified factor
-     * @param factor
-     * @param category
-     */
-    public void addFactorCategory(BetweenParticipantFactor factor,
-            String category) {
-        
-    }
-   
-    /**
-     * Remove the specified category from the factor
-     * @param factor
-     * @param category
-     */
-    public void deleteFactorCategory(BetweenParticipantFactor factor,
-            String category) {
-        
-    }
-    
-    /**
-     * Get the predictor column labels
-     * @return
-     */
-    public List<String> getColumnLabels() {
-        return columnLabels;
-    }
-
-    /**
-     * Get the number of factors
-     * @return
-     */
-    public int getNumberOfColumns() {
-        return columns.size();
-    }
-
-    /**
-     * Get the number of combinations of factors
-     * @return
-     */
-    public int getNumberOfRows() {
-        int rows = 0;
-        if (columns.size() > 0) {
-            rows = columns.get(0).size();
-        }
-        return rows;
-    }
-    
-    /**
-     * Get the list of values for a single factor
-     * @param index
-     * @return
-     */
-    public List<String> getColumn(int index) {
-        if (index < 0 || index > columns.size()-1) {
-            return null;
-        }
-        return columns.get(index);
-    }
-
-    /**
-     * Clear the table
-     */
-    public void clear() {
-        columnLabels.clear();
-        columns.clear(); // TODO: clear individuals columns?
-    }
-}
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations. 
+ * 
+ * Copyright (C) 2010 Regents of the University of Colorado.  
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.context;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import edu.ucdenver.bios.webservice.common.domain.BetweenParticipantFactor;
+import edu.ucdenver.bios.webservice.common.domain.Category;
+
+/**
+ * Convenience class for tables of string labels.  Used for generating
+ * all possible permutations of factors.
+ * <p>
+ * The table is virtual: only the factor and category labels are stored,
+ * and the value in a given row is computed from the row index by
+ * treating each factor as a digit in a mixed radix number.  The
+ * first factor varies slowest.  Factors with fewer than two categories
+ * are tracked but do not contribute a column.
+ * 
+ * @author Sarah Kreidler
+ *
+ */
+public class FactorTable {
+    // names of all factors, in design order
+    protected ArrayList<String> factorNames = new ArrayList<String>();
+    // category labels for all factors, in design order
+    protected ArrayList<ArrayList<String>> factorCategories = 
+        new ArrayList<ArrayList<String>>();
+    // labels of factors with two or more categories
+    protected ArrayList<String> columnLabels = new ArrayList<String>();
+    // category labels of the factors with two or more categories
+    protected ArrayList<ArrayList<String>> columnCategories = 
+        new ArrayList<ArrayList<String>>();
+    // number of consecutive rows sharing a category, by column
+    protected int[] columnStrides = new int[0];
+    // total number of combinations of categories
+    protected int numberOfRows = 0;
+
+    /**
+     * Virtual list of the values in a single column
+     */
+    private class FactorColumn extends AbstractList<String> {
+        private int column;
+
+        public FactorColumn(int column) {
+            this.column = column;
+        }
+
+        @Override
+        public String get(int row) {
+            if (row < 0 || row >= numberOfRows) {
+                throw new IndexOutOfBoundsException("Row: " + row);
+            }
+            return getValue(row, column);
+        }
+
+        @Override
+        public int size() {
+            return numberOfRows;
+        }
+    }
+
+    /**
+     * Create an empty factor table
+     */
+    public FactorTable() {}
+
+    /**
+     * Fill the factor table from a list of between participant factors.
+     * Generates all possible combinations of levels of each factor
+     * 
+     * @param factorList list of between participant factors
+     */
+    public void loadBetweenParticipantFactors(List<BetweenParticipantFactor> factorList) {
+        factorNames.clear();
+        factorCategories.clear();
+        if (factorList != null) {
+            for(BetweenParticipantFactor factor: factorList) {
+                factorNames.add(factor.getPredictorName());
+                factorCategories.add(getCategoryLabels(factor));
+            }
+        }
+        updateColumns();
+    }
+
+    /**
+     * Add a factor to the table
+     * @param factor
+     */
+    public void addFactor(BetweenParticipantFactor factor) {
+        factorNames.add(factor.getPredictorName());
+        factorCategories.add(getCategoryLabels(factor));
+        updateColumns();
+    }
+    
+    /** 
+     * remove a factor from the table
+     * @param factor
+     */
+    public void deleteFactor(BetweenParticipantFactor factor) {
+        int index = factorNames.indexOf(factor.getPredictorName());
+        if (index >= 0) {
+            factorNames.remove(index);
+            factorCategories.remove(index);
+            updateColumns();
+        }
+    }
+    
+    /**
+     * Add a category to the specified factor
+     * @param factor
+     * @param category
+     */
+    public void addFactorCategory(BetweenParticipantFactor factor,
+            String category) {
+        int index = factorNames.indexOf(factor.getPredictorName());
+        if (index >= 0) {
+            factorCategories.get(index).add(category);
+            updateColumns();
+        }
+    }
+   
+    /**
+     * Remove the specified category from the factor
+     * @param factor
+     * @param category
+     */
+    public void deleteFactorCategory(BetweenParticipantFactor factor,
+            String category) {
+        int index = factorNames.indexOf(factor.getPredictorName());
+        if (index >= 0 && factorCategories.get(index).remove(category)) {
+            updateColumns();
+        }
+    }
+    
+    /**
+     * Get the predictor column labels
+     * @return
+     */
+    public List<String> getColumnLabels() {
+        return columnLabels;
+    }
+
+    /**
+     * Get the number of factors
+     * @return
+     */
+    public int getNumberOfColumns() {
+        return columnLabels.size();
+    }
+
+    /**
+     * Get the number of combinations of factors
+     * @return
+     */
+    public int getNumberOfRows() {
+        return numberOfRows;
+    }
+    
+    /**
+     * Get the list of values for a single factor.  Values are
+     * computed on demand from the row index.
+     * @param index
+     * @return
+     */
+    public List<String> getColumn(int index) {
+        if (index < 0 || index > columnLabels.size()-1) {
+            return null;
+        }
+        return new FactorColumn(index);
+    }
+
+    /**
+     * Get the category label for the specified combination of factors
+     * @param row combination of factors
+     * @param column factor index
+     * @return category label
+     */
+    public String getValue(int row, int column) {
+        List<String> categoryList = columnCategories.get(column);
+        return categoryList.get((row / columnStrides[column]) % categoryList.size());
+    }
+
+    /**
+     * Get the category labels for a single combination of factors
+     * @param row combination of factors
+     * @return list of category labels, one per column
+     */
+    public List<String> getRow(int row) {
+        ArrayList<String> values = new ArrayList<String>(columnLabels.size());
+        for(int col = 0; col < columnLabels.size(); col++) {
+            values.add(getValue(row, col));
+        }
+        return values;
+    }
+
+    /**
+     * Get an iterator over the combinations of factors.  Each row
+     * is computed as it is visited.
+     * @return row iterator
+     */
+    public Iterator<List<String>> rowIterator() {
+        return new Iterator<List<String>>() {
+            private int row = 0;
+
+            public boolean hasNext() {
+                return row < numberOfRows;
+            }
+
+            public List<String> next() {
+                if (row >= numberOfRows) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(row++);
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Clear the table
+     */
+    public void clear() {
+        factorNames.clear();
+        factorCategories.clear();
+        updateColumns();
+    }
+
+    /**
+     * Get a copy of the category labels for the factor
+     * @param factor between participant factor
+     * @return list of category labels
+     */
+    private ArrayList<String> getCategoryLabels(BetweenParticipantFactor factor) {
+        ArrayList<String> labels = new ArrayList<String>();
+        List<Category> categoryList = factor.getCategoryList();
+        if (categoryList != null) {
+            for(Category category: categoryList) {
+                labels.add(category.getCategory());
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * Rebuild the column labels and the place value of each column
+     * from the current factors.  Only factors with 2 or more categories 
+     * are included in the table.
+     */
+    private void updateColumns() {
+        columnLabels.clear();
+        columnCategories.clear();
+        for(int i = 0; i < factorNames.size(); i++) {
+            ArrayList<String> categoryList = factorCategories.get(i);
+            if (categoryList.size() >= 2) {
+                columnLabels.add(factorNames.get(i));
+                columnCategories.add(categoryList);
+            }
+        }
+
+        // calculate the stride of each column, last column varies fastest
+        columnStrides = new int[columnCategories.size()];
+        int stride = 1;
+        for(int col = columnCategories.size() - 1; col >= 0; col--) {
+            columnStrides[col] = stride;
+            stride *= columnCategories.get(col).size();
+        }
+        numberOfRows = (columnCategories.size() > 0 ? stride : 0);
+    }
+}
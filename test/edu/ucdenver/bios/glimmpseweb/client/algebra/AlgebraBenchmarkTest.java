@@ -0,0 +1,116 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Timing harness for the linear algebra routines on a 200 x 200
+ * matrix, the largest covariance the wizard is expected to hold.
+ * The timings are printed rather than asserted, since they depend
+ * on the machine.
+ */
+public class AlgebraBenchmarkTest {
+    private static final int DIMENSION = 200;
+    // number of timed repetitions
+    private static final int REPETITIONS = 20;
+
+    /**
+     * Create the positive definite matrix X'X + nI for a random X
+     */
+    private static double[][] createPositiveDefinite(int n, long seed) {
+        Random random = new Random(seed);
+        double[][] x = new double[n][n];
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c < n; c++) {
+                x[r][c] = random.nextGaussian();
+            }
+        }
+        double[][] data = new double[n][n];
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c <= r; c++) {
+                double sum = 0;
+                for(int k = 0; k < n; k++) {
+                    sum += x[k][r] * x[k][c];
+                }
+                data[r][c] = sum;
+                data[c][r] = sum;
+            }
+            data[r][r] += n;
+        }
+        return data;
+    }
+
+    private static void report(String name, long nanos) {
+        System.out.println(name + " " + DIMENSION + "x" + DIMENSION + ": " + 
+                (nanos / REPETITIONS / 1000) + " us");
+    }
+
+    @Test
+    public void testBenchmark() {
+        double[][] data = createPositiveDefinite(DIMENSION, 200);
+        CholeskyDecomposition cholesky = new CholeskyDecomposition();
+        QRDecomposition qr = new QRDecomposition();
+        SymmetricEigenvalues eigenvalues = new SymmetricEigenvalues();
+        MatrixValidator validator = new MatrixValidator();
+
+        // warm up, and check the results
+        for(int i = 0; i < 3; i++) {
+            assertTrue(cholesky.decompose(data));
+            assertTrue(qr.decompose(data));
+            assertEquals(DIMENSION, qr.getRank());
+            assertTrue(eigenvalues.decompose(data));
+            assertTrue(eigenvalues.getMinimum() > 0);
+            assertTrue(validator.isSymmetric(data));
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < REPETITIONS; i++) {
+            cholesky.decompose(data);
+        }
+        report("Cholesky", System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for(int i = 0; i < REPETITIONS; i++) {
+            qr.decompose(data);
+            qr.getRank();
+        }
+        report("Pivoted QR rank", System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for(int i = 0; i < REPETITIONS; i++) {
+            eigenvalues.decompose(data);
+        }
+        report("Symmetric eigenvalues", System.nanoTime() - start);
+
+        start = System.nanoTime();
+        for(int i = 0; i < REPETITIONS; i++) {
+            validator.isPositiveDefinite(data);
+        }
+        report("Symmetry and positive definite check", System.nanoTime() - start);
+    }
+}
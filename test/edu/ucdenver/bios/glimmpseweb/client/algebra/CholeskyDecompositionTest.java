@@ -0,0 +1,133 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for the Cholesky decomposition with positive definite,
+ * indefinite, singular and malformed inputs.
+ */
+public class CholeskyDecompositionTest {
+    private static final double TOLERANCE = 1.0E-12;
+
+    private CholeskyDecomposition cholesky = new CholeskyDecomposition();
+
+    /**
+     * Check that L * L' reproduces the matrix
+     */
+    private void assertReconstructs(double[][] data) {
+        int n = data.length;
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c < n; c++) {
+                double sum = 0;
+                for(int k = 0; k < n; k++) {
+                    sum += cholesky.get(r, k) * cholesky.get(c, k);
+                }
+                assertEquals(data[r][c], sum, TOLERANCE);
+            }
+        }
+    }
+
+    @Test
+    public void testPositiveDefinite() {
+        double[][] data = {
+                {4, 2, 0.4},
+                {2, 2, 0.5},
+                {0.4, 0.5, 3}
+        };
+        assertTrue(cholesky.decompose(data));
+        assertTrue(cholesky.isPositiveDefinite());
+        assertEquals(3, cholesky.getDimension());
+        assertReconstructs(data);
+        // upper triangle of the factor is zero
+        assertEquals(0, cholesky.get(0, 2), 0);
+    }
+
+    @Test
+    public void testLogDeterminant() {
+        double[][] data = {{2, 1}, {1, 2}};
+        assertTrue(cholesky.decompose(data));
+        assertEquals(Math.log(3), cholesky.getLogDeterminant(), TOLERANCE);
+    }
+
+    @Test
+    public void testIdentity() {
+        double[][] data = {{1, 0, 0}, {0, 1, 0}, {0, 0, 1}};
+        assertTrue(cholesky.decompose(data));
+        assertReconstructs(data);
+        assertEquals(0, cholesky.getLogDeterminant(), TOLERANCE);
+    }
+
+    @Test
+    public void testIndefinite() {
+        // eigenvalues 3 and -1
+        assertFalse(cholesky.decompose(new double[][] {{1, 2}, {2, 1}}));
+        assertFalse(cholesky.isPositiveDefinite());
+        // negative diagonal
+        assertFalse(cholesky.decompose(new double[][] {{-1, 0}, {0, 1}}));
+    }
+
+    @Test
+    public void testSingular() {
+        // rank one positive semi-definite matrix
+        assertFalse(cholesky.decompose(new double[][] {{1, 1}, {1, 1}}));
+        // singular only after round off: x x' for x = (1, 1/3, 1/7)
+        double[] x = {1, 1.0 / 3, 1.0 / 7};
+        double[][] data = new double[3][3];
+        for(int r = 0; r < 3; r++) {
+            for(int c = 0; c < 3; c++) {
+                data[r][c] = x[r] * x[c];
+            }
+        }
+        assertFalse(cholesky.decompose(data));
+        assertFalse(cholesky.decompose(new double[][] {{0, 0}, {0, 0}}));
+    }
+
+    @Test
+    public void testMalformed() {
+        assertFalse(cholesky.decompose(null));
+        assertFalse(cholesky.decompose(new double[0][0]));
+        assertFalse(cholesky.decompose(new double[][] {{1, 0, 0}, {0, 1, 0}}));
+        assertFalse(cholesky.decompose(new double[][] {{1, 0}, {0}}));
+        assertFalse(cholesky.decompose(new double[][] {{Double.NaN, 0}, {0, 1}}));
+    }
+
+    @Test
+    public void testWorkspaceReuse() {
+        double[][] large = {
+                {4, 1, 0, 0},
+                {1, 4, 1, 0},
+                {0, 1, 4, 1},
+                {0, 0, 1, 4}
+        };
+        double[][] small = {{9, 3}, {3, 5}};
+        assertTrue(cholesky.decompose(large));
+        assertTrue(cholesky.decompose(small));
+        assertEquals(2, cholesky.getDimension());
+        assertReconstructs(small);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for the matrix checks used by the wizard panels, including
+ * the relative symmetry tolerance.
+ */
+public class MatrixValidatorTest {
+    private MatrixValidator validator = new MatrixValidator();
+
+    @Test
+    public void testSquareDimension() {
+        assertEquals(2, MatrixValidator.getSquareDimension(new double[][] {{1, 0}, {0, 1}}));
+        assertEquals(-1, MatrixValidator.getSquareDimension(null));
+        assertEquals(-1, MatrixValidator.getSquareDimension(new double[][] {{1, 0}}));
+        assertEquals(-1, MatrixValidator.getSquareDimension(new double[][] {{1, 0}, {0}}));
+    }
+
+    @Test
+    public void testSymmetryTolerance() {
+        double tolerance = MatrixValidator.SYMMETRY_TOLERANCE;
+        // differences well inside the relative tolerance
+        assertTrue(validator.isSymmetric(new double[][] {
+                {1, 0.5}, {0.5 * (1 + tolerance / 10), 1}}));
+        // the tolerance scales with the magnitude of the entries
+        assertTrue(validator.isSymmetric(new double[][] {
+                {1, 1.0E6}, {1.0E6 + 1.0E-5, 1}}));
+        // differences outside the tolerance
+        assertFalse(validator.isSymmetric(new double[][] {
+                {1, 0.5}, {0.5 * (1 + tolerance * 10), 1}}));
+        assertFalse(validator.isSymmetric(new double[][] {
+                {1, 1.0E-20}, {0, 1}}));
+        // exact zeros are symmetric
+        assertTrue(validator.isSymmetric(new double[][] {{1, 0}, {0, 1}}));
+        assertFalse(validator.isSymmetric(new double[][] {{1, Double.NaN}, {Double.NaN, 1}}));
+        assertFalse(validator.isSymmetric(new double[][] {{1, 2, 3}}));
+    }
+
+    @Test
+    public void testPositiveDefinite() {
+        assertTrue(validator.isPositiveDefinite(new double[][] {{2, 1}, {1, 2}}));
+        assertFalse(validator.isPositiveDefinite(new double[][] {{1, 2}, {2, 1}}));
+        assertFalse(validator.isPositiveDefinite(new double[][] {{1, 1}, {1, 1}}));
+        // a positive definite lower triangle with a different upper
+        // triangle is not symmetric
+        assertFalse(validator.isPositiveDefinite(new double[][] {{2, 5}, {1, 2}}));
+    }
+
+    @Test
+    public void testRank() {
+        double[][] contrast = {{1, -1, 0}, {1, 0, -1}};
+        assertEquals(2, validator.getRank(contrast));
+        assertTrue(validator.isFullRowRank(contrast));
+        assertFalse(validator.isFullColumnRank(contrast));
+
+        double[][] design = {{1, 1}, {2, 2}, {3, 3}};
+        assertEquals(1, validator.getRank(design));
+        assertFalse(validator.isFullColumnRank(design));
+        assertFalse(validator.isFullRowRank(null));
+        assertEquals(0, validator.getRank(new double[][] {{1, 2}, {3}}));
+    }
+
+    @Test
+    public void testConditionNumber() {
+        double tolerance = 1.0E-10;
+        assertEquals(1, validator.getConditionNumber(
+                new double[][] {{1, 0}, {0, 1}}), tolerance);
+        // symmetric: ratio of the extreme eigenvalue magnitudes
+        assertEquals(3, validator.getConditionNumber(
+                new double[][] {{1, 2}, {2, 1}}), tolerance);
+        // general: ratio of the extreme singular values
+        assertEquals(4, validator.getConditionNumber(
+                new double[][] {{4, 0}, {0, 1}, {0, 0}}), tolerance);
+        // singular, up to round off in the smallest eigenvalue
+        assertTrue(validator.getConditionNumber(
+                new double[][] {{1, 1}, {1, 1}}) > 1.0E12);
+        assertEquals(Double.POSITIVE_INFINITY, validator.getConditionNumber(
+                new double[][] {{0, 0}, {0, 0}}), 0);
+    }
+}
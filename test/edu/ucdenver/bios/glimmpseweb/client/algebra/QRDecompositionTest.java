@@ -0,0 +1,130 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for the rank calculation of the column pivoted QR 
+ * decomposition with full rank, rank deficient, wide and tall inputs.
+ */
+public class QRDecompositionTest {
+    private QRDecomposition qr = new QRDecomposition();
+
+    private int rank(double[][] data) {
+        assertTrue(qr.decompose(data));
+        return qr.getRank();
+    }
+
+    @Test
+    public void testFullRankSquare() {
+        assertEquals(3, rank(new double[][] {
+                {2, -1, 0},
+                {-1, 2, -1},
+                {0, -1, 2}
+        }));
+    }
+
+    @Test
+    public void testRankDeficientSquare() {
+        // third row is the sum of the first two
+        assertEquals(2, rank(new double[][] {
+                {1, 2, 3},
+                {4, 5, 6},
+                {5, 7, 9}
+        }));
+        assertEquals(1, rank(new double[][] {{1, 2}, {2, 4}}));
+    }
+
+    @Test
+    public void testZeroMatrix() {
+        assertEquals(0, rank(new double[][] {{0, 0}, {0, 0}}));
+    }
+
+    @Test
+    public void testWide() {
+        // between participant contrast for three groups
+        assertEquals(2, rank(new double[][] {
+                {1, -1, 0},
+                {1, 0, -1}
+        }));
+        // duplicated contrast row
+        assertEquals(1, rank(new double[][] {
+                {1, -1, 0, 0},
+                {2, -2, 0, 0}
+        }));
+    }
+
+    @Test
+    public void testTall() {
+        // design essence matrix for three groups
+        assertEquals(3, rank(new double[][] {
+                {1, 0, 0},
+                {0, 1, 0},
+                {0, 0, 1},
+                {1, 1, 1}
+        }));
+        // collinear columns
+        assertEquals(1, rank(new double[][] {{1, 1}, {2, 2}, {3, 3}}));
+    }
+
+    @Test
+    public void testPivoting() {
+        // the largest column is moved first
+        assertTrue(qr.decompose(new double[][] {{1, 0, 10}, {0, 1, 0}}));
+        assertEquals(2, qr.getPivot(0));
+        assertEquals(10, Math.abs(qr.getDiagonal(0)), 1.0E-12);
+        // diagonal of R is non-increasing in magnitude
+        assertTrue(Math.abs(qr.getDiagonal(0)) >= Math.abs(qr.getDiagonal(1)));
+        assertEquals(0, qr.getDiagonal(5), 0);
+    }
+
+    @Test
+    public void testTolerance() {
+        double[][] data = {{1, 0}, {0, 1.0E-8}};
+        assertEquals(2, rank(data));
+        assertEquals(1, qr.getRank(1.0E-6));
+    }
+
+    @Test
+    public void testMalformed() {
+        assertFalse(qr.decompose(null));
+        assertFalse(qr.decompose(new double[0][0]));
+        assertFalse(qr.decompose(new double[][] {{1, 2}, {3}}));
+        assertEquals(0, qr.getRank());
+    }
+
+    @Test
+    public void testWorkspaceReuse() {
+        assertEquals(3, rank(new double[][] {
+                {1, 0, 0},
+                {0, 1, 0},
+                {0, 0, 1},
+                {1, 1, 1}
+        }));
+        assertEquals(1, rank(new double[][] {{3}}));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.algebra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the symmetric eigenvalue solver against matrices with
+ * known spectra.
+ */
+public class SymmetricEigenvaluesTest {
+    private static final double TOLERANCE = 1.0E-10;
+
+    private SymmetricEigenvalues eigenvalues = new SymmetricEigenvalues();
+
+    private void assertSpectrum(double[] expected) {
+        assertEquals(expected.length, eigenvalues.getDimension());
+        for(int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], eigenvalues.getEigenvalue(i), TOLERANCE);
+        }
+        assertEquals(expected[0], eigenvalues.getMinimum(), TOLERANCE);
+        assertEquals(expected[expected.length - 1], eigenvalues.getMaximum(), TOLERANCE);
+    }
+
+    @Test
+    public void testDiagonal() {
+        assertTrue(eigenvalues.decompose(new double[][] {
+                {3, 0, 0},
+                {0, -1, 0},
+                {0, 0, 2}
+        }));
+        assertSpectrum(new double[] {-1, 2, 3});
+    }
+
+    @Test
+    public void testTwoByTwo() {
+        assertTrue(eigenvalues.decompose(new double[][] {{1, 2}, {2, 1}}));
+        assertSpectrum(new double[] {-1, 3});
+    }
+
+    /**
+     * The second difference matrix tridiag(-1, 2, -1) of dimension n
+     * has eigenvalues 2 - 2cos(k pi / (n + 1)), k = 1..n
+     */
+    @Test
+    public void testSecondDifference() {
+        int n = 12;
+        double[][] data = new double[n][n];
+        double[] expected = new double[n];
+        for(int i = 0; i < n; i++) {
+            data[i][i] = 2;
+            if (i > 0) {
+                data[i][i - 1] = -1;
+                data[i - 1][i] = -1;
+            }
+            expected[i] = 2 - 2 * Math.cos((i + 1) * Math.PI / (n + 1));
+        }
+        assertTrue(eigenvalues.decompose(data));
+        assertSpectrum(expected);
+    }
+
+    /**
+     * The compound symmetric (exchangeable) correlation matrix has
+     * eigenvalues 1 + (n - 1) rho and 1 - rho with multiplicity n - 1
+     */
+    @Test
+    public void testCompoundSymmetry() {
+        int n = 5;
+        double rho = 0.3;
+        double[][] data = new double[n][n];
+        double[] expected = new double[n];
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c < n; c++) {
+                data[r][c] = (r == c ? 1 : rho);
+            }
+            expected[r] = 1 - rho;
+        }
+        expected[n - 1] = 1 + (n - 1) * rho;
+        assertTrue(eigenvalues.decompose(data));
+        assertSpectrum(expected);
+    }
+
+    /**
+     * Q D Q' for a Householder reflection Q has the spectrum of D
+     */
+    @Test
+    public void testRotatedDiagonal() {
+        double[] d = {-2, 0.5, 1, 4};
+        double[] v = {1, 2, -1, 3};
+        int n = d.length;
+        double vv = 0;
+        for(int i = 0; i < n; i++) {
+            vv += v[i] * v[i];
+        }
+        double[][] q = new double[n][n];
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c < n; c++) {
+                q[r][c] = (r == c ? 1 : 0) - 2 * v[r] * v[c] / vv;
+            }
+        }
+        double[][] data = new double[n][n];
+        for(int r = 0; r < n; r++) {
+            for(int c = 0; c < n; c++) {
+                double sum = 0;
+                for(int k = 0; k < n; k++) {
+                    sum += q[r][k] * d[k] * q[c][k];
+                }
+                data[r][c] = sum;
+            }
+        }
+        assertTrue(eigenvalues.decompose(data));
+        assertSpectrum(d);
+    }
+
+    @Test
+    public void testMalformed() {
+        assertFalse(eigenvalues.decompose(null));
+        assertFalse(eigenvalues.decompose(new double[][] {{1, 2, 3}, {4, 5, 6}}));
+        assertFalse(eigenvalues.decompose(new double[][] {{1, Double.NaN}, {Double.NaN, 1}}));
+        assertFalse(eigenvalues.decompose(new double[][] {
+                {Double.POSITIVE_INFINITY, 0}, {0, 1}}));
+        assertEquals(0, eigenvalues.getDimension());
+    }
+}
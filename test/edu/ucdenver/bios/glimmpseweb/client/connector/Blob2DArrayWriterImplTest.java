@@ -0,0 +1,144 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the hosted mode (non-script) path of the Blob2DArray JSON
+ * writer against the original StringBuffer based encoding, and
+ * reports the encoding time for 50x50 and 200x200 matrices.
+ */
+public class Blob2DArrayWriterImplTest {
+    // number of timed repetitions for the benchmark
+    private static final int REPETITIONS = 200;
+
+    /**
+     * Original encoding of the data property, used as the reference
+     */
+    private static String legacyEncode(double[][] data) {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("{\"data\":[" );
+        int rows = data.length;
+        int columns = data[0].length;
+        for(int r = 0; r < rows; r++) {
+            if (r > 0) {
+                buffer.append(",");
+            }
+            buffer.append("[");
+            for(int c = 0; c < columns; c++) {
+                if (c > 0) {
+                    buffer.append(",");
+                }
+                buffer.append(data[r][c]);
+            }
+            buffer.append("]");
+        }
+        buffer.append("]}");
+        return buffer.toString();
+    }
+
+    private static String encode(double[][] data) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("{\"data\":");
+        Blob2DArrayWriterImpl.appendRows(builder, data, false);
+        builder.append("}");
+        return builder.toString();
+    }
+
+    private static double[][] randomMatrix(int rows, int columns, long seed) {
+        Random random = new Random(seed);
+        double[][] data = new double[rows][columns];
+        for(int r = 0; r < rows; r++) {
+            for(int c = 0; c < columns; c++) {
+                data[r][c] = random.nextGaussian() * 100;
+            }
+        }
+        return data;
+    }
+
+    @Test
+    public void testSmallMatrix() {
+        double[][] data = {{1, 0.5, -2}, {0, 1E-10, 3.25}};
+        assertEquals(legacyEncode(data), encode(data));
+    }
+
+    @Test
+    public void testSpecialValues() {
+        double[][] data = {{Double.MIN_VALUE, Double.MAX_VALUE, -0.0}};
+        assertEquals(legacyEncode(data), encode(data));
+    }
+
+    @Test
+    public void testEmptyData() {
+        assertEquals("{\"data\":[]}", encode(null));
+        assertEquals("{\"data\":[]}", encode(new double[0][0]));
+    }
+
+    @Test
+    public void testEquivalence50() {
+        double[][] data = randomMatrix(50, 50, 50);
+        assertEquals(legacyEncode(data), encode(data));
+    }
+
+    @Test
+    public void testEquivalence200() {
+        double[][] data = randomMatrix(200, 200, 200);
+        assertEquals(legacyEncode(data), encode(data));
+    }
+
+    @Test
+    public void testBenchmark() {
+        benchmark(50);
+        benchmark(200);
+    }
+
+    /**
+     * Print the average encoding time of the original and current
+     * writers for a square matrix of the specified dimension
+     */
+    private void benchmark(int dimension) {
+        double[][] data = randomMatrix(dimension, dimension, dimension);
+        // warm up
+        for(int i = 0; i < 10; i++) {
+            legacyEncode(data);
+            encode(data);
+        }
+        long start = System.nanoTime();
+        for(int i = 0; i < REPETITIONS; i++) {
+            legacyEncode(data);
+        }
+        long legacy = System.nanoTime() - start;
+        start = System.nanoTime();
+        for(int i = 0; i < REPETITIONS; i++) {
+            encode(data);
+        }
+        long current = System.nanoTime() - start;
+        System.out.println("Blob2DArray encode " + dimension + "x" + dimension +
+                ": original " + (legacy / REPETITIONS / 1000) + " us, current " +
+                (current / REPETITIONS / 1000) + " us");
+    }
+}
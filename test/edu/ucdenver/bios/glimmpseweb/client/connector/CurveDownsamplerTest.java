@@ -0,0 +1,133 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Checks the points kept by CurveDownsampler for dense power curves.
+ */
+public class CurveDownsamplerTest {
+    private static final int POINT_COUNT = 1000;
+    private static final int THRESHOLD = 50;
+    // index of the spike in the spiked curve
+    private static final int SPIKE_INDEX = 437;
+
+    /**
+     * Create a smooth power curve with confidence limits, optionally
+     * with a single spike
+     */
+    private static PowerCurveSeries createSeries(int count, boolean spike) {
+        double[] x = new double[count];
+        double[] power = new double[count];
+        double[] lower = new double[count];
+        double[] upper = new double[count];
+        for(int i = 0; i < count; i++) {
+            x[i] = 10 + i;
+            power[i] = 1 - Math.exp(-i / (double) count * 4);
+            if (spike && i == SPIKE_INDEX) {
+                power[i] = 1;
+            }
+            lower[i] = power[i] * 0.9;
+            upper[i] = Math.min(power[i] * 1.1, 1);
+        }
+        return new PowerCurveSeries("series", "1,1,0", x, power, lower, upper);
+    }
+
+    @Test
+    public void testKeepsFirstAndLastPoints() {
+        PowerCurveSeries series = createSeries(POINT_COUNT, false);
+        int[] indices = CurveDownsampler.selectIndices(series, THRESHOLD);
+        assertEquals(0, indices[0]);
+        assertEquals(POINT_COUNT - 1, indices[indices.length - 1]);
+
+        PowerCurveSeries reduced = CurveDownsampler.downsample(series, THRESHOLD);
+        assertEquals(series.getX(0), reduced.getX(0), 0);
+        assertEquals(series.getX(POINT_COUNT - 1), reduced.getX(reduced.size() - 1), 0);
+    }
+
+    @Test
+    public void testThresholdIsNeverExceeded() {
+        PowerCurveSeries series = createSeries(POINT_COUNT, true);
+        for(int threshold = CurveDownsampler.MIN_POINTS; threshold < POINT_COUNT; 
+                threshold += 37) {
+            int[] indices = CurveDownsampler.selectIndices(series, threshold);
+            assertTrue(indices.length <= threshold);
+            // indices increase, so no point is repeated
+            for(int i = 1; i < indices.length; i++) {
+                assertTrue(indices[i] > indices[i - 1]);
+            }
+            assertTrue(CurveDownsampler.downsample(series, threshold).size() <= threshold);
+        }
+    }
+
+    @Test
+    public void testSmallSeriesPassThrough() {
+        // below the threshold
+        PowerCurveSeries series = createSeries(THRESHOLD - 1, false);
+        assertNull(CurveDownsampler.selectIndices(series, THRESHOLD));
+        assertSame(series, CurveDownsampler.downsample(series, THRESHOLD));
+        // exactly the threshold
+        series = createSeries(THRESHOLD, false);
+        assertSame(series, CurveDownsampler.downsample(series, THRESHOLD));
+        // thresholds below MIN_POINTS keep MIN_POINTS points
+        series = createSeries(CurveDownsampler.MIN_POINTS, false);
+        assertSame(series, CurveDownsampler.downsample(series, 1));
+        series = createSeries(POINT_COUNT, false);
+        assertEquals(CurveDownsampler.MIN_POINTS, 
+                CurveDownsampler.downsample(series, 1).size());
+    }
+
+    @Test
+    public void testConfidenceLimitsStayAligned() {
+        PowerCurveSeries series = createSeries(POINT_COUNT, true);
+        int[] indices = CurveDownsampler.selectIndices(series, THRESHOLD);
+        PowerCurveSeries reduced = CurveDownsampler.downsample(series, THRESHOLD);
+        assertTrue(reduced.hasConfidenceLimits());
+        assertEquals(indices.length, reduced.size());
+        for(int i = 0; i < indices.length; i++) {
+            assertEquals(series.getX(indices[i]), reduced.getX(i), 0);
+            assertEquals(series.getPower(indices[i]), reduced.getPower(i), 0);
+            assertEquals(series.getLower(indices[i]), reduced.getLower(i), 0);
+            assertEquals(series.getUpper(indices[i]), reduced.getUpper(i), 0);
+        }
+    }
+
+    @Test
+    public void testSpikeSurvives() {
+        PowerCurveSeries series = createSeries(POINT_COUNT, true);
+        PowerCurveSeries reduced = CurveDownsampler.downsample(series, THRESHOLD);
+        boolean found = false;
+        for(int i = 0; i < reduced.size(); i++) {
+            if (reduced.getX(i) == series.getX(SPIKE_INDEX)) {
+                assertEquals(1, reduced.getPower(i), 0);
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.http.client.Request;
+import com.google.gwt.http.client.RequestBuilder;
+import com.google.gwt.http.client.RequestCallback;
+import com.google.gwt.http.client.RequestException;
+import com.google.gwt.http.client.Response;
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONParser;
+import com.google.gwt.junit.client.GWTTestCase;
+
+/**
+ * Round trip tests for the compact matrix encoding.  Matrices are
+ * encoded on the client, sent to a stand-in power service
+ * (MatrixEncodingStubServlet) which decodes them, and the decoded
+ * values are compared with the originals.
+ */
+public class MatrixEncodingTest extends GWTTestCase {
+    // time allowed for a request to the stand-in service
+    private static final int TIMEOUT = 10000;
+
+    private static final double[][] COVARIANCE = {
+        {1, 0.5, 0.25},
+        {0.5, 2, 0.125},
+        {0.25, 0.125, 3}
+    };
+    private static final double[][] RECTANGULAR = {
+        {1, 2, 3},
+        {4.5, -5, 1E-10}
+    };
+    // symmetric, but not a covariance
+    private static final double[][] SYMMETRIC = {
+        {0, 1},
+        {1, 0}
+    };
+
+    @Override
+    public String getModuleName() {
+        return "edu.ucdenver.bios.glimmpseweb.GlimmpseWebTest";
+    }
+
+    /**
+     * Build an entity with one matrix of each kind
+     */
+    private String createEntity() {
+        return "{\"covariance\":{\"data\":" + MatrixEncoding.encode(COVARIANCE, true) + 
+        "},\"rectangular\":{\"data\":" + MatrixEncoding.encode(RECTANGULAR, false) + 
+        "},\"symmetric\":{\"data\":" + MatrixEncoding.encode(SYMMETRIC, false) + "}}";
+    }
+
+    /**
+     * Check that the parsed entity holds the original matrices as
+     * plain arrays of rows
+     */
+    private void assertExpanded(String entity) {
+        JSONObject object = JSONParser.parseStrict(entity).isObject();
+        assertMatrix(COVARIANCE, object.get("covariance").isObject().get("data").isArray());
+        assertMatrix(RECTANGULAR, object.get("rectangular").isObject().get("data").isArray());
+        assertMatrix(SYMMETRIC, object.get("symmetric").isObject().get("data").isArray());
+    }
+
+    private void assertMatrix(double[][] expected, JSONArray rows) {
+        assertNotNull(rows);
+        assertEquals(expected.length, rows.size());
+        for(int r = 0; r < expected.length; r++) {
+            JSONArray row = rows.get(r).isArray();
+            assertEquals(expected[r].length, row.size());
+            for(int c = 0; c < expected[r].length; c++) {
+                assertEquals(expected[r][c], row.get(c).isNumber().doubleValue(), 0);
+            }
+        }
+    }
+
+    private void assertMatrix(double[][] expected, double[][] actual) {
+        assertNotNull(actual);
+        assertEquals(expected.length, actual.length);
+        for(int r = 0; r < expected.length; r++) {
+            assertEquals(expected[r].length, actual[r].length);
+            for(int c = 0; c < expected[r].length; c++) {
+                assertEquals(expected[r][c], actual[r][c], 0);
+            }
+        }
+    }
+
+    private JavaScriptObject parse(String encoded) {
+        return JSONParser.parseStrict(encoded).isObject().getJavaScriptObject();
+    }
+
+    /**
+     * Only matrices flagged as covariances are packed
+     */
+    public void testPackOnlyCovariance() {
+        assertTrue(MatrixEncoding.encode(COVARIANCE, true).contains("\"symmetric\":true"));
+        assertTrue(MatrixEncoding.encode(SYMMETRIC, false).contains("\"symmetric\":false"));
+        assertTrue(MatrixEncoding.encode(RECTANGULAR, true).contains("\"symmetric\":false"));
+    }
+
+    /**
+     * Encode and decode on the client
+     */
+    public void testDecode() {
+        assertMatrix(COVARIANCE, MatrixEncoding.decode(parse(MatrixEncoding.encode(COVARIANCE, true))));
+        assertMatrix(RECTANGULAR, MatrixEncoding.decode(parse(MatrixEncoding.encode(RECTANGULAR, false))));
+        assertMatrix(SYMMETRIC, MatrixEncoding.decode(parse(MatrixEncoding.encode(SYMMETRIC, false))));
+    }
+
+    /**
+     * Values which do not fill the declared dimensions are rejected
+     */
+    public void testDecodeLengthMismatch() {
+        String encoded = MatrixEncoding.encode(RECTANGULAR, false);
+        String resized = encoded.replaceFirst("\"rows\":" + RECTANGULAR.length, 
+                "\"rows\":" + (RECTANGULAR.length + 1));
+        try {
+            MatrixEncoding.decode(parse(resized));
+            fail("decoded values for the wrong dimensions");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The client side fallback produces plain arrays of rows
+     */
+    public void testExpand() {
+        assertExpanded(MatrixEncoding.expand(createEntity()));
+    }
+
+    public void testSupportedHeader() {
+        assertTrue(MatrixEncoding.isSupported(MatrixEncoding.BASE64_FLOAT64));
+        assertTrue(MatrixEncoding.isSupported("gzip, " + MatrixEncoding.BASE64_FLOAT64));
+        assertFalse(MatrixEncoding.isSupported(null));
+        assertFalse(MatrixEncoding.isSupported("base64"));
+    }
+
+    /**
+     * Send compact matrices to the stand-in service and check the
+     * values it decoded
+     */
+    public void testStubServerRoundTrip() throws RequestException {
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, 
+                GWT.getModuleBaseURL() + "matrixEcho");
+        builder.setHeader("Content-Type", "application/json");
+        builder.setHeader(MatrixEncoding.HEADER, MatrixEncoding.BASE64_FLOAT64);
+        delayTestFinish(TIMEOUT);
+        builder.sendRequest(createEntity(), new RequestCallback() {
+            @Override
+            public void onResponseReceived(Request request, Response response) {
+                assertEquals(Response.SC_OK, response.getStatusCode());
+                assertTrue(MatrixEncoding.isSupported(
+                        response.getHeader(MatrixEncoding.HEADER)));
+                assertExpanded(response.getText());
+                finishTest();
+            }
+
+            @Override
+            public void onError(Request request, Throwable exception) {
+                fail(exception.getMessage());
+            }
+        });
+    }
+
+    /**
+     * A service without support for the encoding rejects the request,
+     * and accepts the expanded entity
+     */
+    public void testStubServerFallback() throws RequestException {
+        final String url = GWT.getModuleBaseURL() + "matrixEcho?acceptCompact=false";
+        final String entity = createEntity();
+        RequestBuilder builder = new RequestBuilder(RequestBuilder.POST, url);
+        builder.setHeader("Content-Type", "application/json");
+        builder.setHeader(MatrixEncoding.HEADER, MatrixEncoding.BASE64_FLOAT64);
+        delayTestFinish(TIMEOUT);
+        builder.sendRequest(entity, new RequestCallback() {
+            @Override
+            public void onResponseReceived(Request request, Response response) {
+                assertEquals(415, response.getStatusCode());
+                assertFalse(MatrixEncoding.isSupported(
+                        response.getHeader(MatrixEncoding.HEADER)));
+                RequestBuilder retry = new RequestBuilder(RequestBuilder.POST, url);
+                retry.setHeader("Content-Type", "application/json");
+                try {
+                    retry.sendRequest(MatrixEncoding.expand(entity), new RequestCallback() {
+                        @Override
+                        public void onResponseReceived(Request request, Response response) {
+                            assertEquals(Response.SC_OK, response.getStatusCode());
+                            assertExpanded(response.getText());
+                            finishTest();
+                        }
+
+                        @Override
+                        public void onError(Request request, Throwable exception) {
+                            fail(exception.getMessage());
+                        }
+                    });
+                } catch (RequestException e) {
+                    fail(e.getMessage());
+                }
+            }
+
+            @Override
+            public void onError(Request request, Throwable exception) {
+                fail(exception.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.junit.client.GWTTestCase;
+
+import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
+
+/**
+ * Round trip test of MatrixSvcConnector.validateMatrices against a 
+ * stand-in validation endpoint (MatrixValidationStubServlet).
+ */
+public class MatrixValidationTest extends GWTTestCase {
+    // time allowed for a request to the stand-in service
+    private static final int TIMEOUT = 10000;
+
+    private static final DomainObjectSerializer serializer = 
+        DomainObjectSerializer.getInstance();
+
+    @Override
+    public String getModuleName() {
+        return "edu.ucdenver.bios.glimmpseweb.GlimmpseWebTest";
+    }
+
+    private MatrixSvcConnector createConnector(String path) {
+        return new MatrixSvcConnector(GWT.getModuleBaseURL() + path);
+    }
+
+    private NamedMatrix createMatrix(String name, double[][] data) {
+        NamedMatrix matrix = new NamedMatrix(name);
+        matrix.setRows(data.length);
+        matrix.setColumns(data[0].length);
+        matrix.setDataFromArray(data);
+        return matrix;
+    }
+
+    /**
+     * Send a positive definite covariance and a rank deficient
+     * rectangular matrix, and check the parsed properties
+     */
+    public void testValidateRoundTrip() {
+        List<NamedMatrix> matrices = new ArrayList<NamedMatrix>();
+        matrices.add(createMatrix("sigma", new double[][] {{2, 1}, {1, 2}}));
+        matrices.add(createMatrix("beta", new double[][] {{1, 2, 3}, {2, 4, 6}}));
+
+        delayTestFinish(TIMEOUT);
+        createConnector("matrix/validate").validateMatrices(matrices, 
+                EnumSet.allOf(MatrixProperty.class), 
+                new ServiceCallback<Map<String, MatrixValidationResult>>() {
+            @Override
+            public void onSuccess(Map<String, MatrixValidationResult> results) {
+                assertEquals(2, results.size());
+
+                MatrixValidationResult sigma = results.get("sigma");
+                assertEquals("sigma", sigma.getName());
+                assertEquals(Integer.valueOf(2), sigma.getRank());
+                assertEquals(Boolean.TRUE, sigma.getPositiveDefinite());
+                assertEquals(Boolean.TRUE, sigma.getSymmetric());
+                assertEquals(3.0, sigma.getConditionNumber(), 1E-10);
+
+                MatrixValidationResult beta = results.get("beta");
+                assertEquals(Integer.valueOf(1), beta.getRank());
+                assertEquals(Boolean.FALSE, beta.getPositiveDefinite());
+                assertEquals(Boolean.FALSE, beta.getSymmetric());
+                // singular, so the condition number is not sent
+                assertNull(beta.getConditionNumber());
+                finishTest();
+            }
+
+            @Override
+            public void onFailure(String message) {
+                fail(message);
+            }
+        });
+    }
+
+    /**
+     * Properties which were not requested are left null
+     */
+    public void testUnrequestedProperties() {
+        List<NamedMatrix> matrices = new ArrayList<NamedMatrix>();
+        matrices.add(createMatrix("sigma", new double[][] {{2, 1}, {1, 2}}));
+
+        delayTestFinish(TIMEOUT);
+        createConnector("matrix/validate").validateMatrices(matrices, 
+                EnumSet.of(MatrixProperty.RANK), 
+                new ServiceCallback<Map<String, MatrixValidationResult>>() {
+            @Override
+            public void onSuccess(Map<String, MatrixValidationResult> results) {
+                MatrixValidationResult sigma = results.get("sigma");
+                assertEquals(Integer.valueOf(2), sigma.getRank());
+                assertNull(sigma.getPositiveDefinite());
+                assertNull(sigma.getSymmetric());
+                assertNull(sigma.getConditionNumber());
+                finishTest();
+            }
+
+            @Override
+            public void onFailure(String message) {
+                fail(message);
+            }
+        });
+    }
+
+    /**
+     * Error statuses from the service are reported through onFailure
+     */
+    public void testServiceError() {
+        List<NamedMatrix> matrices = new ArrayList<NamedMatrix>();
+        matrices.add(createMatrix("sigma", new double[][] {{2, 1}, {1, 2}}));
+
+        delayTestFinish(TIMEOUT);
+        createConnector("matrix/missing").validateMatrices(matrices, 
+                EnumSet.of(MatrixProperty.RANK), 
+                new ServiceCallback<Map<String, MatrixValidationResult>>() {
+            @Override
+            public void onSuccess(Map<String, MatrixValidationResult> results) {
+                fail("unexpected results from a missing endpoint");
+            }
+
+            @Override
+            public void onFailure(String message) {
+                finishTest();
+            }
+        });
+    }
+
+    /**
+     * Malformed replies are reported as null
+     */
+    public void testInvalidResponse() {
+        assertNull(serializer.matrixValidationFromJSON("not json"));
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.connector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ucdenver.bios.webservice.common.domain.BetaScale;
+import edu.ucdenver.bios.webservice.common.domain.PowerCurveDataSeries;
+import edu.ucdenver.bios.webservice.common.domain.PowerMethod;
+import edu.ucdenver.bios.webservice.common.domain.PowerResult;
+import edu.ucdenver.bios.webservice.common.domain.Quantile;
+import edu.ucdenver.bios.webservice.common.domain.SigmaScale;
+import edu.ucdenver.bios.webservice.common.domain.StatisticalTest;
+import edu.ucdenver.bios.webservice.common.domain.TypeIError;
+import edu.ucdenver.bios.webservice.common.enums.HorizontalAxisLabelEnum;
+import edu.ucdenver.bios.webservice.common.enums.PowerMethodEnum;
+import edu.ucdenver.bios.webservice.common.enums.StatisticalTestTypeEnum;
+
+/**
+ * Checks that the power result index selects the same results as the
+ * per result isMatch() scan it replaced, and compares the speed of the
+ * two on 10,000 results.
+ */
+public class PowerResultIndexTest {
+    private static final int RESULT_COUNT = 10000;
+    private static final int[] SAMPLE_SIZES = {10, 20, 30, 40, 50, 60, 70, 80};
+    private static final double[] BETA_SCALES = {0.5, 1, 1.5, 2, 0};
+    private static final double[] SIGMA_SCALES = {0.5, 1, 2};
+    private static final double[] ALPHAS = {0.01, 0.05};
+    private static final double[] QUANTILES = {0.5, 0.75};
+    private static final StatisticalTestTypeEnum[] TESTS = {
+        StatisticalTestTypeEnum.HLT, StatisticalTestTypeEnum.WL, StatisticalTestTypeEnum.UNIREP
+    };
+    private static final PowerMethodEnum[] POWER_METHODS = PowerMethodEnum.values();
+    private static final HorizontalAxisLabelEnum[] AXIS_TYPES = HorizontalAxisLabelEnum.values();
+
+    /**
+     * Create random results, including conditional power, missing 
+     * quantiles, missing values, -0.0 and NaN
+     */
+    private static List<PowerResult> createResults(int count, long seed) {
+        Random random = new Random(seed);
+        ArrayList<PowerResult> resultList = new ArrayList<PowerResult>();
+        for(int i = 0; i < count; i++) {
+            PowerResult result = new PowerResult();
+            result.setTotalSampleSize(SAMPLE_SIZES[random.nextInt(SAMPLE_SIZES.length)]);
+            double betaScale = BETA_SCALES[random.nextInt(BETA_SCALES.length)];
+            if (betaScale == 0 && random.nextBoolean()) {
+                betaScale = -0.0;
+            }
+            if (random.nextInt(50) != 0) {
+                result.setBetaScale(new BetaScale(betaScale));
+            }
+            double sigmaScale = SIGMA_SCALES[random.nextInt(SIGMA_SCALES.length)];
+            if (random.nextInt(100) == 0) {
+                sigmaScale = Double.NaN;
+            }
+            if (random.nextInt(50) != 0) {
+                result.setSigmaScale(new SigmaScale(sigmaScale));
+            }
+            if (random.nextInt(50) != 0) {
+                result.setTest(new StatisticalTest(TESTS[random.nextInt(TESTS.length)]));
+            }
+            if (random.nextInt(50) != 0) {
+                result.setAlpha(new TypeIError(ALPHAS[random.nextInt(ALPHAS.length)]));
+            }
+            result.setPowerMethod(new PowerMethod(
+                    POWER_METHODS[random.nextInt(POWER_METHODS.length)]));
+            if (random.nextBoolean()) {
+                result.setQuantile(new Quantile(QUANTILES[random.nextInt(QUANTILES.length)]));
+            }
+            result.setActualPower(random.nextDouble());
+            resultList.add(result);
+        }
+        return resultList;
+    }
+
+    /**
+     * Create data series for every combination of values, with the
+     * horizontal axis variable left at its first value
+     */
+    private static List<PowerCurveDataSeries> createAllDataSeries() {
+        ArrayList<PowerCurveDataSeries> dataSeriesList = new ArrayList<PowerCurveDataSeries>();
+        for(int sampleSize: SAMPLE_SIZES) {
+            for(double betaScale: BETA_SCALES) {
+                for(double sigmaScale: SIGMA_SCALES) {
+                    for(StatisticalTestTypeEnum test: TESTS) {
+                        for(double alpha: ALPHAS) {
+                            for(PowerMethodEnum powerMethod: POWER_METHODS) {
+                                for(double quantile: QUANTILES) {
+                                    dataSeriesList.add(createDataSeries(sampleSize, 
+                                            betaScale, sigmaScale, test, alpha, 
+                                            powerMethod, quantile));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return dataSeriesList;
+    }
+
+    private static PowerCurveDataSeries createDataSeries(int sampleSize, double betaScale,
+            double sigmaScale, StatisticalTestTypeEnum test, double alpha,
+            PowerMethodEnum powerMethod, double quantile) {
+        PowerCurveDataSeries dataSeries = new PowerCurveDataSeries();
+        dataSeries.setSampleSize(sampleSize);
+        dataSeries.setBetaScale(betaScale);
+        dataSeries.setSigmaScale(sigmaScale);
+        dataSeries.setStatisticalTestTypeEnum(test);
+        dataSeries.setTypeIError(alpha);
+        dataSeries.setPowerMethod(powerMethod);
+        dataSeries.setQuantile(quantile);
+        return dataSeries;
+    }
+
+    /**
+     * The matching rule previously used by ChartSvcConnector, except
+     * for results without an axis value
+     */
+    private static boolean isMatch(PowerResult result, PowerCurveDataSeries dataSeries, 
+            HorizontalAxisLabelEnum axisType) {
+        boolean common = 
+            (result.getPowerMethod().getPowerMethodEnum() == PowerMethodEnum.CONDITIONAL || 
+                    (result.getPowerMethod() != null && 
+                            result.getPowerMethod().getPowerMethodEnum() == 
+                                dataSeries.getPowerMethod())) &&
+            (result.getQuantile() == null ||
+                    (result.getQuantile() != null && 
+                            result.getQuantile().getValue() == dataSeries.getQuantile())) &&
+            (result.getTest() != null &&
+                    result.getTest().getType() == dataSeries.getStatisticalTestTypeEnum()) &&   
+            (result.getAlpha() != null &&
+                    result.getAlpha().getAlphaValue() == dataSeries.getTypeIError());
+        boolean sampleSize = (result.getTotalSampleSize() == dataSeries.getSampleSize());
+        boolean betaScale = (result.getBetaScale() != null &&
+                result.getBetaScale().getValue() == dataSeries.getBetaScale());
+        boolean sigmaScale = (result.getSigmaScale() != null &&
+                result.getSigmaScale().getValue() == dataSeries.getSigmaScale());
+        // isMatch() accepted results without an axis value, which then 
+        // failed when plotted.  The index leaves them out.
+        boolean hasBetaScale = (result.getBetaScale() != null && 
+                !Double.isNaN(result.getBetaScale().getValue()));
+        boolean hasSigmaScale = (result.getSigmaScale() != null && 
+                !Double.isNaN(result.getSigmaScale().getValue()));
+        switch(axisType)
+        {
+        case TOTAL_SAMPLE_SIZE:
+            return betaScale && sigmaScale && common;
+        case REGRESSION_COEEFICIENT_SCALE_FACTOR:
+            return hasBetaScale && sampleSize && sigmaScale && common;
+        case VARIABILITY_SCALE_FACTOR:
+            return hasSigmaScale && sampleSize && betaScale && common;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Scan every result with isMatch(), then sort by the horizontal
+     * axis value, keeping the result list order for ties
+     */
+    private static List<PowerResult> scanResults(List<PowerResult> resultList,
+            PowerCurveDataSeries dataSeries, final HorizontalAxisLabelEnum axisType) {
+        ArrayList<PowerResult> matches = new ArrayList<PowerResult>();
+        for(PowerResult result: resultList) {
+            if (isMatch(result, dataSeries, axisType)) {
+                matches.add(result);
+            }
+        }
+        Collections.sort(matches, new Comparator<PowerResult>() {
+            @Override
+            public int compare(PowerResult result1, PowerResult result2) {
+                double x1 = PowerResultIndex.getXValue(result1, axisType);
+                double x2 = PowerResultIndex.getXValue(result2, axisType);
+                return (x1 < x2 ? -1 : (x1 > x2 ? 1 : 0));
+            }
+        });
+        return matches;
+    }
+
+    private static void assertSameResults(List<PowerResult> expected, List<PowerResult> actual) {
+        assertEquals(expected.size(), actual.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testMatchesScan() {
+        List<PowerResult> resultList = createResults(RESULT_COUNT, 19);
+        List<PowerCurveDataSeries> dataSeriesList = createAllDataSeries();
+        for(HorizontalAxisLabelEnum axisType: AXIS_TYPES) {
+            PowerResultIndex index = new PowerResultIndex(resultList, axisType);
+            int matchedSeries = 0;
+            for(PowerCurveDataSeries dataSeries: dataSeriesList) {
+                List<PowerResult> expected = scanResults(resultList, dataSeries, axisType);
+                assertSameResults(expected, index.getSeriesResults(dataSeries));
+                if (expected.size() > 0) {
+                    matchedSeries++;
+                }
+            }
+            // make sure the comparison is not trivially empty
+            assertTrue(matchedSeries > dataSeriesList.size() / 2);
+        }
+    }
+
+    @Test
+    public void testWildcards() {
+        ArrayList<PowerResult> resultList = new ArrayList<PowerResult>();
+        PowerResult conditional = new PowerResult();
+        conditional.setTotalSampleSize(10);
+        conditional.setBetaScale(new BetaScale(-0.0));
+        conditional.setSigmaScale(new SigmaScale(1));
+        conditional.setTest(new StatisticalTest(StatisticalTestTypeEnum.HLT));
+        conditional.setAlpha(new TypeIError(0.05));
+        conditional.setPowerMethod(new PowerMethod(PowerMethodEnum.CONDITIONAL));
+        resultList.add(conditional);
+        PowerResult quantile = new PowerResult();
+        quantile.setTotalSampleSize(20);
+        quantile.setBetaScale(new BetaScale(0));
+        quantile.setSigmaScale(new SigmaScale(1));
+        quantile.setTest(new StatisticalTest(StatisticalTestTypeEnum.HLT));
+        quantile.setAlpha(new TypeIError(0.05));
+        quantile.setPowerMethod(new PowerMethod(PowerMethodEnum.QUANTILE));
+        quantile.setQuantile(new Quantile(0.5));
+        resultList.add(quantile);
+
+        PowerResultIndex index = new PowerResultIndex(resultList, 
+                HorizontalAxisLabelEnum.TOTAL_SAMPLE_SIZE);
+        // conditional power with no quantile matches any method and quantile
+        List<PowerResult> matches = index.getSeriesResults(createDataSeries(0, 0, 1, 
+                StatisticalTestTypeEnum.HLT, 0.05, PowerMethodEnum.UNCONDITIONAL, 0.75));
+        assertEquals(1, matches.size());
+        assertSame(conditional, matches.get(0));
+        // both match, sorted by sample size
+        matches = index.getSeriesResults(createDataSeries(0, 0, 1, 
+                StatisticalTestTypeEnum.HLT, 0.05, PowerMethodEnum.QUANTILE, 0.5));
+        assertEquals(2, matches.size());
+        assertSame(conditional, matches.get(0));
+        assertSame(quantile, matches.get(1));
+        // NaN matches nothing
+        matches = index.getSeriesResults(createDataSeries(0, Double.NaN, 1, 
+                StatisticalTestTypeEnum.HLT, 0.05, PowerMethodEnum.QUANTILE, 0.5));
+        assertEquals(0, matches.size());
+    }
+
+    @Test
+    public void testBenchmark() {
+        List<PowerResult> resultList = createResults(RESULT_COUNT, 7);
+        // a typical curve description holds at most a few dozen series
+        List<PowerCurveDataSeries> allSeries = createAllDataSeries();
+        ArrayList<PowerCurveDataSeries> dataSeriesList = new ArrayList<PowerCurveDataSeries>();
+        for(int i = 0; i < allSeries.size(); i += allSeries.size() / 50) {
+            dataSeriesList.add(allSeries.get(i));
+        }
+        HorizontalAxisLabelEnum axisType = HorizontalAxisLabelEnum.TOTAL_SAMPLE_SIZE;
+        int repetitions = 20;
+        long scanCount = 0;
+        long indexCount = 0;
+        // warm up
+        for(int i = 0; i < 3; i++) {
+            for(PowerCurveDataSeries dataSeries: dataSeriesList) {
+                scanResults(resultList, dataSeries, axisType);
+            }
+            PowerResultIndex index = new PowerResultIndex(resultList, axisType);
+            for(PowerCurveDataSeries dataSeries: dataSeriesList) {
+                index.getSeriesResults(dataSeries);
+            }
+        }
+
+        long start = System.nanoTime();
+        for(int i = 0; i < repetitions; i++) {
+            for(PowerCurveDataSeries dataSeries: dataSeriesList) {
+                scanCount += scanResults(resultList, dataSeries, axisType).size();
+            }
+        }
+        long scanTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for(int i = 0; i < repetitions; i++) {
+            PowerResultIndex index = new PowerResultIndex(resultList, axisType);
+            for(PowerCurveDataSeries dataSeries: dataSeriesList) {
+                indexCount += index.getSeriesResults(dataSeries).size();
+            }
+        }
+        long indexTime = System.nanoTime() - start;
+
+        assertEquals(scanCount, indexCount);
+        System.out.println(dataSeriesList.size() + " series, " + RESULT_COUNT + " results: " +
+                "isMatch scan " + (scanTime / repetitions / 1000) + " us, " +
+                "index " + (indexTime / repetitions / 1000) + " us");
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.matrix;
+
+import com.google.gwt.junit.client.GWTTestCase;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.context.StudyDesignContext;
+import edu.ucdenver.bios.webservice.common.domain.NamedMatrix;
+
+/**
+ * Checks that the sigma error panel shows the values restored by
+ * undo and redo in the study design context.
+ */
+public class SigmaErrorMatrixPanelTest extends GWTTestCase {
+
+    @Override
+    public String getModuleName() {
+        return "edu.ucdenver.bios.glimmpseweb.GlimmpseWebTest";
+    }
+
+    /**
+     * Create a sigma error panel showing a 2x2 identity matrix, 
+     * then store an edit of the off-diagonal cells from the panel
+     */
+    private SigmaErrorMatrixPanel createEditedPanel(StudyDesignContext context) {
+        SigmaErrorMatrixPanel panel = new SigmaErrorMatrixPanel(context);
+        NamedMatrix identity = new NamedMatrix(GlimmpseConstants.MATRIX_SIGMA_ERROR);
+        identity.setRows(2);
+        identity.setColumns(2);
+        identity.setDataFromArray(new double[][] {{1,0},{0,1}});
+        context.setSigmaError(null, identity);
+        panel.onWizardContextLoad();
+
+        panel.sigmaError.setCellValue(0, 1, "0.5");
+        panel.sigmaError.setCellValue(1, 0, "0.5");
+        panel.onExit();
+        return panel;
+    }
+
+    /**
+     * Undo reverts the cells shown in the panel
+     */
+    public void testUndo() {
+        StudyDesignContext context = new StudyDesignContext();
+        SigmaErrorMatrixPanel panel = createEditedPanel(context);
+
+        assertTrue(context.undo());
+        assertEquals(0.0, panel.sigmaError.getCellValue(0, 1), 0);
+        assertEquals(0.0, panel.sigmaError.getCellValue(1, 0), 0);
+        assertEquals(1.0, panel.sigmaError.getCellValue(0, 0), 0);
+        assertFalse(panel.sigmaError.isModified());
+    }
+
+    /**
+     * Redo shows the edited cells again
+     */
+    public void testRedo() {
+        StudyDesignContext context = new StudyDesignContext();
+        SigmaErrorMatrixPanel panel = createEditedPanel(context);
+
+        assertTrue(context.undo());
+        assertTrue(context.redo());
+        assertEquals(0.5, panel.sigmaError.getCellValue(0, 1), 0);
+        assertEquals(0.5, panel.sigmaError.getCellValue(1, 0), 0);
+        assertFalse(panel.sigmaError.isModified());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.client.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import com.smartgwt.client.data.RecordList;
+import com.smartgwt.client.widgets.grid.ListGrid;
+import com.smartgwt.client.widgets.grid.ListGridRecord;
+
+import edu.ucdenver.bios.glimmpseweb.client.GlimmpseConstants;
+import edu.ucdenver.bios.glimmpseweb.context.StudyDesignContext;
+import edu.ucdenver.bios.webservice.common.domain.BetaScale;
+import edu.ucdenver.bios.webservice.common.domain.NominalPower;
+import edu.ucdenver.bios.webservice.common.domain.PowerMethod;
+import edu.ucdenver.bios.webservice.common.domain.PowerResult;
+import edu.ucdenver.bios.webservice.common.domain.Quantile;
+import edu.ucdenver.bios.webservice.common.domain.SigmaScale;
+import edu.ucdenver.bios.webservice.common.domain.StatisticalTest;
+import edu.ucdenver.bios.webservice.common.domain.TypeIError;
+import edu.ucdenver.bios.webservice.common.enums.PowerMethodEnum;
+import edu.ucdenver.bios.webservice.common.enums.StatisticalTestTypeEnum;
+
+/**
+ * Benchmark for loading 10,000 power results into the results grid
+ * in batches.  The records and the grid, including the power cell 
+ * formatter, are built by ResultsDisplayPanel.  Compares adding each
+ * record with ListGrid.addData against appending each batch to the
+ * grid's record list with ResultsDisplayPanel.appendRecords.
+ */
+public class ResultsGridBenchmarkTest extends GWTTestCase {
+    private static final int RESULT_COUNT = 10000;
+    private static final int BATCH_COUNT = 10;
+    private static final StatisticalTestTypeEnum[] TESTS = {
+        StatisticalTestTypeEnum.HLT, StatisticalTestTypeEnum.WL, StatisticalTestTypeEnum.UNIREP
+    };
+
+    @Override
+    public String getModuleName() {
+        return "edu.ucdenver.bios.glimmpseweb.GlimmpseWebTest";
+    }
+
+    /**
+     * Create power results split into batches, as they arrive from
+     * a batched power request
+     */
+    private List<List<PowerResult>> createBatches() {
+        ArrayList<List<PowerResult>> batches = new ArrayList<List<PowerResult>>();
+        int batchSize = RESULT_COUNT / BATCH_COUNT;
+        int index = 0;
+        for(int batch = 0; batch < BATCH_COUNT; batch++) {
+            ArrayList<PowerResult> results = new ArrayList<PowerResult>(batchSize);
+            for(int i = 0; i < batchSize; i++) {
+                PowerResult result = new PowerResult();
+                result.setActualPower((index % 1000) / 1000.0);
+                result.setTotalSampleSize(index);
+                result.setNominalPower(new NominalPower(0.9));
+                result.setAlpha(new TypeIError(0.05));
+                result.setTest(new StatisticalTest(TESTS[index % TESTS.length]));
+                result.setBetaScale(new BetaScale(1.0));
+                result.setSigmaScale(new SigmaScale(1.0));
+                result.setPowerMethod(new PowerMethod(PowerMethodEnum.QUANTILE));
+                result.setQuantile(new Quantile(0.5));
+                results.add(result);
+                index++;
+            }
+            batches.add(results);
+        }
+        return batches;
+    }
+
+    private ListGrid createGrid(ResultsDisplayPanel panel) {
+        ListGrid grid = panel.createResultsGrid();
+        grid.setHeight(400);
+        grid.draw();
+        return grid;
+    }
+
+    private void assertLoaded(ListGrid grid) {
+        ListGridRecord[] records = grid.getRecords();
+        assertEquals(RESULT_COUNT, records.length);
+        assertEquals(0, records[0].getAttributeAsInt(
+                GlimmpseConstants.COLUMN_NAME_SAMPLE_SIZE).intValue());
+        assertEquals(RESULT_COUNT - 1, records[RESULT_COUNT - 1].getAttributeAsInt(
+                GlimmpseConstants.COLUMN_NAME_SAMPLE_SIZE).intValue());
+    }
+
+    public void testBatchLoading() {
+        ResultsDisplayPanel panel = new ResultsDisplayPanel(new StudyDesignContext());
+        List<List<PowerResult>> batches = createBatches();
+
+        // add each record to the grid, one call per result
+        ListGrid grid = createGrid(panel);
+        long start = System.currentTimeMillis();
+        for(List<PowerResult> batch: batches) {
+            for(ListGridRecord record: panel.createRecords(batch)) {
+                grid.addData(record);
+            }
+        }
+        long addDataTime = System.currentTimeMillis() - start;
+        assertLoaded(grid);
+        grid.destroy();
+
+        // append each batch to the grid's record list
+        grid = createGrid(panel);
+        RecordList recordList = null;
+        start = System.currentTimeMillis();
+        for(List<PowerResult> batch: batches) {
+            recordList = ResultsDisplayPanel.appendRecords(grid, recordList, 
+                    panel.createRecords(batch));
+        }
+        long appendTime = System.currentTimeMillis() - start;
+        assertLoaded(grid);
+        grid.destroy();
+
+        System.out.println(RESULT_COUNT + " results in " + BATCH_COUNT + " batches: " +
+                "addData per record " + addDataTime + " ms, " +
+                "append per batch " + appendTime + " ms");
+    }
+}
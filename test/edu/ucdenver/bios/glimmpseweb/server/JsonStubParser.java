@@ -0,0 +1,198 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.server;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON parser for the stand-in services.  Objects are parsed
+ * into maps, arrays into lists, and numbers into doubles.
+ */
+class JsonStubParser {
+    private String text;
+    private int position = 0;
+
+    private JsonStubParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parse a JSON document
+     * @param text JSON text
+     * @return Map, List, Double, Boolean, String, or null
+     * @throws IllegalArgumentException if the text is not valid JSON
+     */
+    public static Object parse(String text) {
+        JsonStubParser parser = new JsonStubParser(text);
+        Object value = parser.parseValue();
+        parser.skipWhitespace();
+        if (parser.position != text.length()) {
+            throw parser.error("unexpected trailing characters");
+        }
+        return value;
+    }
+
+    private Object parseValue() {
+        skipWhitespace();
+        if (position >= text.length()) {
+            throw error("unexpected end of input");
+        }
+        char c = text.charAt(position);
+        switch (c) {
+        case '{':
+            return parseObject();
+        case '[':
+            return parseArray();
+        case '"':
+            return parseString();
+        case 't':
+            expect("true");
+            return Boolean.TRUE;
+        case 'f':
+            expect("false");
+            return Boolean.FALSE;
+        case 'n':
+            expect("null");
+            return null;
+        default:
+            return parseNumber();
+        }
+    }
+
+    private Map<String, Object> parseObject() {
+        LinkedHashMap<String, Object> object = new LinkedHashMap<String, Object>();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            String key = parseString();
+            skipWhitespace();
+            expect(":");
+            object.put(key, parseValue());
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                return object;
+            } else if (c != ',') {
+                throw error("expected , or }");
+            }
+        }
+    }
+
+    private List<Object> parseArray() {
+        ArrayList<Object> array = new ArrayList<Object>();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return array;
+        }
+        while (true) {
+            array.add(parseValue());
+            skipWhitespace();
+            char c = next();
+            if (c == ']') {
+                return array;
+            } else if (c != ',') {
+                throw error("expected , or ]");
+            }
+        }
+    }
+
+    private String parseString() {
+        if (next() != '"') {
+            throw error("expected string");
+        }
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return builder.toString();
+            } else if (c == '\\') {
+                char escaped = next();
+                switch (escaped) {
+                case 'b': builder.append('\b'); break;
+                case 'f': builder.append('\f'); break;
+                case 'n': builder.append('\n'); break;
+                case 'r': builder.append('\r'); break;
+                case 't': builder.append('\t'); break;
+                case 'u':
+                    builder.append((char) Integer.parseInt(
+                            text.substring(position, position + 4), 16));
+                    position += 4;
+                    break;
+                default: builder.append(escaped);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private Double parseNumber() {
+        int start = position;
+        while (position < text.length() && 
+                "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+            position++;
+        }
+        if (start == position) {
+            throw error("unexpected character");
+        }
+        return Double.valueOf(text.substring(start, position));
+    }
+
+    private void expect(String token) {
+        if (!text.startsWith(token, position)) {
+            throw error("expected " + token);
+        }
+        position += token.length();
+    }
+
+    private char peek() {
+        return (position < text.length() ? text.charAt(position) : 0);
+    }
+
+    private char next() {
+        if (position >= text.length()) {
+            throw error("unexpected end of input");
+        }
+        return text.charAt(position++);
+    }
+
+    private void skipWhitespace() {
+        while (position < text.length() && 
+                Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+}
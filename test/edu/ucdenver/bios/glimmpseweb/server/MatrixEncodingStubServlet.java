@@ -0,0 +1,145 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Stand-in for the power service used by the GWT tests of the compact
+ * matrix encoding.  The request entity is echoed back with every
+ * compact matrix expanded into a plain array of rows, so the test can
+ * compare the values the service would see with the original matrix.
+ * <p>
+ * If the query string is "acceptCompact=false", the servlet behaves
+ * like a power service without support for the encoding:
+ * requests which announce it are rejected with status 415 and the
+ * encoding is not advertised in the response.
+ */
+public class MatrixEncodingStubServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    // same values as the client side MatrixEncoding class
+    private static final String HEADER = "X-Matrix-Encoding";
+    private static final String BASE64_FLOAT64 = "base64-float64-le";
+    // compact matrix as written by the client
+    private static final Pattern ENCODED_MATRIX = Pattern.compile(
+            "\\{\"encoding\":\"" + BASE64_FLOAT64 + "\",\"rows\":(\\d+)," +
+            "\"columns\":(\\d+),\"symmetric\":(true|false)," +
+            "\"values\":\"([A-Za-z0-9+/=]*)\"\\}");
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+    throws ServletException, IOException {
+        boolean acceptCompact = !"acceptCompact=false".equals(request.getQueryString());
+        String encoding = request.getHeader(HEADER);
+        if (encoding != null && (!acceptCompact || !BASE64_FLOAT64.equals(encoding))) {
+            response.sendError(415, "Unsupported matrix encoding: " + encoding);
+            return;
+        }
+        StringBuilder entity = new StringBuilder();
+        BufferedReader reader = request.getReader();
+        char[] buffer = new char[4096];
+        int count;
+        while ((count = reader.read(buffer)) > 0) {
+            entity.append(buffer, 0, count);
+        }
+        if (acceptCompact) {
+            response.setHeader(HEADER, BASE64_FLOAT64);
+        }
+        response.setContentType("application/json");
+        response.getWriter().write(expand(entity.toString()));
+    }
+
+    /**
+     * Replace each compact matrix in the entity with a plain array of rows
+     * @param entity JSON entity
+     * @return JSON entity without compact matrices
+     */
+    static String expand(String entity) {
+        Matcher matcher = ENCODED_MATRIX.matcher(entity);
+        StringBuffer expanded = new StringBuffer();
+        while (matcher.find()) {
+            double[][] data = decode(Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)),
+                    Boolean.parseBoolean(matcher.group(3)), matcher.group(4));
+            matcher.appendReplacement(expanded, 
+                    Matcher.quoteReplacement(toJson(data)));
+        }
+        matcher.appendTail(expanded);
+        return expanded.toString();
+    }
+
+    /**
+     * Decode base64 little endian float64 values, expanding a packed
+     * lower triangle into the full symmetric matrix
+     */
+    static double[][] decode(int rows, int columns, boolean symmetric, String values) {
+        ByteBuffer bytes = ByteBuffer.wrap(
+                Base64.getDecoder().decode(values)).order(ByteOrder.LITTLE_ENDIAN);
+        double[][] data = new double[rows][columns];
+        for(int r = 0; r < rows; r++) {
+            if (symmetric) {
+                for(int c = 0; c <= r; c++) {
+                    data[r][c] = bytes.getDouble();
+                    data[c][r] = data[r][c];
+                }
+            } else {
+                for(int c = 0; c < columns; c++) {
+                    data[r][c] = bytes.getDouble();
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Write the matrix as a JSON array of rows
+     */
+    static String toJson(double[][] data) {
+        StringBuilder builder = new StringBuilder("[");
+        for(int r = 0; r < data.length; r++) {
+            if (r > 0) {
+                builder.append(",");
+            }
+            builder.append("[");
+            for(int c = 0; c < data[r].length; c++) {
+                if (c > 0) {
+                    builder.append(",");
+                }
+                builder.append(data[r][c]);
+            }
+            builder.append("]");
+        }
+        builder.append("]");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * User Interface for the GLIMMPSE Software System.  Allows
+ * users to perform power, sample size, and detectable difference
+ * calculations.
+ *
+ * Copyright (C) 2010 Regents of the University of Colorado.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU General Public License
+ * as published by the Free Software Foundation; either version 2
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package edu.ucdenver.bios.glimmpseweb.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import edu.ucdenver.bios.glimmpseweb.client.algebra.MatrixValidator;
+
+/**
+ * Stand-in for the /matrix/validate endpoint of the matrix service,
+ * used by the GWT tests of MatrixSvcConnector.validateMatrices.  
+ * Accepts {"properties":[...],"matrices":[...]} and returns an object
+ * keyed by matrix name with the requested properties, calculated with
+ * the client side MatrixValidator.
+ */
+public class MatrixValidationStubServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    private MatrixValidator validator = new MatrixValidator();
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+    throws ServletException, IOException {
+        StringBuilder entity = new StringBuilder();
+        BufferedReader reader = request.getReader();
+        char[] buffer = new char[4096];
+        int count;
+        while ((count = reader.read(buffer)) > 0) {
+            entity.append(buffer, 0, count);
+        }
+        String result;
+        try {
+            result = validate(entity.toString());
+        } catch (RuntimeException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        response.setContentType("application/json");
+        response.getWriter().write(result);
+    }
+
+    /**
+     * Calculate the requested properties for each matrix in the request
+     * @param entity JSON request
+     * @return JSON response
+     */
+    @SuppressWarnings("unchecked")
+    synchronized String validate(String entity) {
+        Map<String, Object> request = (Map<String, Object>) JsonStubParser.parse(entity);
+        List<Object> properties = (List<Object>) request.get("properties");
+        List<Object> matrices = (List<Object>) request.get("matrices");
+        StringBuilder builder = new StringBuilder("{");
+        boolean firstMatrix = true;
+        for(Object item: matrices) {
+            Map<String, Object> matrix = (Map<String, Object>) item;
+            String name = (String) matrix.get("name");
+            double[][] data = toArray(matrix.get("data"));
+            if (!firstMatrix) {
+                builder.append(",");
+            }
+            firstMatrix = false;
+            builder.append("\"").append(name).append("\":{");
+            boolean firstProperty = true;
+            for(Object property: properties) {
+                String value = calculate((String) property, data);
+                if (value == null) {
+                    continue;
+                }
+                if (!firstProperty) {
+                    builder.append(",");
+                }
+                firstProperty = false;
+                builder.append("\"").append(property).append("\":").append(value);
+            }
+            builder.append("}");
+        }
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /**
+     * Calculate a single property
+     * @param property JSON name of the property
+     * @param data matrix data
+     * @return JSON value, or null if the property is unknown
+     */
+    private String calculate(String property, double[][] data) {
+        if ("rank".equals(property)) {
+            return Integer.toString(validator.getRank(data));
+        } else if ("positiveDefinite".equals(property)) {
+            return Boolean.toString(validator.isPositiveDefinite(data));
+        } else if ("symmetric".equals(property)) {
+            return Boolean.toString(validator.isSymmetric(data));
+        } else if ("conditionNumber".equals(property)) {
+            double conditionNumber = validator.getConditionNumber(data);
+            return (Double.isInfinite(conditionNumber) || Double.isNaN(conditionNumber) ?
+                    "null" : Double.toString(conditionNumber));
+        }
+        return null;
+    }
+
+    /**
+     * Convert the parsed Blob2DArray, i.e. {"data":[[...],...]}, 
+     * into a matrix
+     */
+    @SuppressWarnings("unchecked")
+    private double[][] toArray(Object blob) {
+        List<Object> rows = (List<Object>) ((Map<String, Object>) blob).get("data");
+        double[][] data = new double[rows.size()][];
+        for(int r = 0; r < data.length; r++) {
+            List<Object> row = (List<Object>) rows.get(r);
+            data[r] = new double[row.size()];
+            for(int c = 0; c < data[r].length; c++) {
+                data[r][c] = ((Double) row.get(c)).doubleValue();
+            }
+        }
+        return data;
+    }
+}